@@ -0,0 +1,151 @@
+package seedu.job;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.Config;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.util.ConfigUtil;
+import seedu.job.commons.util.StringUtil;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.ReadOnlyJobBook;
+import seedu.job.model.jobapplication.ReadOnlyUserPrefs;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.storage.DataStorage;
+import seedu.job.storage.JobApplicationStorageFactory;
+import seedu.job.storage.JournaledJobApplicationStorage;
+import seedu.job.storage.UserPrefsStorage;
+import seedu.job.storage.WriteBehindJobApplicationStorage;
+
+/**
+ * Sets up the config, preferences, storage and model shared by the GUI and the headless entry points.
+ * Nothing here depends on the JavaFX toolkit, so the headless entry point can start without it.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage prefStorage) {
+        Path prefsFilePath = prefStorage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = prefStorage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            prefStorage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage for the job applications at the file path and in the format of {@code userPrefs}, or in the
+     * format the file is already in if that differs, saving in the background as often as {@code config} allows.
+     */
+    static WriteBehindJobApplicationStorage initJobApplicationStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        return new WriteBehindJobApplicationStorage(new JournaledJobApplicationStorage(
+                JobApplicationStorageFactory.createForDataFile(userPrefs.getJobBookStorageFormat(),
+                        userPrefs.getJobBookFilePath(), config.getDurabilityPolicy()),
+                JournaledJobApplicationStorage.DEFAULT_COMPACTION_THRESHOLD, config.getDurabilityPolicy()),
+                config.getSaveDelayMillis());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s job book and {@code userPrefs}. <br>
+     * An empty job book will be used instead if {@code storage}'s job book is not found,
+     * or if errors occur when reading {@code storage}'s job book.
+     */
+    static Model initModelManager(DataStorage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getDataFilePath());
+
+        ReadOnlyJobBook initialData;
+        JobBook book = new JobBook();
+
+        try {
+
+            UniqueJobApplications applicationList = storage.readDataFile();
+            book.setUniqueApplications(applicationList);
+
+            logger.info("Successfully loaded " + applicationList.size() + " entries");
+
+            initialData = book;
+
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getDataFilePath() + " could not be loaded."
+                    + " Will be starting with an empty JobBook.");
+            initialData = book;
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+}
@@ -31,8 +31,14 @@ public class AppParameters {
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as {@code --name=value}, without the leading dashes.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -0,0 +1,189 @@
+package seedu.job;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.Config;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.util.StringUtil;
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.Logic;
+import seedu.job.logic.LogicManager;
+import seedu.job.logic.jobcommands.CommandResult;
+import seedu.job.logic.jobcommands.FilterCommand;
+import seedu.job.logic.jobcommands.FindCommand;
+import seedu.job.logic.jobcommands.ListCommand;
+import seedu.job.logic.jobcommands.SortCommand;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.storage.DataStorage;
+import seedu.job.storage.DataStorageManager;
+import seedu.job.storage.JsonUserPrefsStorage;
+import seedu.job.storage.UserPrefsStorage;
+import seedu.job.storage.WriteBehindJobApplicationStorage;
+import seedu.job.ui.HelpWindow;
+
+/**
+ * Runs commands without the GUI, for use from scripts and the terminal. The JavaFX toolkit is never started.
+ * The command given as arguments is run, or, if there is none, each line read from standard input is run until
+ * it ends or {@code exit} is read. The result of each command is written to standard output and each error to
+ * standard error. The script of {@code run -} is read from the lines left in standard input, so that they are run
+ * as one script and saved once.
+ */
+public class HeadlessApp {
+
+    public static final String OPTION_HEADLESS = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_READ_FAILED = "Could not read commands: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private static final String NAMED_PARAMETER_START = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final String COMMENT_START = "#";
+    /** Commands changing which applications are displayed, or their order, after which the list is printed. */
+    private static final Set<String> LISTING_COMMAND_WORDS = Set.of(ListCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD, SortCommand.COMMAND_WORD);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} running commands with {@code logic}, writing results to {@code out} and
+     * errors to {@code err}.
+     */
+    HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Sets up the app from {@code args}, which are the parameters following {@link #OPTION_HEADLESS}, runs the
+     * commands and saves any changes before returning.
+     * Leading parameters of the form {@code --name=value} are the same named parameters the GUI takes, such as
+     * {@code --config=FILE}. The remaining parameters, if any, are joined into the one command to run.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded and the changes were saved, or
+     *     {@link #EXIT_FAILURE} otherwise.
+     */
+    public static int run(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        int commandStart = 0;
+        while (commandStart < args.length && args[commandStart].startsWith(NAMED_PARAMETER_START)
+                && args[commandStart].contains(NAMED_PARAMETER_SEPARATOR)) {
+            String[] parameter = args[commandStart].substring(NAMED_PARAMETER_START.length())
+                    .split(NAMED_PARAMETER_SEPARATOR, 2);
+            namedParameters.put(parameter[0], parameter[1]);
+            commandStart++;
+        }
+        List<String> commandWords = Arrays.asList(args).subList(commandStart, args.length);
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        AppInitializer.initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        WriteBehindJobApplicationStorage writeBehindStorage =
+                AppInitializer.initJobApplicationStorage(userPrefs, config);
+        DataStorage dataStorage = new DataStorageManager(writeBehindStorage, userPrefsStorage);
+        Model model = AppInitializer.initModelManager(dataStorage, userPrefs);
+
+        BufferedReader standardInput = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, dataStorage, standardInput),
+                System.out, System.err);
+        writeBehindStorage.setFailureHandler(e -> app.err.println(LogicManager.getSaveErrorMessage(e)));
+
+        int status;
+        if (commandWords.isEmpty()) {
+            status = app.executeAll(standardInput);
+        } else {
+            status = app.execute(String.join(" ", commandWords)) != null ? EXIT_SUCCESS : EXIT_FAILURE;
+        }
+
+        try {
+            writeBehindStorage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save job applications " + StringUtil.getDetails(e));
+            app.err.println(LogicManager.getSaveErrorMessage(e));
+            status = EXIT_FAILURE;
+        }
+        return status;
+    }
+
+    /**
+     * Runs each line read from {@code in} as a command, skipping blank lines and lines starting with {@code #},
+     * until {@code in} ends or a command asks to exit. A failed command does not stop the later ones.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    int executeAll(BufferedReader in) {
+        int status = EXIT_SUCCESS;
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                    continue;
+                }
+
+                CommandResult result = execute(commandText);
+                if (result == null) {
+                    status = EXIT_FAILURE;
+                } else if (result.isExit()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_READ_FAILED, e.getMessage()));
+            status = EXIT_FAILURE;
+        }
+        return status;
+    }
+
+    /**
+     * Runs {@code commandText} and writes its result to the output, followed by the displayed applications if the
+     * command changed which of them are displayed, or writes its error to the error output.
+     *
+     * @return the result of the command, or null if it failed.
+     */
+    CommandResult execute(String commandText) {
+        CommandResult result;
+        try {
+            result = logic.execute(commandText);
+        } catch (JobCommandException | ParseException e) {
+            err.println(e.getMessage());
+            return null;
+        }
+
+        out.println(result.isShowHelp() ? HelpWindow.HELP_MESSAGE : result.getFeedbackToUser());
+        if (LISTING_COMMAND_WORDS.contains(commandText.split("\\s", 2)[0])) {
+            printDisplayedApplications();
+        }
+        return result;
+    }
+
+    private void printDisplayedApplications() {
+        List<JobApplication> applications = logic.getFilteredApplicationList();
+        for (int i = 0; i < applications.size(); i++) {
+            out.println((i + 1) + ". " + JobMessages.format(applications.get(i)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.job;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,17 @@ import seedu.job.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless} as its first argument, it runs {@link HeadlessApp} instead, without the GUI.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(HeadlessApp.OPTION_HEADLESS)) {
+            // Runs without the GUI, so JavaFX is never launched and its warning below does not apply
+            System.exit(HeadlessApp.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayMillis = 500;
+    private DurabilityPolicy durabilityPolicy = DurabilityPolicy.ON_SAVE;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long, in milliseconds, changes are collected in the background before being written to disk.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns how strongly saved job applications are forced to the storage device.
+     */
+    public DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +71,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveDelayMillis == otherConfig.saveDelayMillis
+                && durabilityPolicy == otherConfig.durabilityPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDelayMillis, durabilityPolicy);
     }
 
     @Override
@@ -60,6 +86,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveDelayMillis", saveDelayMillis)
+                .add("durabilityPolicy", durabilityPolicy)
                 .toString();
     }
 
@@ -0,0 +1,21 @@
+package seedu.job.commons.core;
+
+/**
+ * How strongly saved data is forced to the storage device before a save is reported as complete.
+ * Saves are written atomically regardless of the policy, so a crash never leaves a partially written data file;
+ * the policy only decides how much recently saved data may be lost if the machine itself loses power.
+ */
+public enum DurabilityPolicy {
+    /** Never forces data to the device, leaving it to the operating system. Fastest, least durable. */
+    NONE,
+    /**
+     * Forces data to the device on every save, including each journal append, along with the directory entry of a
+     * replaced data file. Slowest, most durable.
+     */
+    ON_SAVE,
+    /**
+     * Forces data to the device at most once per batching interval. Data saved in between is forced by a timer at the
+     * end of the interval, so only the data saved within about the last interval is at risk.
+     */
+    BATCHED
+}
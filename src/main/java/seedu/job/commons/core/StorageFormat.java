@@ -0,0 +1,45 @@
+package seedu.job.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * File formats that job applications can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON. */
+    JSON(".json"),
+    /** Compact binary format, which is faster to load and save. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} ends with, ignoring case,
+     * or {@code Optional.empty()} if there is none.
+     */
+    public static Optional<StorageFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase();
+        for (StorageFormat format : values()) {
+            if (name.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.job.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +87,115 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given bytes to a file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param isForced whether the file is forced to the storage device before returning.
+     */
+    public static void appendToFile(Path file, byte[] content, boolean isForced) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Forces the content of a file written earlier to the storage device, along with the directory entry naming it.
+     * Does nothing if the file no longer exists, as there is then nothing left to force.
+     */
+    public static void forceToDevice(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            // deleted or replaced since it was written, e.g. a journal that has been compacted
+            return;
+        }
+        forceParentDirToDevice(file);
+    }
+
+    /**
+     * Forces the directory containing {@code file} to the storage device, so that a file created or moved into it
+     * keeps its name after a power loss.
+     * Does nothing on platforms where a directory cannot be opened, such as Windows, which keep the entry themselves.
+     */
+    private static void forceParentDirToDevice(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(parentDir, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes given string to a file, replacing its previous content in a single step.
+     * The content is first written to a temporary file next to {@code file}, which is then moved over {@code file},
+     * so that a crash during the write leaves either the old or the new content, never a mix of both.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * If the write or the move fails, the temporary file is deleted and {@code file} is left as it was.
+     *
+     * @param isForced whether the content is forced to the storage device before the file is replaced, and the
+     *     replacement itself after.
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isForced) throws IOException {
+        writeToFileAtomically(file, content.getBytes(CHARSET), isForced);
+    }
+
+    /**
+     * Writes given bytes to a file, replacing its previous content in a single step.
+     *
+     * @see #writeToFileAtomically(Path, String, boolean)
+     */
+    public static void writeToFileAtomically(Path file, byte[] content, boolean isForced) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+
+        if (isForced) {
+            forceParentDirToDevice(file);
+        }
+    }
+
 }
@@ -91,6 +91,21 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, replacing any existing file in a single step.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param isForced whether the file is forced to the storage device before it replaces the existing file
+     * @throws IOException if there was an error during writing to the file
+     * @see FileUtil#writeToFileAtomically(Path, String, boolean)
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, boolean isForced) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath, toJsonString(jsonFile), isForced);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +126,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,119 @@
+package seedu.job.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of strings that finds the strings starting with a prefix, ignoring case.
+ * Finding the start of the completions takes one step per character of the prefix, however many strings the trie
+ * holds. Each string is counted, so a string added several times stays in the trie until it is removed as often.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * A node reached by the characters on the path to it from the root.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        /** Number of times the string ending at this node was added, less the times it was removed. */
+        private int count;
+        /** The string ending at this node, as first added. */
+        private String value;
+    }
+
+    /**
+     * Adds an occurrence of {@code value}.
+     * Strings differing only in case are the same string, which keeps the case it was first added with.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        Node node = root;
+        for (char c : toKey(value).toCharArray()) {
+            node = node.children.computeIfAbsent(c, unused -> new Node());
+        }
+        if (node.count == 0) {
+            node.value = value;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes an occurrence of {@code value}, ignoring case, and drops the nodes no longer leading to any string.
+     * Does nothing if {@code value} is not in the trie.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (char c : key.toCharArray()) {
+            path.push(node);
+            node = node.children.get(c);
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.count == 0) {
+            return;
+        }
+
+        node.count--;
+        for (int i = key.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            node = path.pop();
+            node.children.remove(key.charAt(i));
+        }
+    }
+
+    /**
+     * Removes every string.
+     */
+    public void clear() {
+        root.children.clear();
+        root.count = 0;
+    }
+
+    /**
+     * Returns up to {@code limit} of the strings starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        for (char c : toKey(prefix).toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return completions;
+            }
+        }
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    /**
+     * Adds the strings ending at {@code node} or below it to {@code completions}, until it holds {@code limit}.
+     */
+    private static void collect(Node node, int limit, List<String> completions) {
+        if (completions.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            completions.add(node.value);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, limit, completions);
+        }
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase();
+    }
+
+}
@@ -38,6 +38,29 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code text} contains the {@code keyword} anywhere in it.
+     *   Ignores case, and does not create a lower-cased copy of either string.
+     *   <br>examples:<pre>
+     *       containsIgnoreCase("Remote", "MOT") == true
+     *       containsIgnoreCase("Remote", "") == true
+     *       containsIgnoreCase("Remote", "remotely") == false
+     *       </pre>
+     * @param text cannot be null
+     * @param keyword cannot be null
+     */
+    public static boolean containsIgnoreCase(String text, String keyword) {
+        requireNonNull(text);
+        requireNonNull(keyword);
+
+        for (int start = 0; start + keyword.length() <= text.length(); start++) {
+            if (text.regionMatches(true, start, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -65,4 +88,37 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("bytdance", "bytedance") == 1
+     *       editDistance("kitten", "sitting") == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
 }
@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 
 import seedu.job.logic.parser.Prefix;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.Page;
 
 
 /**
@@ -18,6 +19,8 @@ public class JobMessages {
     public static final String MESSAGE_INVALID_APPLICATION_DISPLAYED_INDEX =
         "The application index provided is invalid";
     public static final String MESSAGE_APPLICATIONS_LISTED_OVERVIEW = "%1$d applications listed!";
+    public static final String MESSAGE_PAGE_SHOWN = "Showing page %1$d of %2$d: applications %3$d to %4$d.";
+    public static final String MESSAGE_PAGE_EMPTY = "Page %1$d is empty, as there are only %2$d page(s).";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -33,6 +36,25 @@ public class JobMessages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns the message listing {@code total} applications, followed by which of them are shown if only
+     * {@code page} of them is shown.
+     */
+    public static String formatListedOverview(int total, Page page) {
+        String overview = String.format(MESSAGE_APPLICATIONS_LISTED_OVERVIEW, total);
+        if (page.equals(Page.ALL)) {
+            return overview;
+        }
+
+        int pageCount = page.countPages(total);
+        if (page.getOffset() >= total) {
+            return overview + "\n" + String.format(MESSAGE_PAGE_EMPTY, page.getNumber(), pageCount);
+        }
+        int last = (int) Math.min((long) page.getOffset() + page.getSize(), total);
+        return overview + "\n" + String.format(MESSAGE_PAGE_SHOWN, page.getNumber(), pageCount,
+                page.getOffset() + 1, last);
+    }
+
     /**
      * Formats the {@code Application} for display to the user.
      */
@@ -1,6 +1,7 @@
 package seedu.job.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.job.commons.core.GuiSettings;
@@ -23,6 +24,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws JobCommandException, ParseException;
 
+    /**
+     * Returns the possible completions of the value being typed after the last prefix of {@code commandText}.
+     * @param commandText The command as typed so far by the user.
+     * @return {@code commandText} with that value completed, once per completion.
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
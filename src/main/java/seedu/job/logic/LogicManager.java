@@ -1,8 +1,10 @@
 package seedu.job.logic;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,6 +13,7 @@ import seedu.job.commons.core.LogsCenter;
 import seedu.job.logic.jobcommands.Command;
 import seedu.job.logic.jobcommands.CommandResult;
 import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.logic.parser.CompletionParser;
 import seedu.job.logic.parser.JobBookCommandParser;
 import seedu.job.logic.parser.exceptions.ParseException;
 import seedu.job.model.jobapplication.JobApplication;
@@ -36,13 +39,29 @@ public class LogicManager implements Logic {
 
     private final JobBookCommandParser jobBookCommandParser;
 
+    private final CompletionParser completionParser;
+
+    /** Modification count of the job book when it was last saved, used to skip saving unchanged data. */
+    private long savedModificationCount;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which cannot run a script
+     * read from standard input.
      */
     public LogicManager(Model model, DataStorage dataStorage) {
+        this(model, dataStorage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which runs the lines left in
+     * {@code standardInput} as the script of {@code run -}, unless {@code standardInput} is null.
+     */
+    public LogicManager(Model model, DataStorage dataStorage, BufferedReader standardInput) {
         this.model = model;
         this.dataStorage = dataStorage;
-        jobBookCommandParser = new JobBookCommandParser();
+        jobBookCommandParser = new JobBookCommandParser(standardInput);
+        completionParser = new CompletionParser();
+        savedModificationCount = model.getJobBookModificationCount();
     }
 
     @Override
@@ -51,17 +70,57 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = jobBookCommandParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (JobCommandException e) {
+            // A command that failed part way, such as a script stopped at a failing line, may have made changes
+            try {
+                saveIfModified();
+            } catch (JobCommandException saveFailure) {
+                // The failure of the command comes first, as it is what the user needs to fix
+                JobCommandException failure = new JobCommandException(
+                        e.getMessage() + "\n" + saveFailure.getMessage(), e);
+                failure.addSuppressed(saveFailure);
+                throw failure;
+            }
+            throw e;
+        }
+
+        saveIfModified();
+        return commandResult;
+    }
+
+    /**
+     * Saves the job book if it has changed since it was last saved.
+     */
+    private void saveIfModified() throws JobCommandException {
+        long modificationCount = model.getJobBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
 
         try {
-            dataStorage.saveJobApplicationData(model.getJobBook().getApplicationList());
-        } catch (AccessDeniedException e) {
-            throw new JobCommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            dataStorage.saveJobApplicationChanges(model.takeJobBookChanges(),
+                    model.getJobBook().getApplicationList());
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new JobCommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new JobCommandException(getSaveErrorMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return completionParser.complete(commandText, model);
+    }
+
+    /**
+     * Returns the message shown to the user when saving data fails with {@code e}.
+     */
+    public static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -42,7 +42,7 @@ public class DeleteJobCommand extends Command {
         }
 
         JobApplication jobToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteJobApplication(jobToDelete);
+        model.deleteFilteredJobApplication(targetIndex);
         model.setRecentlyModifiedApplication(null);
         return new CommandResult(String.format(MESSAGE_DELETE_APPLICATION_SUCCESS, JobMessages.format(jobToDelete)));
     }
@@ -0,0 +1,79 @@
+package seedu.job.logic.jobcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.StorageFormat;
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.storage.JobApplicationStorageFactory;
+
+/**
+ * Writes every job application to a file, in the format given by the file's extension.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes all applications to a file. Files ending in .json are written as JSON, "
+            + "files ending in .bin in the compact binary format.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d applications to %2$s";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write all job applications to {@code filePath}, which must end with the extension
+     * of a {@link StorageFormat}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        assert StorageFormat.fromFilePath(filePath).isPresent();
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws JobCommandException {
+        requireNonNull(model);
+        StorageFormat format = StorageFormat.fromFilePath(filePath).orElseThrow();
+        int count = model.getJobBook().getApplicationList().size();
+        try {
+            JobApplicationStorageFactory.create(format, filePath, DurabilityPolicy.ON_SAVE)
+                    .saveJobApplicationData(new ArrayList<>(model.getJobBook().getApplicationList()));
+        } catch (IOException e) {
+            throw new JobCommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -10,10 +10,11 @@ import seedu.job.commons.util.ToStringBuilder;
 import seedu.job.logic.JobMessages;
 import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.Page;
 
 /**
  * Represents a command that filters and lists all job applications
- * whose status, deadline or tags matches the keyword.
+ * whose status, deadline or tags matches the keyword, or a combination of such filters.
  * Keyword matching is case-insensitive.
  */
 public class FilterCommand extends Command {
@@ -25,14 +26,20 @@ public class FilterCommand extends Command {
             + "that is input as keyword with the appropriate t/, s/ or d/ flag respectively (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
             + "Tag filters match if the keyword is contained in the field.\n"
-            + "Deadline filter matches by date only (format: yyyy-MM-dd), ignoring time.\n"
+            + "Deadline filter matches by date only (format: yyyy-MM-dd), ignoring time. "
+            + "Use d/<DATE or d/>DATE for deadlines before or after the date, d/DATE..DATE for deadlines "
+            + "between two dates, or d/+DAYS for deadlines in the next DAYS days.\n"
+            + "Flags can be combined with & (and), | (or), ! (not) and parentheses.\n"
             + "To remove filters and show all job applications, use: " + COMMAND_WORD + " none\n"
-            + "Parameters: FLAG [KEYWORD]... OR none\n"
-            + "Example: " + COMMAND_WORD + " t/engineer, " + COMMAND_WORD + " d/2025-12-31";
+            + "Add --limit COUNT and --page PAGE to show one page of the results.\n"
+            + "Parameters: FLAG/KEYWORD [& | FLAG/KEYWORD]... OR none [--limit COUNT] [--page PAGE]\n"
+            + "Example: " + COMMAND_WORD + " t/engineer, " + COMMAND_WORD + " d/2025-12-31, "
+            + COMMAND_WORD + " s/applied & (t/remote | t/hybrid) & !d/<2025-11-01";
 
     private static Logger logger = Logger.getLogger("Filter");
 
     private final Predicate<JobApplication> predicate;
+    private final Page page;
 
     /**
      * Creates a FilterCommand to filter job applications based on the given predicate.
@@ -40,19 +47,29 @@ public class FilterCommand extends Command {
      * @param predicate The predicate to filter job applications
      */
     public FilterCommand(Predicate<JobApplication> predicate) {
+        this(predicate, Page.ALL);
+    }
+
+    /**
+     * Creates a FilterCommand to filter job applications based on the given predicate, and show only one page of them.
+     *
+     * @param predicate The predicate to filter job applications
+     * @param page The page of the filtered job applications to show
+     */
+    public FilterCommand(Predicate<JobApplication> predicate, Page page) {
+        requireNonNull(page);
         this.predicate = predicate;
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         logger.log(Level.INFO, "using predicate to filter from saved job applications");
-        model.updateFilteredJobApplicationList(predicate);
+        model.updateFilteredJobApplicationList(predicate, page);
         model.setRecentlyModifiedApplication(null);
         logger.log(Level.INFO, "end of filtering, return command result");
-        return new CommandResult(
-                String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW,
-                        model.getFilteredApplicationList().size()));
+        return new CommandResult(JobMessages.formatListedOverview(model.getFilteredJobApplicationCount(), page));
     }
 
     @Override
@@ -67,13 +84,15 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return predicate.equals(otherFilterCommand.predicate);
+        return predicate.equals(otherFilterCommand.predicate)
+                && page.equals(otherFilterCommand.page);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("page", page)
                 .toString();
     }
 }
@@ -2,14 +2,21 @@ package seedu.job.logic.jobcommands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Objects;
+
 import seedu.job.commons.util.ToStringBuilder;
 import seedu.job.logic.JobMessages;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
+import seedu.job.model.jobapplication.IndexedPredicate;
+import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.Model;
-import seedu.job.model.jobapplication.NameContainsKeywordsPredicate;
+import seedu.job.model.jobapplication.Page;
 
 /**
- * Finds and lists all job applications in book whose company name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all job applications in book whose company name or role contains any of the argument keywords.
+ * Keyword matching is case insensitive. Keywords prefixed with {@code ~} also match words with a few typing mistakes,
+ * and the closest of those matches in the whole job book are listed in the result.
  */
 public class FindCommand extends Command {
 
@@ -17,23 +24,67 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all job applications whose company names contain"
             + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " TikTok Jane Street HRT";
+            + "Prefix a keyword with ~ to also match words with typing mistakes in it.\n"
+            + "Add --limit COUNT and --page PAGE to show one page of the results.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [--limit COUNT] [--page PAGE]\n"
+            + "Example: " + COMMAND_WORD + " TikTok Jane Street HRT\n"
+            + "Example: " + COMMAND_WORD + " ~Bytdance";
+
+    public static final String MESSAGE_CLOSEST_MATCHES = "Closest matches:";
+    public static final int MAX_CLOSEST_MATCHES = 10;
+
+    private final IndexedPredicate predicate;
+    private final FuzzyNameMatchesPredicate fuzzyPredicate;
+    private final Page page;
+
+    public FindCommand(IndexedPredicate predicate) {
+        this(predicate, Page.ALL);
+    }
 
-    private final NameContainsKeywordsPredicate predicate;
+    /**
+     * Creates a FindCommand that shows only {@code page} of the job applications accepted by {@code predicate}.
+     * If {@code predicate} is a {@link FuzzyNameMatchesPredicate}, its closest matches are listed too.
+     */
+    public FindCommand(IndexedPredicate predicate, Page page) {
+        this(predicate, predicate instanceof FuzzyNameMatchesPredicate ? (FuzzyNameMatchesPredicate) predicate : null,
+                page);
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindCommand that shows only {@code page} of the job applications accepted by {@code predicate}, and
+     * lists the closest matches of {@code fuzzyPredicate}, one of its operands, unless it is null.
+     */
+    public FindCommand(IndexedPredicate predicate, FuzzyNameMatchesPredicate fuzzyPredicate, Page page) {
+        requireNonNull(page);
         this.predicate = predicate;
+        this.fuzzyPredicate = fuzzyPredicate;
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredJobApplicationList(predicate);
+        model.updateFilteredJobApplicationList(predicate, page);
         model.setRecentlyModifiedApplication(null);
-        return new CommandResult(
-                String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW,
-                        model.getFilteredApplicationList().size()));
+        String feedback = JobMessages.formatListedOverview(model.getFilteredJobApplicationCount(), page);
+        if (fuzzyPredicate != null) {
+            List<JobApplication> closest = model.getClosestJobApplications(fuzzyPredicate, MAX_CLOSEST_MATCHES);
+            if (!closest.isEmpty()) {
+                feedback += "\n" + formatClosestMatches(closest);
+            }
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Lists {@code closest}, the closest matches of the fuzzy keywords, numbered from the closest.
+     */
+    private static String formatClosestMatches(List<JobApplication> closest) {
+        StringBuilder feedback = new StringBuilder(MESSAGE_CLOSEST_MATCHES);
+        for (int i = 0; i < closest.size(); i++) {
+            feedback.append('\n').append(i + 1).append(". ").append(JobMessages.format(closest.get(i)));
+        }
+        return feedback.toString();
     }
 
     @Override
@@ -48,13 +99,16 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && Objects.equals(fuzzyPredicate, otherFindCommand.fuzzyPredicate)
+                && page.equals(otherFindCommand.page);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("page", page)
                 .toString();
     }
 }
@@ -0,0 +1,93 @@
+package seedu.job.logic.jobcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.model.jobapplication.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.StorageFormat;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+import seedu.job.storage.JobApplicationStorageFactory;
+
+/**
+ * Replaces every job application with those read from a file, in the format given by the file's extension.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces all applications with those in a file. Files ending in .json are read as JSON, "
+            + "files ending in .bin in the compact binary format.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d applications from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_FAILURE = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to read the job applications in {@code filePath}, which must end with the extension
+     * of a {@link StorageFormat}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        assert StorageFormat.fromFilePath(filePath).isPresent();
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws JobCommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new JobCommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        StorageFormat format = StorageFormat.fromFilePath(filePath).orElseThrow();
+        UniqueJobApplications applications;
+        try {
+            applications = JobApplicationStorageFactory.create(format, filePath, DurabilityPolicy.ON_SAVE)
+                    .readDataFile();
+        } catch (DataLoadingException e) {
+            throw new JobCommandException(String.format(MESSAGE_FAILURE, filePath, e.getCause().getMessage()), e);
+        }
+
+        JobBook jobBook = new JobBook();
+        jobBook.setUniqueApplications(applications);
+        model.setJobBook(jobBook);
+        model.updateFilteredJobApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+        model.setRecentlyModifiedApplication(null);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, applications.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
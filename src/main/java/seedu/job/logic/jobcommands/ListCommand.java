@@ -3,8 +3,10 @@ package seedu.job.logic.jobcommands;
 import static java.util.Objects.requireNonNull;
 import static seedu.job.model.jobapplication.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
 
+import seedu.job.commons.util.ToStringBuilder;
 import seedu.job.logic.JobMessages;
 import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.Page;
 
 /**
  * Lists all job applications in the job list.
@@ -16,15 +18,50 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Lists all job applications.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [--limit COUNT] [--page PAGE]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " --limit 20 --page 2";
+
+    private final Page page;
+
+    public ListCommand() {
+        this(Page.ALL);
+    }
+
+    /**
+     * Creates a ListCommand that shows only {@code page} of the job applications.
+     */
+    public ListCommand(Page page) {
+        requireNonNull(page);
+        this.page = page;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredJobApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+        model.updateFilteredJobApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS, page);
         model.setRecentlyModifiedApplication(null);
-        return new CommandResult(
-                String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW,
-                        model.getFilteredApplicationList().size()));
+        return new CommandResult(JobMessages.formatListedOverview(model.getFilteredJobApplicationCount(), page));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return page.equals(otherListCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .toString();
     }
 }
@@ -0,0 +1,171 @@
+package seedu.job.logic.jobcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.Model;
+
+/**
+ * Runs the commands of a script one after another as a single command, so their changes are saved together once
+ * the script has finished. The first command to fail stops the script, and the changes made by the commands before
+ * it are either undone or kept. They are undone change by change from a savepoint in the job book, so a script
+ * rolled back leaves nothing to save.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String OPTION_NO_ROLLBACK = "--no-rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, and saves the result once at the end. "
+            + "Blank lines and lines starting with # are skipped. If a command fails, the changes made by the "
+            + "script are undone, unless " + OPTION_NO_ROLLBACK + " is given to keep the changes made before it.\n"
+            + "A FILE_PATH of - reads the script from standard input, which only works with --headless.\n"
+            + "Parameters: FILE_PATH [" + OPTION_NO_ROLLBACK + "]\n"
+            + "Example: " + COMMAND_WORD + " data/pipeline.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_ROLLED_BACK = "The script was stopped and all its changes were undone.";
+    public static final String MESSAGE_STOPPED = "The script was stopped. The changes made by the %1$d commands "
+            + "before line %2$d were kept.";
+
+    private final String source;
+    private final List<ScriptLine> lines;
+    private final boolean isRollbackOnError;
+
+    /**
+     * A command of a script, with the number of the line it was read from.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        /**
+         * Creates a {@code ScriptLine} for {@code command}, read from line {@code lineNumber}, counted from 1.
+         */
+        public ScriptLine(int lineNumber, Command command) {
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherLine = (ScriptLine) other;
+            return lineNumber == otherLine.lineNumber && command.equals(otherLine.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, command);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("command", command)
+                    .toString();
+        }
+    }
+
+    /**
+     * Creates a RunCommand to run the commands of {@code lines}, read from {@code source}, in order.
+     *
+     * @param isRollbackOnError whether to undo the changes of the whole script if a command fails, rather than
+     *     keeping the changes made by the commands before it.
+     */
+    public RunCommand(String source, List<ScriptLine> lines, boolean isRollbackOnError) {
+        requireNonNull(source);
+        requireNonNull(lines);
+        this.source = source;
+        this.lines = List.copyOf(lines);
+        this.isRollbackOnError = isRollbackOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws JobCommandException {
+        requireNonNull(model);
+        JobApplication recentlyModifiedApplication = model.getRecentlyModifiedApplication();
+        if (isRollbackOnError) {
+            model.setJobBookSavepoint();
+        }
+
+        boolean isFinished = false;
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                ScriptLine line = lines.get(i);
+                try {
+                    line.getCommand().execute(model);
+                } catch (JobCommandException e) {
+                    String outcome = isRollbackOnError
+                            ? MESSAGE_ROLLED_BACK
+                            : String.format(MESSAGE_STOPPED, i, line.getLineNumber());
+                    throw new JobCommandException(String.format(MESSAGE_LINE_FAILED, line.getLineNumber(),
+                            e.getMessage()) + "\n" + outcome, e);
+                }
+            }
+            isFinished = true;
+        } finally {
+            // Whatever stopped the script, including an unchecked exception, its changes are undone
+            if (isRollbackOnError) {
+                if (!isFinished) {
+                    model.rollBackJobBook();
+                    model.setRecentlyModifiedApplication(recentlyModifiedApplication);
+                }
+                model.releaseJobBookSavepoint();
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), source));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return source.equals(otherRunCommand.source)
+                && lines.equals(otherRunCommand.lines)
+                && isRollbackOnError == otherRunCommand.isRollbackOnError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("lines", lines)
+                .add("isRollbackOnError", isRollbackOnError)
+                .toString();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.job.logic.jobcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.job.model.jobapplication.JobApplicationStatistics;
+import seedu.job.model.jobapplication.Model;
+
+/**
+ * Shows the number of job applications per status, per tag and per deadline week.
+ * The counts are kept up to date by the job book as it changes, so they are not counted again for every command.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of job applications per status, per tag and per deadline week.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUMMARY = "%1$d applications in total";
+    public static final String MESSAGE_BY_STATUS = "By status: %1$s";
+    public static final String MESSAGE_BY_TAG = "By tag: %1$s";
+    public static final String MESSAGE_BY_DEADLINE_WEEK = "By deadline week: %1$s";
+    public static final String MESSAGE_NONE = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        JobApplicationStatistics statistics = model.getJobApplicationStatistics();
+
+        String feedback = String.format(MESSAGE_SUMMARY, statistics.getTotal())
+                + "\n" + String.format(MESSAGE_BY_STATUS, formatCounts(statistics.getCountByStatus()))
+                + "\n" + String.format(MESSAGE_BY_TAG, formatCounts(statistics.getCountByTag()))
+                + "\n" + String.format(MESSAGE_BY_DEADLINE_WEEK,
+                        formatWeekCounts(statistics.getCountByDeadlineWeek()));
+        return new CommandResult(feedback);
+    }
+
+    private static String formatCounts(Map<?, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatWeekCounts(Map<LocalDate, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        return counts.entrySet().stream()
+                .map(entry -> "week of " + entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -63,7 +63,7 @@ public class TagJobCommand extends Command {
 
         // Update the viewed job applications
         model.setRecentlyModifiedApplication(jobToTag);
-        model.setJobApplication(jobToTag, taggedJob);
+        model.setFilteredJobApplication(targetIndex, taggedJob);
 
         return new CommandResult(String.format(MESSAGE_TAG_APPLICATION_SUCCESS, JobMessages.format(taggedJob)));
     }
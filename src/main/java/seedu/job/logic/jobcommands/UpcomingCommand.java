@@ -0,0 +1,107 @@
+package seedu.job.logic.jobcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.logic.JobMessages;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.jobapplication.Model;
+
+/**
+ * Lists the job applications with the soonest upcoming deadlines, excluding rejected applications, in deadline order.
+ * The applications are looked up in the job book's deadline index, so the job book is neither sorted nor reordered,
+ * and the list shows them numbered as in the result.
+ */
+public class UpcomingCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcoming";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the COUNT job applications with the soonest upcoming deadlines, excluding rejected "
+            + "applications, in deadline order, without changing the order of the job book.\n"
+            + "Parameters: COUNT [s/STATUS]\n"
+            + "Example: " + COMMAND_WORD + " 20, " + COMMAND_WORD + " 5 s/inprogress";
+
+    public static final String MESSAGE_SUCCESS = "%1$d upcoming deadlines listed!";
+
+    private final int count;
+    private final Status status;
+    private final Clock clock;
+
+    /**
+     * Creates an UpcomingCommand to list the {@code count} soonest upcoming deadlines of applications that are not
+     * rejected.
+     */
+    public UpcomingCommand(int count) {
+        this(count, null);
+    }
+
+    /**
+     * Creates an UpcomingCommand to list the {@code count} soonest upcoming deadlines of applications with
+     * {@code status}, or of all applications that are not rejected if {@code status} is null.
+     */
+    public UpcomingCommand(int count, Status status) {
+        this(count, status, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an UpcomingCommand that reads the current time from {@code clock}.
+     */
+    UpcomingCommand(int count, Status status, Clock clock) {
+        requireNonNull(clock);
+        assert count > 0;
+        assert status != Status.REJECTED;
+        this.count = count;
+        this.status = status;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Predicate<JobApplication> filter = status == null
+                ? application -> application.getStatus() != Status.REJECTED
+                : application -> application.getStatus() == status;
+        List<JobApplication> upcoming = model.getUpcomingJobApplications(LocalDateTime.now(clock), count, filter);
+
+        model.setFilteredJobApplications(upcoming);
+        model.setRecentlyModifiedApplication(null);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, upcoming.size()));
+        for (int i = 0; i < upcoming.size(); i++) {
+            feedback.append('\n').append(i + 1).append(". ").append(JobMessages.format(upcoming.get(i)));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingCommand)) {
+            return false;
+        }
+
+        UpcomingCommand otherUpcomingCommand = (UpcomingCommand) other;
+        return count == otherUpcomingCommand.count
+                && Objects.equals(status, otherUpcomingCommand.status);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("status", status)
+                .toString();
+    }
+}
@@ -83,7 +83,7 @@ public class UpdateJobCommand extends Command {
             throw new JobCommandException(MESSAGE_DUPLICATE_APPLICATION);
         }
 
-        model.setJobApplication(jobToUpdate, updatedJob);
+        model.setFilteredJobApplication(index, updatedJob);
         model.updateFilteredJobApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
         model.setRecentlyModifiedApplication(updatedJob);
         return new CommandResult(String.format(MESSAGE_UPDATE_JOB_SUCCESS, JobMessages.format(updatedJob)));
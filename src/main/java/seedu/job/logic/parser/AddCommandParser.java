@@ -1,5 +1,6 @@
 package seedu.job.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_NAME;
@@ -7,8 +8,8 @@ import static seedu.job.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -22,6 +23,20 @@ import seedu.job.model.tag.Tag;
  */
 public class AddCommandParser implements JobParser<AddJobCommand> {
 
+    private final Clock clock;
+
+    public AddCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code AddCommandParser} that reads the current date and time from {@code clock}.
+     */
+    public AddCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddJobCommand
      * and returns an AddJobCommand object for execution.
@@ -51,27 +66,20 @@ public class AddCommandParser implements JobParser<AddJobCommand> {
 
             // Parse deadline - use FlexibleDateTimeParser to support multiple formats
             // If no deadline is specified, default to current date at 23:59
+            FlexibleDateTimeParser dateTimeParser = new FlexibleDateTimeParser(clock);
             LocalDateTime deadline;
             if (argMultimap.getValue(PREFIX_DEADLINE).isPresent()) {
                 String deadlineStr = argMultimap.getValue(PREFIX_DEADLINE).get();
-                deadline = FlexibleDateTimeParser.parse(deadlineStr);
+                deadline = ParserUtil.parseDeadline(deadlineStr, dateTimeParser);
             } else {
-                deadline = FlexibleDateTimeParser.getDefaultDateTime();
+                deadline = dateTimeParser.getDefaultDateTime();
             }
 
-            ParserUtil.validateDeadlineNotInPast(deadline);
+            ParserUtil.validateDeadlineNotInPast(deadline, clock);
             JobApplication.Status status = JobApplication.Status.valueOf(statusStr.toUpperCase());
 
             JobApplication application = new JobApplication(companyName, role, deadline, status, tags);
             return new AddJobCommand(application);
-        } catch (DateTimeParseException e) {
-            // Check if the error is due to invalid date (e.g., Feb 30) or invalid format
-            if (e.getMessage() != null && e.getMessage().startsWith("Invalid date:")) {
-                throw new ParseException(e.getMessage(), e);
-            } else {
-                String supportedFormats = String.join(", ", FlexibleDateTimeParser.getSupportedFormatsExamples());
-                throw new ParseException("Invalid deadline format. Supported formats: " + supportedFormats, e);
-            }
         } catch (IllegalArgumentException e) {
             throw new ParseException("Invalid status. Valid values are: APPLIED, INPROGRESS, REJECTED", e);
         }
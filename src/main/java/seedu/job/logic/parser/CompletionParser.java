@@ -0,0 +1,75 @@
+package seedu.job.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
+import seedu.job.model.jobapplication.Model;
+
+/**
+ * Completes the value being typed after the last prefix of a command, such as {@code n/Goo} in {@code update 3 n/Goo},
+ * from the company names, roles and tag names of the job applications.
+ */
+public class CompletionParser {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final List<Prefix> PREFIXES =
+            List.of(PREFIX_NAME, PREFIX_ROLE, PREFIX_DEADLINE, PREFIX_STATUS, PREFIX_TAG);
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, each being {@code commandText} with
+     * the value after its last prefix replaced by a company name, role or tag name starting with that value.
+     * There are no completions if the last prefix is not {@code n/}, {@code r/} or {@code t/}, or if the value after
+     * {@code t/} is followed by other text.
+     */
+    public List<String> complete(String commandText, Model model) {
+        requireNonNull(commandText);
+        requireNonNull(model);
+
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : PREFIXES) {
+            int position = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+        if (lastPrefix == null) {
+            return List.of();
+        }
+
+        int valueStart = lastPrefixPosition + 1 + lastPrefix.getPrefix().length();
+        String value = commandText.substring(valueStart).stripLeading();
+        CompletionField field = toCompletionField(lastPrefix);
+        if (field == null || (field == CompletionField.TAG && value.matches(".*\\s.*"))) {
+            return List.of();
+        }
+
+        List<String> completions = new ArrayList<>();
+        for (String completion : model.getCompletions(field, value, MAX_COMPLETIONS)) {
+            completions.add(commandText.substring(0, valueStart) + completion);
+        }
+        return completions;
+    }
+
+    private static CompletionField toCompletionField(Prefix prefix) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return CompletionField.COMPANY_NAME;
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            return CompletionField.ROLE;
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return CompletionField.TAG;
+        }
+        return null;
+    }
+
+}
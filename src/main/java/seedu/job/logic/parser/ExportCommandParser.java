@@ -0,0 +1,27 @@
+package seedu.job.logic.parser;
+
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.job.logic.jobcommands.ExportCommand;
+import seedu.job.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements JobParser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        try {
+            return new ExportCommand(ParserUtil.parseDataFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
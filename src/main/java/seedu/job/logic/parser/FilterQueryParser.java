@@ -0,0 +1,226 @@
+package seedu.job.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.job.logic.jobcommands.FilterCommand;
+import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.AndPredicate;
+import seedu.job.model.jobapplication.DeadlinePredicate;
+import seedu.job.model.jobapplication.DeadlineRangePredicate;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.NotPredicate;
+import seedu.job.model.jobapplication.OrPredicate;
+import seedu.job.model.jobapplication.StatusMatchesKeywordPredicate;
+import seedu.job.model.jobapplication.TagsContainKeywordPredicate;
+
+/**
+ * Parses a filter query into a tree of predicates on job applications.
+ * A query is made of filter terms combined with {@code !} (not), {@code &} (and) and {@code |} (or), in decreasing
+ * order of precedence, and grouped with parentheses:
+ * <pre>
+ * query := and ("|" and)*
+ * and   := unary ("&amp;" unary)*
+ * unary := "!" unary | "(" query ")" | term
+ * term  := t/TAG | s/STATUS | d/DATE | d/&lt;DATE | d/&gt;DATE | d/DATE..DATE | d/+DAYS
+ * </pre>
+ * {@code d/DATE..DATE} matches deadlines from the first date to the second, both inclusive, and {@code d/+DAYS}
+ * matches deadlines from today to {@code DAYS} days from today.
+ * A query made of a single term is parsed into the predicate of that term alone.
+ */
+class FilterQueryParser {
+
+    public static final String MESSAGE_MISSING_OPERATOR = "Filter terms must be combined with & (and) or | (or), "
+            + "e.g. s/applied & (t/remote | t/hybrid)";
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "Filter query has unmatched parentheses.";
+    public static final String MESSAGE_INVALID_STATUS =
+            "Invalid status. Valid values are: APPLIED, INPROGRESS, REJECTED";
+    public static final String MESSAGE_INVALID_DATE = "Invalid date format. Expected format: yyyy-MM-dd";
+    public static final String MESSAGE_INVALID_DAYS =
+            "Invalid number of days. Expected a non-negative number, e.g. d/+7 for the next 7 days";
+    public static final String MESSAGE_INVALID_RANGE =
+            "Invalid deadline range. The start date must not be after the end date, e.g. d/2025-11-01..2025-11-30";
+
+    private static final String OPERATORS = "&|!()";
+    private static final String BEFORE = "<";
+    private static final String AFTER = ">";
+    private static final String NEXT_DAYS = "+";
+    private static final String RANGE_SEPARATOR = "..";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final String query;
+    private final Clock clock;
+    private int position;
+
+    /**
+     * Creates a {@code FilterQueryParser} for {@code query}, which reads today's date from {@code clock}.
+     */
+    FilterQueryParser(String query, Clock clock) {
+        requireNonNull(query);
+        requireNonNull(clock);
+        this.query = query;
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the whole query into a predicate.
+     *
+     * @throws ParseException if the query does not conform to the query syntax.
+     */
+    Predicate<JobApplication> parse() throws ParseException {
+        Predicate<JobApplication> predicate = parseOr();
+        skipWhitespace();
+        if (position < query.length()) {
+            throw new ParseException(query.charAt(position) == ')'
+                    ? MESSAGE_UNMATCHED_PARENTHESIS
+                    : MESSAGE_MISSING_OPERATOR);
+        }
+        return predicate;
+    }
+
+    private Predicate<JobApplication> parseOr() throws ParseException {
+        List<Predicate<JobApplication>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (consume('|')) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private Predicate<JobApplication> parseAnd() throws ParseException {
+        List<Predicate<JobApplication>> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (consume('&')) {
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private Predicate<JobApplication> parseUnary() throws ParseException {
+        if (consume('!')) {
+            return new NotPredicate(parseUnary());
+        }
+        if (consume('(')) {
+            Predicate<JobApplication> predicate = parseOr();
+            if (!consume(')')) {
+                throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+            }
+            return predicate;
+        }
+        return parseTerm();
+    }
+
+    /**
+     * Parses a single filter term, such as {@code t/remote}.
+     */
+    private Predicate<JobApplication> parseTerm() throws ParseException {
+        String word = readWord();
+        if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            return new TagsContainKeywordPredicate(readValue(word, PREFIX_TAG).toLowerCase());
+        } else if (word.startsWith(PREFIX_STATUS.getPrefix())) {
+            return parseStatus(readValue(word, PREFIX_STATUS));
+        } else if (word.startsWith(PREFIX_DEADLINE.getPrefix())) {
+            return parseDeadline(readValue(word, PREFIX_DEADLINE));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    private static StatusMatchesKeywordPredicate parseStatus(String value) throws ParseException {
+        try {
+            return new StatusMatchesKeywordPredicate(JobApplication.Status.valueOf(value.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_STATUS, e);
+        }
+    }
+
+    private Predicate<JobApplication> parseDeadline(String value) throws ParseException {
+        try {
+            if (value.startsWith(BEFORE)) {
+                return DeadlineRangePredicate.before(parseDate(value.substring(BEFORE.length())));
+            } else if (value.startsWith(AFTER)) {
+                return DeadlineRangePredicate.after(parseDate(value.substring(AFTER.length())));
+            } else if (value.startsWith(NEXT_DAYS)) {
+                return DeadlineRangePredicate.nextDays(LocalDate.now(clock),
+                        parseDays(value.substring(NEXT_DAYS.length())));
+            } else if (value.contains(RANGE_SEPARATOR)) {
+                int separator = value.indexOf(RANGE_SEPARATOR);
+                return parseRange(parseDate(value.substring(0, separator)),
+                        parseDate(value.substring(separator + RANGE_SEPARATOR.length())));
+            }
+            return new DeadlinePredicate(parseDate(value));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+
+    private static DeadlineRangePredicate parseRange(LocalDate from, LocalDate to) throws ParseException {
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return DeadlineRangePredicate.between(from, to);
+    }
+
+    private static int parseDays(String value) throws ParseException {
+        if (!value.matches("\\d{1,5}")) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        return LocalDate.parse(value.trim(), DATE_FORMATTER);
+    }
+
+    /**
+     * Returns the value of the term {@code word} that starts with {@code prefix}. A value separated from its prefix
+     * by whitespace, as in {@code s/ applied}, is read from the following word.
+     */
+    private String readValue(String word, Prefix prefix) {
+        String value = word.substring(prefix.getPrefix().length());
+        return value.isEmpty() ? readWord() : value;
+    }
+
+    /**
+     * Reads the characters up to the next whitespace or operator, after skipping any leading whitespace.
+     */
+    private String readWord() {
+        skipWhitespace();
+        int start = position;
+        while (position < query.length() && !Character.isWhitespace(query.charAt(position))
+                && OPERATORS.indexOf(query.charAt(position)) < 0) {
+            position++;
+        }
+        return query.substring(start, position);
+    }
+
+    /**
+     * Skips any whitespace and consumes {@code operator} if it is the next character.
+     *
+     * @return true if {@code operator} was consumed.
+     */
+    private boolean consume(char operator) {
+        skipWhitespace();
+        if (position < query.length() && query.charAt(position) == operator) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < query.length() && Character.isWhitespace(query.charAt(position))) {
+            position++;
+        }
+    }
+}
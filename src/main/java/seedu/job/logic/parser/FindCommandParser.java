@@ -2,11 +2,17 @@ package seedu.job.logic.parser;
 
 import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.job.logic.jobcommands.FindCommand;
 import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
+import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.NameContainsKeywordsPredicate;
+import seedu.job.model.jobapplication.OrPredicate;
+import seedu.job.model.jobapplication.Page;
 
 
 /**
@@ -14,21 +20,46 @@ import seedu.job.model.jobapplication.NameContainsKeywordsPredicate;
  */
 public class FindCommandParser implements JobParser<FindCommand> {
 
+    public static final String FUZZY_PREFIX = "~";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        PagedArguments pagedArgs = PagedArguments.parse(args);
+        Page page = pagedArgs.getPage();
+        String trimmedArgs = pagedArgs.getArguments().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-        var predicate = new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
-        return new FindCommand(predicate);
+        List<String> exactKeywords = new ArrayList<>();
+        List<String> fuzzyKeywords = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            if (keyword.startsWith(FUZZY_PREFIX)) {
+                fuzzyKeywords.add(keyword.substring(FUZZY_PREFIX.length()));
+            } else {
+                exactKeywords.add(keyword);
+            }
+        }
+
+        if (fuzzyKeywords.isEmpty()) {
+            return new FindCommand(new NameContainsKeywordsPredicate(exactKeywords), page);
+        }
+        if (fuzzyKeywords.stream().allMatch(String::isEmpty)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        var fuzzyPredicate = new FuzzyNameMatchesPredicate(fuzzyKeywords);
+        if (exactKeywords.isEmpty()) {
+            return new FindCommand(fuzzyPredicate, page);
+        }
+        List<Predicate<JobApplication>> operands =
+                List.of(new NameContainsKeywordsPredicate(exactKeywords), fuzzyPredicate);
+        return new FindCommand(new OrPredicate(operands), fuzzyPredicate, page);
     }
 
 }
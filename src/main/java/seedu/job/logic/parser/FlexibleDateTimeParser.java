@@ -1,207 +1,383 @@
 package seedu.job.logic.parser;
 
-import java.time.DateTimeException;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
 import java.time.Year;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
- * A utility class for parsing date and time strings in multiple flexible formats.
+ * Parses date and time strings in multiple flexible formats.
  * Supports various input formats and intelligently defaults missing components.
+ * The input is read in a single pass by a small hand-written lexer instead of being tried against each supported
+ * format in turn, so a failed parse costs no more than a successful one and throws no exceptions on the way.
+ * Today's date, against which years are inferred, is read from a {@link Clock} once when the parser is created, so
+ * all the dates parsed by one parser agree on it even across midnight. Create a parser for each command or batch.
  */
 public class FlexibleDateTimeParser {
 
+    public static final String MESSAGE_EMPTY = "Date-time string cannot be null or empty";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Unable to parse date-time string. "
+            + "Supported formats include: yyyy-MM-ddTHH:mm, yyyy-MM-dd, MM-dd, dd MMM, dd MMMM, etc.";
+    public static final String MESSAGE_INVALID_DATE = "Invalid date: %1$s %2$d does not exist in %3$d.";
+
     // Default time to use when only date is provided (end of day)
     private static final LocalTime DEFAULT_TIME = LocalTime.of(23, 59);
 
-    // List of supported date-time formatters in order of specificity
-    // Use uuuu pattern with STRICT resolver to prevent invalid dates like Feb 30
-    private static final List<DateTimeFormatter> DATETIME_FORMATTERS = List.of(
-            // Full date-time formats (with zero-padded values)
-            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            // Date-only formats (will use default time)
-            DateTimeFormatter.ofPattern("uuuu-MM-dd")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT)
-    );
-
-    // List of supported date-only formatters that need year inference
-    // Use uuuu pattern with STRICT resolver to prevent invalid dates like Feb 30
-    private static final List<DateTimeFormatter> DATE_FORMATTERS_WITH_INFERENCE = List.of(
-            // With full month names
-            DateTimeFormatter.ofPattern("d MMMM")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("d-MMMM")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            // With abbreviated month names
-            DateTimeFormatter.ofPattern("d MMM")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("d-MMM")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            // Month-day formats
-            DateTimeFormatter.ofPattern("M-d")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("M/d")
-                    .withResolverStyle(java.time.format.ResolverStyle.STRICT)
-    );
+    // Month names accepted after a day, as in the "d MMMM" and "d MMM" patterns of an English locale
+    private static final Month[] MONTHS = Month.values();
+    private static final String[] FULL_MONTH_NAMES = new String[MONTHS.length];
+    private static final String[] SHORT_MONTH_NAMES = new String[MONTHS.length];
+
+    static {
+        for (Month month : MONTHS) {
+            FULL_MONTH_NAMES[month.ordinal()] = month.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            SHORT_MONTH_NAMES[month.ordinal()] = month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+        }
+    }
+
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code FlexibleDateTimeParser} that infers years against today's date in the system time zone.
+     */
+    public FlexibleDateTimeParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code FlexibleDateTimeParser} that infers years against today's date according to {@code clock}.
+     */
+    public FlexibleDateTimeParser(Clock clock) {
+        requireNonNull(clock);
+        this.today = LocalDate.now(clock);
+    }
+
+    /**
+     * The kinds of input that cannot be parsed.
+     */
+    public enum ErrorKind {
+        /** The input is null or blank. */
+        EMPTY,
+        /** The input has none of the supported shapes, or a field outside its range, such as month 13. */
+        UNSUPPORTED_FORMAT,
+        /** The input has a supported shape, but a day past the end of its month, such as 30 February. */
+        INVALID_DATE
+    }
+
+    /**
+     * The outcome of {@link #tryParse(String)}: either the date and time parsed, or why there is none.
+     */
+    public static class Result {
+        private final LocalDateTime dateTime;
+        private final ErrorKind errorKind;
+        private final String errorMessage;
+
+        private Result(LocalDateTime dateTime, ErrorKind errorKind, String errorMessage) {
+            this.dateTime = dateTime;
+            this.errorKind = errorKind;
+            this.errorMessage = errorMessage;
+        }
+
+        private static Result success(LocalDateTime dateTime) {
+            return new Result(dateTime, null, null);
+        }
+
+        private static Result failure(ErrorKind errorKind, String errorMessage) {
+            return new Result(null, errorKind, errorMessage);
+        }
+
+        public boolean isSuccess() {
+            return dateTime != null;
+        }
+
+        /**
+         * Returns the date and time parsed. Only valid if {@link #isSuccess()}.
+         */
+        public LocalDateTime getDateTime() {
+            assert isSuccess();
+            return dateTime;
+        }
+
+        /**
+         * Returns why the input could not be parsed. Only valid if not {@link #isSuccess()}.
+         */
+        public ErrorKind getErrorKind() {
+            assert !isSuccess();
+            return errorKind;
+        }
+
+        /**
+         * Returns a message for the user on why the input could not be parsed. Only valid if not {@link #isSuccess()}.
+         */
+        public String getErrorMessage() {
+            assert !isSuccess();
+            return errorMessage;
+        }
+    }
 
     /**
      * Parses a date-time string in various formats and returns a LocalDateTime object.
-     * Supports the following formats:
-     * - Full date-time: yyyy-MM-ddTHH:mm, yyyy-MM-dd HH:mm, yyyy-MM-ddTHH:mm:ss
-     * - Date only: yyyy-MM-dd (defaults to 23:59)
-     * - Month-day: MM-dd, MM/dd (infers current or next year, defaults to 23:59)
-     * - Day-month: dd MMM, dd MMMM, dd-MMM, dd-MMMM (infers current or next year, defaults to 23:59)
+     * Supports the formats described in {@link #tryParse(String)}.
      *
      * @param dateTimeStr The date-time string to parse
      * @return A LocalDateTime object representing the parsed date and time
-     * @throws DateTimeParseException if the string cannot be parsed in any supported format
+     * @throws DateTimeParseException if the string cannot be parsed in any supported format, or names a date that
+     *     does not exist
      */
-    public static LocalDateTime parse(String dateTimeStr) throws DateTimeParseException {
+    public LocalDateTime parse(String dateTimeStr) throws DateTimeParseException {
+        Result result = tryParse(dateTimeStr);
+        if (!result.isSuccess()) {
+            throw new DateTimeParseException(result.getErrorMessage(), dateTimeStr == null ? "" : dateTimeStr, 0);
+        }
+        return result.getDateTime();
+    }
+
+    /**
+     * Parses a date-time string in various formats without throwing, for callers parsing many strings.
+     * Leading and trailing whitespace is ignored. Supports the following formats:
+     * - Full date-time: yyyy-MM-ddTHH:mm, yyyy-MM-dd HH:mm, yyyy-MM-ddTHH:mm:ss, yyyy-MM-dd HH:mm:ss
+     * - Date only: yyyy-MM-dd (defaults to 23:59)
+     * - Month-day: M-d, M/d (infers current or next year, defaults to 23:59)
+     * - Day-month: d MMM, d MMMM, d-MMM, d-MMMM (infers current or next year, defaults to 23:59)
+     * An inferred year is the current year, or the next year if the date has already passed this year, where the
+     * current date is the one read when this parser was created.
+     *
+     * @param dateTimeStr The date-time string to parse
+     * @return the date and time parsed, or the kind of error found and a message describing it
+     */
+    public Result tryParse(String dateTimeStr) {
         if (dateTimeStr == null) {
-            throw new DateTimeParseException("Date-time string cannot be null or empty", "", 0);
+            return Result.failure(ErrorKind.EMPTY, MESSAGE_EMPTY);
+        }
+
+        int start = 0;
+        int end = dateTimeStr.length();
+        while (start < end && dateTimeStr.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && dateTimeStr.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return Result.failure(ErrorKind.EMPTY, MESSAGE_EMPTY);
         }
 
-        String trimmed = dateTimeStr.trim();
+        return new Lexer(dateTimeStr, start, end, today).lex();
+    }
 
-        if (trimmed.isEmpty()) {
-            throw new DateTimeParseException("Date-time string cannot be null or empty", dateTimeStr, 0);
+    /**
+     * Reads a date-time string between two positions, one character at a time.
+     * Numbers and month names are read as they are reached, so the input is never scanned twice.
+     */
+    private static class Lexer {
+        private static final int NOT_FOUND = -1;
+
+        private final String text;
+        private final int end;
+        private final LocalDate today;
+        private int pos;
+
+        Lexer(String text, int start, int end, LocalDate today) {
+            this.text = text;
+            this.pos = start;
+            this.end = end;
+            this.today = today;
         }
 
-        // Try full date-time formats first
-        for (DateTimeFormatter formatter : DATETIME_FORMATTERS) {
-            try {
-                return tryParseDateTime(trimmed, formatter);
-            } catch (DateTimeParseException e) {
-                // If the error is due to invalid date (not just wrong format), re-throw immediately
-                if (e.getMessage() != null && e.getMessage().startsWith("Invalid date:")) {
-                    throw e;
+        Result lex() {
+            int first = pos;
+            int value = readNumber();
+            int digits = pos - first;
+            if (digits == 4 && accept('-')) {
+                return lexIsoDateTime(value);
+            }
+            if (digits < 1 || digits > 2 || pos == end) {
+                return unsupported();
+            }
+
+            char separator = text.charAt(pos++);
+            if (separator == ' ' || (separator == '-' && !isDigit(peek()))) {
+                int month = readMonthName();
+                return month == NOT_FOUND || pos != end ? unsupported() : inferYear(month, value);
+            }
+            if (separator == '-' || separator == '/') {
+                int dayStart = pos;
+                int day = readNumber();
+                int dayDigits = pos - dayStart;
+                return dayDigits < 1 || dayDigits > 2 || pos != end ? unsupported() : inferYear(value, day);
+            }
+            return unsupported();
+        }
+
+        /**
+         * Reads the rest of a {@code uuuu-MM-dd} date, after its year and first dash, and the time that may follow.
+         */
+        private Result lexIsoDateTime(int year) {
+            int month = readTwoDigits();
+            if (month == NOT_FOUND || !accept('-')) {
+                return unsupported();
+            }
+            int day = readTwoDigits();
+            if (day == NOT_FOUND) {
+                return unsupported();
+            }
+            if (pos == end) {
+                return atDefaultTime(year, month, day);
+            }
+
+            if (!accept('T') && !accept(' ')) {
+                return unsupported();
+            }
+            int hour = readTwoDigits();
+            if (hour == NOT_FOUND || !accept(':')) {
+                return unsupported();
+            }
+            int minute = readTwoDigits();
+            if (minute == NOT_FOUND) {
+                return unsupported();
+            }
+            int second = 0;
+            if (accept(':')) {
+                second = readTwoDigits();
+                if (second == NOT_FOUND) {
+                    return unsupported();
                 }
-                // Continue to next format
             }
+            if (pos != end || hour > 23 || minute > 59 || second > 59) {
+                return unsupported();
+            }
+
+            Result invalidDate = checkDate(year, month, day);
+            if (invalidDate != null) {
+                return invalidDate;
+            }
+            return Result.success(LocalDateTime.of(year, month, day, hour, minute, second));
+        }
+
+        /**
+         * Returns the date with the month and day given, in the current year or the next year if it has passed.
+         */
+        private Result inferYear(int month, int day) {
+            int year = today.getYear();
+            Result invalidDate = checkDate(year, month, day);
+            if (invalidDate != null) {
+                return invalidDate;
+            }
+            if (LocalDate.of(year, month, day).isBefore(today)) {
+                year++;
+            }
+            return atDefaultTime(year, month, day);
         }
 
-        // Try date formats that need year inference
-        for (DateTimeFormatter formatter : DATE_FORMATTERS_WITH_INFERENCE) {
-            try {
-                return tryParseDateWithYearInference(trimmed, formatter);
-            } catch (DateTimeParseException e) {
-                // If the error is due to invalid date (not just wrong format), re-throw immediately
-                if (e.getMessage() != null && e.getMessage().startsWith("Invalid date:")) {
-                    throw e;
+        private Result atDefaultTime(int year, int month, int day) {
+            Result invalidDate = checkDate(year, month, day);
+            if (invalidDate != null) {
+                return invalidDate;
+            }
+            return Result.success(LocalDateTime.of(LocalDate.of(year, month, day), DEFAULT_TIME));
+        }
+
+        /**
+         * Returns the failure to report if the date given does not exist, or null if it does.
+         * As with the strict formatters used before, a month or day outside the range of any date is a format error,
+         * while a day past the end of its month is an invalid date.
+         */
+        private static Result checkDate(int year, int month, int day) {
+            if (month < 1 || month > 12 || day < 1 || day > 31) {
+                return unsupported();
+            }
+            if (day > MONTHS[month - 1].length(Year.isLeap(year))) {
+                return Result.failure(ErrorKind.INVALID_DATE,
+                        String.format(MESSAGE_INVALID_DATE, FULL_MONTH_NAMES[month - 1], day, year));
+            }
+            return null;
+        }
+
+        private static Result unsupported() {
+            return Result.failure(ErrorKind.UNSUPPORTED_FORMAT, MESSAGE_UNSUPPORTED_FORMAT);
+        }
+
+        /**
+         * Reads a run of digits, returning its value, or 0 if there is none.
+         * Runs too long to be part of any supported format stop being accumulated, so the value cannot overflow.
+         */
+        private int readNumber() {
+            int value = 0;
+            int start = pos;
+            while (pos < end && isDigit(text.charAt(pos))) {
+                if (pos - start < 4) {
+                    value = value * 10 + (text.charAt(pos) - '0');
                 }
-                // Continue to next format
+                pos++;
             }
+            return value;
         }
 
-        // If none of the formats worked, throw a detailed exception
-        throw new DateTimeParseException(
-                "Unable to parse date-time string. Supported formats include: "
-                        + "yyyy-MM-ddTHH:mm, yyyy-MM-dd, MM-dd, dd MMM, dd MMMM, etc.",
-                dateTimeStr,
-                0
-        );
-    }
+        /**
+         * Reads exactly two digits, returning their value, or {@link #NOT_FOUND} if there are not two digits next.
+         */
+        private int readTwoDigits() {
+            if (end - pos < 2 || !isDigit(text.charAt(pos)) || !isDigit(text.charAt(pos + 1))) {
+                return NOT_FOUND;
+            }
+            int value = (text.charAt(pos) - '0') * 10 + (text.charAt(pos + 1) - '0');
+            pos += 2;
+            return value;
+        }
 
-    /**
-     * Tries to parse a string as a full date-time or date-only format.
-     * If only a date is provided, uses the default time (23:59).
-     */
-    private static LocalDateTime tryParseDateTime(String dateTimeStr, DateTimeFormatter formatter)
-            throws DateTimeParseException {
-        try {
-            // Try to parse as full LocalDateTime
-            return LocalDateTime.parse(dateTimeStr, formatter);
-        } catch (DateTimeParseException e) {
-            // Check if this is due to invalid date values (STRICT resolver rejects invalid dates)
-            // STRICT mode error messages contain "Invalid date" for bad dates like Feb 30
-            if (e.getMessage() != null && e.getMessage().contains("Invalid date")) {
-                throw new DateTimeParseException("Invalid date: " + e.getMessage(), dateTimeStr, 0);
-            }
-
-            // Try to parse as LocalDate and add default time
-            try {
-                LocalDate date = LocalDate.parse(dateTimeStr, formatter);
-                return LocalDateTime.of(date, DEFAULT_TIME);
-            } catch (DateTimeParseException dtpe) {
-                // Check if this is also due to invalid date values
-                if (dtpe.getMessage() != null && dtpe.getMessage().contains("Invalid date")) {
-                    throw new DateTimeParseException("Invalid date: " + dtpe.getMessage(), dateTimeStr, 0);
+        /**
+         * Reads the full or short English name of a month, returning its number, or {@link #NOT_FOUND}.
+         * Names are matched with the case they are printed in, as the formats did before.
+         */
+        private int readMonthName() {
+            int length = end - pos;
+            for (int i = 0; i < MONTHS.length; i++) {
+                if (matchesRest(FULL_MONTH_NAMES[i], length) || matchesRest(SHORT_MONTH_NAMES[i], length)) {
+                    pos = end;
+                    return i + 1;
                 }
-                // Re-throw original exception
-                throw dtpe;
-            } catch (DateTimeException dte) {
-                // Invalid date like Feb 30
-                throw new DateTimeParseException("Invalid date: " + dte.getMessage(), dateTimeStr, 0);
             }
+            return NOT_FOUND;
         }
-    }
 
-    /**
-     * Tries to parse a string as a date format without year, then infers the year.
-     * If the inferred date would be in the past, uses next year instead.
-     */
-    private static LocalDateTime tryParseDateWithYearInference(String dateStr, DateTimeFormatter formatter)
-            throws DateTimeParseException {
-        try {
-            // Parse with current year first
-            int currentYear = Year.now().getValue();
-            LocalDate dateWithCurrentYear = parseMonthDayWithYear(dateStr, formatter, currentYear);
-
-            // If the date is in the past, use next year
-            LocalDate today = LocalDate.now();
-            LocalDate finalDate;
-            if (dateWithCurrentYear.isBefore(today)) {
-                finalDate = parseMonthDayWithYear(dateStr, formatter, currentYear + 1);
-            } else {
-                finalDate = dateWithCurrentYear;
-            }
-
-            return LocalDateTime.of(finalDate, DEFAULT_TIME);
-        } catch (DateTimeParseException e) {
-            // Pattern didn't match - let caller try next format
-            throw e;
-        } catch (DateTimeException e) {
-            // Invalid date like Feb 30 (from LocalDate.of())
-            throw new DateTimeParseException("Invalid date: " + e.getMessage(), dateStr, 0);
+        private boolean matchesRest(String name, int length) {
+            return name.length() == length && text.startsWith(name, pos);
         }
-    }
 
-    /**
-     * Parses a month-day string with a specified year.
-     * With STRICT resolver style, invalid dates like Feb 30 will throw DateTimeParseException.
-     */
-    private static LocalDate parseMonthDayWithYear(String dateStr, DateTimeFormatter formatter, int year)
-            throws DateTimeParseException {
-        // Parse the month and day from the string
-        java.time.temporal.TemporalAccessor accessor = formatter.parse(dateStr);
+        private boolean accept(char c) {
+            if (pos < end && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
 
-        int month = accessor.get(java.time.temporal.ChronoField.MONTH_OF_YEAR);
-        int day = accessor.get(java.time.temporal.ChronoField.DAY_OF_MONTH);
+        private char peek() {
+            return pos < end ? text.charAt(pos) : '\0';
+        }
 
-        // Create the date with the inferred year
-        return LocalDate.of(year, month, day);
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
     }
 
     /**
-     * Returns the current date and time with the default time (23:59).
+     * Returns the current date, as read when this parser was created, with the default time (23:59).
      * This is useful for commands that want to default to "today" when no date is specified.
      *
      * @return LocalDateTime representing today at 23:59
      */
-    public static LocalDateTime getDefaultDateTime() {
-        return LocalDateTime.of(LocalDate.now(), DEFAULT_TIME);
+    public LocalDateTime getDefaultDateTime() {
+        return LocalDateTime.of(today, DEFAULT_TIME);
     }
 
     /**
@@ -2,6 +2,7 @@ package seedu.job.logic.parser;
 
 import static seedu.job.logic.JobMessages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.io.BufferedReader;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -11,13 +12,18 @@ import seedu.job.logic.jobcommands.AddJobCommand;
 import seedu.job.logic.jobcommands.Command;
 import seedu.job.logic.jobcommands.DeleteJobCommand;
 import seedu.job.logic.jobcommands.ExitCommand;
+import seedu.job.logic.jobcommands.ExportCommand;
 import seedu.job.logic.jobcommands.FilterCommand;
 import seedu.job.logic.jobcommands.FindCommand;
 import seedu.job.logic.jobcommands.HelpCommand;
+import seedu.job.logic.jobcommands.ImportCommand;
 import seedu.job.logic.jobcommands.ListCommand;
+import seedu.job.logic.jobcommands.RunCommand;
 import seedu.job.logic.jobcommands.SortCommand;
+import seedu.job.logic.jobcommands.StatsCommand;
 import seedu.job.logic.jobcommands.TagJobCommand;
 import seedu.job.logic.jobcommands.UntagJobCommand;
+import seedu.job.logic.jobcommands.UpcomingCommand;
 import seedu.job.logic.jobcommands.UpdateJobCommand;
 import seedu.job.logic.parser.exceptions.ParseException;
 
@@ -32,6 +38,24 @@ public class JobBookCommandParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(JobBookCommandParser.class);
 
+    /** The reader of standard input, or null if a script cannot be read from it. */
+    private final BufferedReader standardInput;
+
+    /**
+     * Creates a {@code JobBookCommandParser} that rejects a script read from standard input.
+     */
+    public JobBookCommandParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a {@code JobBookCommandParser} that reads the script of {@code run -} from the lines left in
+     * {@code standardInput}, or rejects it if {@code standardInput} is null.
+     */
+    public JobBookCommandParser(BufferedReader standardInput) {
+        this.standardInput = standardInput;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -77,7 +101,7 @@ public class JobBookCommandParser {
             return new ExitCommand();
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
@@ -85,6 +109,21 @@ public class JobBookCommandParser {
         case UpdateJobCommand.COMMAND_WORD:
             return new UpdateCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case UpcomingCommand.COMMAND_WORD:
+            return new UpcomingCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(standardInput).parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
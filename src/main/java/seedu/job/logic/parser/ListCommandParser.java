@@ -0,0 +1,21 @@
+package seedu.job.logic.parser;
+
+import seedu.job.logic.jobcommands.ListCommand;
+import seedu.job.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements JobParser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Arguments other than the page options are ignored.
+     * @throws ParseException if the page options do not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        return new ListCommand(PagedArguments.parse(args).getPage());
+    }
+
+}
@@ -0,0 +1,101 @@
+package seedu.job.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.job.commons.util.StringUtil;
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.Page;
+
+/**
+ * The arguments of a command that lists job applications, with the {@code --limit COUNT} and {@code --page PAGE}
+ * options choosing the page of results to show taken out of them.
+ * A limit without a page shows the first page, and a page without a limit has {@link #DEFAULT_LIMIT} applications.
+ */
+class PagedArguments {
+
+    public static final String OPTION_LIMIT = "--limit";
+    public static final String OPTION_PAGE = "--page";
+    public static final int DEFAULT_LIMIT = 20;
+
+    public static final String MESSAGE_INVALID_LIMIT =
+            OPTION_LIMIT + " must be followed by a positive number of applications to show.";
+    public static final String MESSAGE_INVALID_PAGE = OPTION_PAGE + " must be followed by a positive page number.";
+
+    private static final Pattern OPTION_FORMAT = Pattern.compile("(?:^|\\s)(--limit|--page)(?=\\s|$)\\s*(\\S*)");
+
+    private final String arguments;
+    private final Page page;
+
+    private PagedArguments(String arguments, Page page) {
+        this.arguments = arguments;
+        this.page = page;
+    }
+
+    /**
+     * Takes the page options out of {@code args}.
+     * @throws ParseException if an option is given more than once, or without a positive number after it.
+     */
+    public static PagedArguments parse(String args) throws ParseException {
+        requireNonNull(args);
+        String limit = null;
+        String pageNumber = null;
+        StringBuilder arguments = new StringBuilder();
+
+        Matcher matcher = OPTION_FORMAT.matcher(args);
+        int end = 0;
+        while (matcher.find()) {
+            arguments.append(args, end, matcher.start());
+            end = matcher.end();
+
+            String option = matcher.group(1);
+            String value = matcher.group(2);
+            if (option.equals(OPTION_LIMIT)) {
+                checkNotDuplicate(limit, option);
+                limit = parsePositiveNumber(value, MESSAGE_INVALID_LIMIT);
+            } else {
+                checkNotDuplicate(pageNumber, option);
+                pageNumber = parsePositiveNumber(value, MESSAGE_INVALID_PAGE);
+            }
+        }
+        arguments.append(args.substring(end));
+
+        if (limit == null && pageNumber == null) {
+            return new PagedArguments(args, Page.ALL);
+        }
+        Page page = new Page(pageNumber == null ? 1 : Integer.parseInt(pageNumber),
+                limit == null ? DEFAULT_LIMIT : Integer.parseInt(limit));
+        return new PagedArguments(arguments.toString(), page);
+    }
+
+    private static void checkNotDuplicate(String previousValue, String option) throws ParseException {
+        if (previousValue != null) {
+            throw new ParseException(JobMessages.MESSAGE_DUPLICATE_FIELDS + option);
+        }
+    }
+
+    private static String parsePositiveNumber(String value, String errorMessage) throws ParseException {
+        if (!StringUtil.isNonZeroUnsignedInteger(value)) {
+            throw new ParseException(errorMessage);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the arguments other than the page options.
+     */
+    public String getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns the page chosen by the options, or {@link Page#ALL} if there were none.
+     */
+    public Page getPage() {
+        return page;
+    }
+
+}
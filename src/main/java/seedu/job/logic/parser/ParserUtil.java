@@ -2,12 +2,17 @@ package seedu.job.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import seedu.job.commons.core.StorageFormat;
 import seedu.job.commons.core.index.Index;
+import seedu.job.commons.util.FileUtil;
 import seedu.job.commons.util.StringUtil;
 import seedu.job.logic.parser.exceptions.ParseException;
 import seedu.job.model.tag.Tag;
@@ -18,6 +23,10 @@ import seedu.job.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATA_FILE_PATH =
+            "File path is invalid or does not end with .json or .bin.";
+    public static final String MESSAGE_INVALID_DEADLINE_FORMAT = "Invalid deadline format. Supported formats: "
+            + String.join(", ", FlexibleDateTimeParser.getSupportedFormatsExamples());
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -59,6 +68,47 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String filePath} into the {@code Path} of a data file whose {@link StorageFormat} is given by
+     * its extension. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is invalid or has no supported extension.
+     */
+    public static Path parseDataFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_DATA_FILE_PATH);
+        }
+        Path path = Paths.get(trimmedFilePath);
+        if (StorageFormat.fromFilePath(path).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_DATA_FILE_PATH);
+        }
+        return path;
+    }
+
+    /**
+     * Parses a {@code String deadline} in any of the formats of {@link FlexibleDateTimeParser} into a
+     * {@code LocalDateTime} using {@code dateTimeParser}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code deadline} has no supported format, or names a date that does not
+     *     exist.
+     */
+    public static LocalDateTime parseDeadline(String deadline, FlexibleDateTimeParser dateTimeParser)
+            throws ParseException {
+        requireNonNull(deadline);
+        requireNonNull(dateTimeParser);
+        FlexibleDateTimeParser.Result result = dateTimeParser.tryParse(deadline);
+        if (result.isSuccess()) {
+            return result.getDateTime();
+        }
+
+        if (result.getErrorKind() == FlexibleDateTimeParser.ErrorKind.INVALID_DATE) {
+            throw new ParseException(result.getErrorMessage());
+        }
+        throw new ParseException(MESSAGE_INVALID_DEADLINE_FORMAT);
+    }
+
     /**
      * Validates that the given {@code deadline} is not in the past.
      *
@@ -66,8 +116,20 @@ public class ParserUtil {
      * @throws ParseException if the deadline is in the past.
      */
     public static void validateDeadlineNotInPast(LocalDateTime deadline) throws ParseException {
+        validateDeadlineNotInPast(deadline, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Validates that the given {@code deadline} is not before the current time according to {@code clock}.
+     *
+     * @param deadline The deadline to validate.
+     * @param clock The clock to read the current time from.
+     * @throws ParseException if the deadline is in the past.
+     */
+    public static void validateDeadlineNotInPast(LocalDateTime deadline, Clock clock) throws ParseException {
         requireNonNull(deadline);
-        if (deadline.isBefore(LocalDateTime.now())) {
+        requireNonNull(clock);
+        if (deadline.isBefore(LocalDateTime.now(clock))) {
             throw new ParseException("Deadline cannot be in the past. Please provide a future date and time.");
         }
     }
@@ -0,0 +1,164 @@
+package seedu.job.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.job.commons.util.FileUtil;
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.jobcommands.Command;
+import seedu.job.logic.jobcommands.ExitCommand;
+import seedu.job.logic.jobcommands.RunCommand;
+import seedu.job.logic.jobcommands.RunCommand.ScriptLine;
+import seedu.job.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object, reading and parsing every line of the script
+ * before any of it is run. The script is read from a file, or, if its path is {@code -}, from the standard input
+ * given to the parser, which only the headless app gives.
+ */
+public class RunCommandParser implements JobParser<RunCommand> {
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "Script not found: %1$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_SCRIPT_INVALID = "The script was not run, as these lines could not be parsed:";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script.";
+    public static final String MESSAGE_NO_STANDARD_INPUT =
+            "A script can only be read from standard input when running with --headless.";
+    public static final String STANDARD_INPUT = "-";
+    public static final String STANDARD_INPUT_SOURCE = "standard input";
+
+    private static final String COMMENT_START = "#";
+    private static final Pattern NO_ROLLBACK_FORMAT =
+            Pattern.compile("(?:^|\\s)" + RunCommand.OPTION_NO_ROLLBACK + "(?=\\s|$)");
+
+    /** The reader of standard input, or null if a script cannot be read from it. */
+    private final BufferedReader standardInput;
+
+    /**
+     * Creates a {@code RunCommandParser} that rejects {@code run -}.
+     */
+    public RunCommandParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a {@code RunCommandParser} reading the script of {@code run -} from the lines left in
+     * {@code standardInput}, or rejecting {@code run -} if it is null.
+     */
+    public RunCommandParser(BufferedReader standardInput) {
+        this.standardInput = standardInput;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read, or
+     *     any line of the script cannot be parsed.
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Matcher matcher = NO_ROLLBACK_FORMAT.matcher(args);
+        boolean isRollbackOnError = !matcher.find();
+        if (!isRollbackOnError && matcher.find()) {
+            throw new ParseException(JobMessages.MESSAGE_DUPLICATE_FIELDS + RunCommand.OPTION_NO_ROLLBACK);
+        }
+
+        String filePath = matcher.replaceAll(" ").trim();
+        if (filePath.equals(STANDARD_INPUT)) {
+            if (standardInput == null) {
+                throw new ParseException(MESSAGE_NO_STANDARD_INPUT);
+            }
+            return parseScript(STANDARD_INPUT_SOURCE, readStandardInput(), isRollbackOnError);
+        }
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path path = Paths.get(filePath);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_FOUND, path), e);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, path, e.getMessage()), e);
+        }
+        return parseScript(path.toString(), lines, isRollbackOnError);
+    }
+
+    /**
+     * Reads every line left in standard input, which is left open.
+     */
+    private List<String> readStandardInput() throws ParseException {
+        List<String> lines = new ArrayList<>();
+        try {
+            String line;
+            while ((line = standardInput.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, STANDARD_INPUT_SOURCE, e.getMessage()), e);
+        }
+        return lines;
+    }
+
+    /**
+     * Parses the {@code lines} of a script read from {@code source} into a RunCommand.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @throws ParseException listing every line that cannot be parsed with its line number, if there is any.
+     */
+    public RunCommand parseScript(String source, List<String> lines, boolean isRollbackOnError)
+            throws ParseException {
+        requireNonNull(source);
+        requireNonNull(lines);
+        JobBookCommandParser commandParser = new JobBookCommandParser();
+        List<ScriptLine> scriptLines = new ArrayList<>();
+        StringBuilder errors = new StringBuilder();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i).trim();
+            if (text.isEmpty() || text.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                scriptLines.add(new ScriptLine(lineNumber, parseScriptCommand(commandParser, text)));
+            } catch (ParseException pe) {
+                errors.append('\n').append(String.format(RunCommand.MESSAGE_LINE_FAILED, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (errors.length() > 0) {
+            throw new ParseException(MESSAGE_SCRIPT_INVALID + errors);
+        }
+        return new RunCommand(source, scriptLines, isRollbackOnError);
+    }
+
+    /**
+     * Parses a line of a script, rejecting the commands that only make sense when typed by the user.
+     * A script running a script is rejected before it is parsed, as parsing it would read the other script.
+     */
+    private static Command parseScriptCommand(JobBookCommandParser commandParser, String text)
+            throws ParseException {
+        String commandWord = text.split("\\s", 2)[0];
+        if (commandWord.equals(RunCommand.COMMAND_WORD) || commandWord.equals(ExitCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_NOT_IN_SCRIPT, commandWord));
+        }
+        return commandParser.parseCommand(text);
+    }
+
+}
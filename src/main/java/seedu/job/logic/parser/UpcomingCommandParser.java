@@ -0,0 +1,50 @@
+package seedu.job.logic.parser;
+
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.job.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.Optional;
+
+import seedu.job.logic.jobcommands.UpcomingCommand;
+import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.JobApplication;
+
+/**
+ * Parses input arguments and creates a new UpcomingCommand object
+ */
+public class UpcomingCommandParser implements JobParser<UpcomingCommand> {
+
+    public static final String MESSAGE_INVALID_STATUS =
+            "Invalid status. Upcoming deadlines can only be listed for APPLIED or INPROGRESS";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCommand
+     * and returns an UpcomingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STATUS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS);
+
+        String countStr = argMultimap.getPreamble().trim();
+        if (!countStr.matches("[1-9]\\d{0,8}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+        }
+        int count = Integer.parseInt(countStr);
+
+        Optional<String> statusStr = argMultimap.getValue(PREFIX_STATUS);
+        if (statusStr.isEmpty()) {
+            return new UpcomingCommand(count);
+        }
+        JobApplication.Status status;
+        try {
+            status = JobApplication.Status.valueOf(statusStr.get().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_STATUS, e);
+        }
+        if (status == JobApplication.Status.REJECTED) {
+            throw new ParseException(MESSAGE_INVALID_STATUS);
+        }
+        return new UpcomingCommand(count, status);
+    }
+}
@@ -8,8 +8,8 @@ import static seedu.job.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.job.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -27,6 +27,20 @@ import seedu.job.model.tag.Tag;
  */
 public class UpdateCommandParser implements JobParser<UpdateJobCommand> {
 
+    private final Clock clock;
+
+    public UpdateCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code UpdateCommandParser} that reads the current date and time from {@code clock}.
+     */
+    public UpdateCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
 
     /**
      * Parses the given {@code String} of arguments in the context of the UpdateJobCommand
@@ -67,20 +81,10 @@ public class UpdateCommandParser implements JobParser<UpdateJobCommand> {
             }
         }
         if (argMultimap.getValue(PREFIX_DEADLINE).isPresent()) {
-            try {
-                String deadlineStr = argMultimap.getValue(PREFIX_DEADLINE).get();
-                LocalDateTime deadline = FlexibleDateTimeParser.parse(deadlineStr);
-                ParserUtil.validateDeadlineNotInPast(deadline);
-                updateJobDescriptor.setDeadline(deadline);
-            } catch (DateTimeParseException e) {
-                // Check if the error is due to invalid date (e.g., Feb 30) or invalid format
-                if (e.getMessage() != null && e.getMessage().startsWith("Invalid date:")) {
-                    throw new ParseException(e.getMessage(), e);
-                } else {
-                    String supportedFormats = String.join(", ", FlexibleDateTimeParser.getSupportedFormatsExamples());
-                    throw new ParseException("Invalid deadline format. Supported formats: " + supportedFormats, e);
-                }
-            }
+            LocalDateTime deadline = ParserUtil.parseDeadline(argMultimap.getValue(PREFIX_DEADLINE).get(),
+                    new FlexibleDateTimeParser(clock));
+            ParserUtil.validateDeadlineNotInPast(deadline, clock);
+            updateJobDescriptor.setDeadline(deadline);
         }
 
         parseTagsForUpdate(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(updateJobDescriptor::setTags);
@@ -0,0 +1,138 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that accepts a JobApplication only if all of its operands accept it.
+ *
+ * <p>When looking up its matches in a {@link JobApplicationIndex}, the operands are planned by their estimated number
+ * of matches: only the most selective indexed operand is looked up in the index, and the remaining operands are
+ * tested against its matches as a residual filter, most selective first.
+ */
+public class AndPredicate implements IndexedPredicate {
+    private final List<Predicate<JobApplication>> operands;
+
+    /**
+     * Constructs an AndPredicate over the specified operands.
+     *
+     * @param operands the predicates that must all accept a job application
+     */
+    public AndPredicate(List<Predicate<JobApplication>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    /**
+     * Tests whether all the operands accept the given JobApplication.
+     *
+     * @param jobApplication the JobApplication to test
+     * @return {@code true} if every operand accepts the job application, {@code false} otherwise
+     */
+    @Override
+    public boolean test(JobApplication jobApplication) {
+        for (Predicate<JobApplication> operand : operands) {
+            if (!operand.test(jobApplication)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the matches of the most selective indexed operand in {@code index}, and keeps those accepted by the
+     * remaining operands. If no operand is indexed, every application in {@code index} is tested.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications accepted by every operand
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        List<Predicate<JobApplication>> plan = plan(index);
+        Set<JobApplication> candidates;
+        List<Predicate<JobApplication>> residual;
+        if (!plan.isEmpty() && plan.get(0) instanceof IndexedPredicate) {
+            candidates = ((IndexedPredicate) plan.get(0)).findMatches(index);
+            residual = plan.subList(1, plan.size());
+        } else {
+            candidates = index.getApplications();
+            residual = plan;
+        }
+
+        Set<JobApplication> matches = new HashSet<>();
+        for (JobApplication candidate : candidates) {
+            if (residual.stream().allMatch(operand -> operand.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the operands in the order they should be evaluated: the indexed operands from the fewest to the most
+     * estimated matches, followed by the operands that can only be tested.
+     */
+    List<Predicate<JobApplication>> plan(JobApplicationIndex index) {
+        Map<Predicate<JobApplication>, Integer> estimates = new IdentityHashMap<>();
+        List<Predicate<JobApplication>> indexedOperands = new ArrayList<>();
+        List<Predicate<JobApplication>> testedOperands = new ArrayList<>();
+        for (Predicate<JobApplication> operand : operands) {
+            if (operand instanceof IndexedPredicate) {
+                estimates.put(operand, ((IndexedPredicate) operand).estimateMatches(index));
+                indexedOperands.add(operand);
+            } else {
+                testedOperands.add(operand);
+            }
+        }
+        indexedOperands.sort(Comparator.comparingInt(estimates::get));
+        indexedOperands.addAll(testedOperands);
+        return indexedOperands;
+    }
+
+    /**
+     * Estimates the matches as those of the most selective indexed operand.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        int estimate = index.size();
+        for (Predicate<JobApplication> operand : operands) {
+            if (operand instanceof IndexedPredicate) {
+                estimate = Math.min(estimate, ((IndexedPredicate) operand).estimateMatches(index));
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+        AndPredicate otherPredicate = (AndPredicate) other;
+
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.job.commons.util.PrefixTrie;
+import seedu.job.model.tag.Tag;
+
+/**
+ * Tries of the company names, roles and tag names of job applications, to complete them from a prefix.
+ */
+public class CompletionIndex implements SecondaryIndex {
+
+    private final Map<CompletionField, PrefixTrie> completionTries = new EnumMap<>(CompletionField.class);
+
+    /**
+     * The fields of a job application whose values can be completed from a prefix.
+     */
+    public enum CompletionField {
+        COMPANY_NAME, ROLE, TAG
+    }
+
+    CompletionIndex() {
+        for (CompletionField field : CompletionField.values()) {
+            completionTries.put(field, new PrefixTrie());
+        }
+    }
+
+    @Override
+    public void add(JobApplication application) {
+        completionTries.get(CompletionField.COMPANY_NAME).add(application.getCompanyName());
+        completionTries.get(CompletionField.ROLE).add(application.getRole());
+        for (Tag tag : application.getTags()) {
+            completionTries.get(CompletionField.TAG).add(tag.tagName);
+        }
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        completionTries.get(CompletionField.COMPANY_NAME).remove(application.getCompanyName());
+        completionTries.get(CompletionField.ROLE).remove(application.getRole());
+        for (Tag tag : application.getTags()) {
+            completionTries.get(CompletionField.TAG).remove(tag.tagName);
+        }
+    }
+
+    @Override
+    public void clear() {
+        completionTries.values().forEach(PrefixTrie::clear);
+    }
+
+    /**
+     * Returns up to {@code limit} of the distinct values of {@code field} starting with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireNonNull(field);
+        return completionTries.get(field).complete(prefix, limit);
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Indexes job applications by their deadline, in deadline order.
+ */
+public class DeadlineIndex implements SecondaryIndex {
+
+    private static final Comparator<JobApplication> SAME_DEADLINE_ORDER =
+            Comparator.comparing(JobApplication::getCompanyName).thenComparing(JobApplication::getRole);
+
+    private final NavigableMap<LocalDateTime, Set<JobApplication>> byDeadline = new TreeMap<>();
+
+    @Override
+    public void add(JobApplication application) {
+        byDeadline.computeIfAbsent(application.getDeadline(), key -> new HashSet<>()).add(application);
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        Set<JobApplication> applications = byDeadline.get(application.getDeadline());
+        if (applications != null && applications.remove(application) && applications.isEmpty()) {
+            byDeadline.remove(application.getDeadline());
+        }
+    }
+
+    @Override
+    public void clear() {
+        byDeadline.clear();
+    }
+
+    /**
+     * Returns the applications with a deadline from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public Set<JobApplication> getApplicationsWithDeadlineBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        Set<JobApplication> matches = new HashSet<>();
+        if (from.isBefore(to)) {
+            byDeadline.subMap(from, true, to, false).values().forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of applications with a deadline from {@code from} (inclusive) to {@code to} (exclusive),
+     * without collecting them.
+     */
+    public int countApplicationsWithDeadlineBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int count = 0;
+        if (from.isBefore(to)) {
+            for (Set<JobApplication> applications : byDeadline.subMap(from, true, to, false).values()) {
+                count += applications.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the applications with a deadline on {@code date}.
+     */
+    public Set<JobApplication> getApplicationsWithDeadlineOn(LocalDate date) {
+        requireNonNull(date);
+        return getApplicationsWithDeadlineBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns up to {@code count} of the applications accepted by {@code filter} with the earliest deadlines from
+     * {@code from} (inclusive), from the earliest deadline to the latest. Applications with the same deadline are
+     * ordered by company name and then role. Only the deadlines up to the last returned application are visited.
+     */
+    public List<JobApplication> getApplicationsDueFrom(LocalDateTime from, int count,
+            Predicate<JobApplication> filter) {
+        requireNonNull(from);
+        requireNonNull(filter);
+        List<JobApplication> applications = new ArrayList<>();
+        for (Set<JobApplication> sameDeadline : byDeadline.tailMap(from, true).values()) {
+            if (applications.size() >= count) {
+                break;
+            }
+            sameDeadline.stream()
+                    .filter(filter)
+                    .sorted(SAME_DEADLINE_ORDER)
+                    .limit(count - applications.size())
+                    .forEach(applications::add);
+        }
+        return applications;
+    }
+
+}
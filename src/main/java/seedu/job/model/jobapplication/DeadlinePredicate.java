@@ -1,14 +1,17 @@
 package seedu.job.model.jobapplication;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * A predicate that tests whether a JobApplication's deadline matches a specified date.
  * This predicate is used to filter job applications by their deadline date.
  */
-public class DeadlinePredicate implements Predicate<JobApplication> {
+public class DeadlinePredicate implements IndexedPredicate {
     private final LocalDate date;
+    private final LocalDateTime startOfDate;
+    private final LocalDateTime startOfNextDate;
 
     /**
      * Constructs a DeadlinePredicate with the specified date.
@@ -18,6 +21,8 @@ public class DeadlinePredicate implements Predicate<JobApplication> {
      */
     public DeadlinePredicate(LocalDate date) {
         this.date = date;
+        this.startOfDate = date.atStartOfDay();
+        this.startOfNextDate = date.plusDays(1).atStartOfDay();
     }
 
     /**
@@ -29,7 +34,27 @@ public class DeadlinePredicate implements Predicate<JobApplication> {
      */
     @Override
     public boolean test(JobApplication jobApplication) {
-        return jobApplication.getDeadline().toLocalDate().equals(date);
+        LocalDateTime deadline = jobApplication.getDeadline();
+        return !deadline.isBefore(startOfDate) && deadline.isBefore(startOfNextDate);
+    }
+
+    /**
+     * Looks up the job applications with a deadline on the predicate's date in {@code index}.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications whose deadline falls on the predicate's date
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        return index.getDeadlineIndex().getApplicationsWithDeadlineBetween(startOfDate, startOfNextDate);
+    }
+
+    /**
+     * Counts the job applications with a deadline on the predicate's date in {@code index}, without collecting them.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        return index.getDeadlineIndex().countApplicationsWithDeadlineBetween(startOfDate, startOfNextDate);
     }
 
     /**
@@ -52,4 +77,9 @@ public class DeadlinePredicate implements Predicate<JobApplication> {
 
         return date.equals(otherPredicate.date);
     }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
 }
@@ -0,0 +1,122 @@
+package seedu.job.model.jobapplication;
+
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that tests whether a JobApplication's deadline falls within a range of time.
+ * The range includes its start and excludes its end.
+ */
+public class DeadlineRangePredicate implements IndexedPredicate {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs a DeadlineRangePredicate matching deadlines from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param from the earliest deadline that matches
+     * @param to the first deadline after the range
+     */
+    public DeadlineRangePredicate(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns a DeadlineRangePredicate matching deadlines before the start of {@code date}.
+     */
+    public static DeadlineRangePredicate before(LocalDate date) {
+        return new DeadlineRangePredicate(LocalDateTime.MIN, date.atStartOfDay());
+    }
+
+    /**
+     * Returns a DeadlineRangePredicate matching deadlines after the end of {@code date}.
+     */
+    public static DeadlineRangePredicate after(LocalDate date) {
+        return new DeadlineRangePredicate(date.plusDays(1).atStartOfDay(), LocalDateTime.MAX);
+    }
+
+    /**
+     * Returns a DeadlineRangePredicate matching deadlines from the start of {@code from} to the end of {@code to}.
+     */
+    public static DeadlineRangePredicate between(LocalDate from, LocalDate to) {
+        return new DeadlineRangePredicate(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns a DeadlineRangePredicate matching deadlines from the start of {@code today} to the end of the day
+     * {@code days} days after it.
+     */
+    public static DeadlineRangePredicate nextDays(LocalDate today, int days) {
+        return between(today, today.plusDays(days));
+    }
+
+    /**
+     * Tests whether the given JobApplication's deadline falls within the range.
+     *
+     * @param jobApplication the JobApplication to test
+     * @return {@code true} if the job application's deadline is within the range, {@code false} otherwise
+     */
+    @Override
+    public boolean test(JobApplication jobApplication) {
+        LocalDateTime deadline = jobApplication.getDeadline();
+        return !deadline.isBefore(from) && deadline.isBefore(to);
+    }
+
+    /**
+     * Looks up the job applications with a deadline within the range in {@code index}.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications whose deadline falls within the range
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        return index.getDeadlineIndex().getApplicationsWithDeadlineBetween(from, to);
+    }
+
+    /**
+     * Counts the job applications with a deadline within the range in {@code index}, without collecting them.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        return index.getDeadlineIndex().countApplicationsWithDeadlineBetween(from, to);
+    }
+
+    /**
+     * Compares this DeadlineRangePredicate with another object for equality.
+     * Two DeadlineRangePredicates are considered equal if they have the same range.
+     *
+     * @param other the object to compare with
+     * @return {@code true} if the given object is a DeadlineRangePredicate with the same range,
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DeadlineRangePredicate)) {
+            return false;
+        }
+        DeadlineRangePredicate otherPredicate = (DeadlineRangePredicate) other;
+
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -0,0 +1,494 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of the job applications of a newest-first list that are accepted by a filter, in the order of
+ * that list, or of a given list of them, in the given order. A window of the view can be set, e.g. one page, so that
+ * only the at most {@code limit} applications starting at {@code offset} are shown. Until any of these is set, the view
+ * is the whole list and passes its changes on unchanged.
+ *
+ * <p>The matches of a filter are held as the {@link StoredOrder} slots of the accepted applications, so they are
+ * listed in stored order by walking the slots down, without testing the applications that are not accepted. The
+ * matches of an {@link IndexedPredicate} are taken from the result of looking it up in the index, through an
+ * {@link IndexedFilterCache} of the recently used ones, and only the applications added or replaced afterwards are
+ * tested against it. Any other filter is tested against every application when it is set. Either way, a window is
+ * listed by walking the slots down from the top only until it is filled, and the number of matches is counted from
+ * the slots without listing them.
+ *
+ * <p>Each change of the list is reported as the changes it makes to the applications shown, so that the selection and
+ * the scroll position of a list showing this view are kept. Without a window, the applications shown are patched one
+ * slot at a time; with one, the window is listed again and compared with the one shown before.
+ */
+class DisplayedApplicationList extends TransformationList<JobApplication, JobApplication>
+        implements StoredOrder.Listener {
+
+    static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final StoredOrder storedOrder;
+    private final IndexedFilterCache filterCache;
+
+    /** The filter, or null while there is none. */
+    private Predicate<JobApplication> predicate;
+    /** The slots of the applications accepted by the filter, kept only while there is one. */
+    private BitSet matches;
+    /** True if the matches are patched here rather than by the cache. */
+    private boolean isPatchingMatches;
+    /** True while given applications are shown, in the order they are given. */
+    private boolean isListed;
+    private int offset;
+    private int limit = NO_LIMIT;
+    /** The applications shown, kept only while not every application is. */
+    private List<JobApplication> shownApplications;
+    /** True if the list has been numbered again since the change being reported began. */
+    private boolean isRenumbered;
+
+    /**
+     * Creates a view of {@code source}, which must be newest first, that looks up the matches of indexed filters in
+     * {@code index}.
+     */
+    DisplayedApplicationList(ObservableList<JobApplication> source, JobApplicationIndex index) {
+        super(source);
+        requireNonNull(index);
+        storedOrder = new StoredOrder(source);
+        filterCache = new IndexedFilterCache(index, storedOrder, IndexedFilterCache.DEFAULT_CAPACITY);
+        // The cache patches its matches before this view lists them.
+        storedOrder.addListener(filterCache);
+        storedOrder.addListener(this);
+    }
+
+    /**
+     * Shows all the applications accepted by {@code predicate}.
+     */
+    void setPredicate(Predicate<JobApplication> predicate) {
+        setPredicate(predicate, 0, NO_LIMIT);
+    }
+
+    /**
+     * Shows the at most {@code limit} applications accepted by {@code predicate} starting at {@code offset}.
+     */
+    void setPredicate(Predicate<JobApplication> predicate, int offset, int limit) {
+        requireNonNull(predicate);
+        checkWindow(offset, limit);
+        List<? extends JobApplication> removed = getShown();
+        this.predicate = predicate;
+        isListed = false;
+        this.offset = offset;
+        this.limit = limit;
+        findMatches();
+        shownApplications = listShown();
+        fireReplaced(removed);
+    }
+
+    /**
+     * Shows exactly {@code applications}, in the given order, with no window. An application that is later removed
+     * from the source is no longer shown, and one that is replaced in place is shown as its replacement.
+     *
+     * @throws IllegalArgumentException if an application is not in the source.
+     */
+    void setApplications(List<JobApplication> applications) {
+        requireNonNull(applications);
+        for (JobApplication application : applications) {
+            if (storedOrder.getSlot(application) < 0) {
+                throw new IllegalArgumentException("Not in the list: " + application);
+            }
+        }
+
+        List<? extends JobApplication> removed = getShown();
+        clearPredicate();
+        isListed = true;
+        offset = 0;
+        limit = NO_LIMIT;
+        shownApplications = new ArrayList<>(applications);
+        fireReplaced(removed);
+    }
+
+    /**
+     * Shows every application again, with no window.
+     */
+    void showAll() {
+        showAll(0, NO_LIMIT);
+    }
+
+    /**
+     * Shows the at most {@code limit} applications of the source starting at {@code offset}.
+     */
+    void showAll(int offset, int limit) {
+        checkWindow(offset, limit);
+        if (predicate == null && !isListed && offset == this.offset && limit == this.limit) {
+            return;
+        }
+
+        List<? extends JobApplication> removed = getShown();
+        clearPredicate();
+        isListed = false;
+        this.offset = offset;
+        this.limit = limit;
+        shownApplications = isWindowed() ? listShown() : null;
+        fireReplaced(removed);
+    }
+
+    /**
+     * Returns the applications shown, to be reported as removed when they are replaced. While every application is
+     * shown, this is the source itself, which does not change while the replacement is reported.
+     */
+    private List<? extends JobApplication> getShown() {
+        return shownApplications != null ? shownApplications : getSource();
+    }
+
+    private static void checkWindow(int offset, int limit) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("Invalid window: offset " + offset + ", limit " + limit);
+        }
+    }
+
+    private boolean isWindowed() {
+        return offset != 0 || limit != NO_LIMIT;
+    }
+
+    /**
+     * Returns true if the applications shown are patched one slot at a time as the source changes.
+     */
+    private boolean isPatchingShown() {
+        return shownApplications != null && !isWindowed();
+    }
+
+    private void clearPredicate() {
+        predicate = null;
+        matches = null;
+        isPatchingMatches = false;
+    }
+
+    /**
+     * Returns the number of applications shown without a window.
+     */
+    int getTotalSize() {
+        if (predicate != null) {
+            return matches.cardinality();
+        }
+        if (isListed) {
+            return shownApplications.size();
+        }
+        return getSource().size();
+    }
+
+    /**
+     * Returns a comparator putting the applications of the source in its order, newest first.
+     */
+    Comparator<JobApplication> newestFirst() {
+        return Comparator.comparingInt((JobApplication application) -> storedOrder.getSlot(application)).reversed();
+    }
+
+    private void findMatches() {
+        isPatchingMatches = !(predicate instanceof IndexedPredicate);
+        if (!isPatchingMatches) {
+            matches = filterCache.getMatches((IndexedPredicate) predicate);
+            return;
+        }
+
+        matches = new BitSet(storedOrder.getSlotCount());
+        for (int slot = 0; slot < storedOrder.getSlotCount(); slot++) {
+            if (storedOrder.isUsed(slot) && predicate.test(storedOrder.get(slot))) {
+                matches.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Lists the applications to show, unless given applications are shown, which are never listed again.
+     */
+    private List<JobApplication> listShown() {
+        assert !isListed;
+        if (predicate != null) {
+            return listMatches();
+        }
+        List<? extends JobApplication> applications = getSource();
+        int from = Math.min(offset, applications.size());
+        return new ArrayList<>(applications.subList(from, from + Math.min(applications.size() - from, limit)));
+    }
+
+    /**
+     * Returns the matches in the window, newest first.
+     */
+    private List<JobApplication> listMatches() {
+        List<JobApplication> applications = new ArrayList<>();
+        int skippedCount = 0;
+        int slot = storedOrder.getSlotCount();
+        while (applications.size() < limit) {
+            slot = matches.previousSetBit(slot - 1);
+            if (slot < 0) {
+                break;
+            }
+            if (skippedCount < offset) {
+                skippedCount++;
+            } else {
+                applications.add(storedOrder.get(slot));
+            }
+        }
+        return applications;
+    }
+
+    /**
+     * Returns the position of {@code slot} among the matches, whether or not it is one of them.
+     */
+    private int countMatchesAbove(int slot) {
+        return matches.get(slot + 1, Math.max(slot + 1, storedOrder.getSlotCount())).cardinality();
+    }
+
+    /**
+     * Returns the index of the very element {@code application} in {@code applications}, or -1 if it is not there.
+     */
+    private static int indexOfSame(List<JobApplication> applications, JobApplication application) {
+        for (int i = 0; i < applications.size(); i++) {
+            if (applications.get(i) == application) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public JobApplication get(int index) {
+        if (shownApplications == null) {
+            return getSource().get(index);
+        }
+        return shownApplications.get(index);
+    }
+
+    @Override
+    public int size() {
+        if (shownApplications == null) {
+            return getSource().size();
+        }
+        return shownApplications.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        if (shownApplications == null) {
+            return index;
+        }
+        if (predicate == null && !isListed) {
+            return offset + index;
+        }
+        return storedOrder.indexOf(storedOrder.getSlot(shownApplications.get(index)));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (shownApplications == null) {
+            return Objects.checkIndex(index, size());
+        }
+        JobApplication application = getSource().get(index);
+        if (isListed) {
+            return indexOfSame(shownApplications, application);
+        }
+        int unwindowedIndex = index;
+        if (predicate != null) {
+            int slot = storedOrder.getSlot(application);
+            unwindowedIndex = matches.get(slot) ? countMatchesAbove(slot) : -1;
+        }
+        int viewIndex = unwindowedIndex - offset;
+        return unwindowedIndex >= 0 && viewIndex >= 0 && viewIndex < size() ? viewIndex : -1;
+    }
+
+    @Override
+    public void onSlotAssigned(int slot, JobApplication application) {
+        if (isPatchingMatches && predicate.test(application)) {
+            matches.set(slot);
+        }
+        if (isPatchingShown() && predicate != null && matches.get(slot)) {
+            int index = countMatchesAbove(slot);
+            shownApplications.add(index, application);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    @Override
+    public void onSlotFreed(int slot, JobApplication application) {
+        if (isPatchingMatches) {
+            matches.clear(slot);
+        }
+        if (!isPatchingShown()) {
+            return;
+        }
+
+        int index = isListed ? indexOfSame(shownApplications, application) : countMatchesAbove(slot);
+        if (index >= 0 && index < shownApplications.size() && shownApplications.get(index) == application) {
+            shownApplications.remove(index);
+            nextRemove(index, application);
+        }
+    }
+
+    @Override
+    public void onSlotReplaced(int slot, JobApplication replaced, JobApplication application) {
+        if (isPatchingMatches) {
+            matches.set(slot, predicate.test(application));
+        }
+        if (!isPatchingShown()) {
+            return;
+        }
+
+        int index = isListed ? indexOfSame(shownApplications, replaced) : countMatchesAbove(slot);
+        boolean wasShown = index >= 0 && index < shownApplications.size() && shownApplications.get(index) == replaced;
+        boolean isShown = isListed ? wasShown : matches.get(slot);
+        if (wasShown && isShown) {
+            shownApplications.set(index, application);
+            nextSet(index, replaced);
+        } else if (wasShown) {
+            shownApplications.remove(index);
+            nextRemove(index, replaced);
+        } else if (isShown) {
+            shownApplications.add(index, application);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    @Override
+    public void onRenumbered() {
+        isRenumbered = true;
+        if (predicate != null) {
+            findMatches();
+        }
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends JobApplication> c) {
+        if (shownApplications == null) {
+            storedOrder.update(c);
+            passOn(c);
+            return;
+        }
+
+        beginChange();
+        List<JobApplication> shownBefore = isWindowed() ? shownApplications : null;
+        isRenumbered = false;
+        storedOrder.update(c);
+        if (isWindowed()) {
+            shownApplications = listShown();
+            nextDifference(shownBefore);
+        } else if (isRenumbered && predicate != null) {
+            // The slots held before are out of date, so the matches are listed again.
+            shownBefore = shownApplications;
+            shownApplications = listShown();
+            if (!isSameElements(shownBefore, shownApplications)) {
+                nextRemove(0, shownBefore);
+                nextAdd(0, shownApplications.size());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports each sub-change of the source as the same sub-change of this view, as both have the same indices.
+     */
+    private void passOn(ListChangeListener.Change<? extends JobApplication> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i);
+                }
+                nextPermutation(c.getFrom(), c.getTo(), permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (c.wasReplaced()) {
+                nextReplace(c.getFrom(), c.getTo(), new ArrayList<>(c.getRemoved()));
+            } else if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), new ArrayList<>(c.getRemoved()));
+            } else if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports the change from {@code shownBefore} to the applications shown now as the runs of applications that left
+     * or joined, so that the applications shown both before and after are reported as kept.
+     */
+    private void nextDifference(List<JobApplication> shownBefore) {
+        Map<JobApplication, Integer> indicesBefore = indexBySame(shownBefore);
+        Map<JobApplication, Integer> indicesNow = indexBySame(shownApplications);
+        int before = 0;
+        int now = 0;
+        while (before < shownBefore.size() && now < shownApplications.size()) {
+            JobApplication applicationBefore = shownBefore.get(before);
+            JobApplication applicationNow = shownApplications.get(now);
+            int nowIndexBefore = indicesBefore.getOrDefault(applicationNow, -1);
+            int beforeIndexNow = indicesNow.getOrDefault(applicationBefore, -1);
+            if (applicationBefore == applicationNow) {
+                before++;
+                now++;
+            } else if (nowIndexBefore > before) {
+                nextRemove(now, new ArrayList<>(shownBefore.subList(before, nowIndexBefore)));
+                before = nowIndexBefore;
+            } else if (beforeIndexNow > now) {
+                nextAdd(now, beforeIndexNow);
+                now = beforeIndexNow;
+            } else {
+                nextReplace(now, now + 1, List.of(applicationBefore));
+                before++;
+                now++;
+            }
+        }
+        if (before < shownBefore.size()) {
+            nextRemove(now, new ArrayList<>(shownBefore.subList(before, shownBefore.size())));
+        }
+        if (now < shownApplications.size()) {
+            nextAdd(now, shownApplications.size());
+        }
+    }
+
+    private static Map<JobApplication, Integer> indexBySame(List<JobApplication> applications) {
+        Map<JobApplication, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < applications.size(); i++) {
+            indices.put(applications.get(i), i);
+        }
+        return indices;
+    }
+
+    private void fireReplaced(List<? extends JobApplication> removed) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    /**
+     * Returns true if both lists hold the very same elements in the same order.
+     */
+    private static boolean isSameElements(List<JobApplication> first, List<JobApplication> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
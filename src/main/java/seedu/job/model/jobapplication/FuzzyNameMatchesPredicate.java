@@ -0,0 +1,124 @@
+package seedu.job.model.jobapplication;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.job.commons.util.StringUtil;
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code JobApplication}'s company name or role has a word within a few typing mistakes of any of the
+ * keywords given. The number of mistakes allowed grows with the length of the keyword, see {@link #maxDistance}.
+ */
+public class FuzzyNameMatchesPredicate implements IndexedPredicate {
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
+
+    /**
+     * Constructs a {@code FuzzyNameMatchesPredicate} with the specified keywords.
+     * Empty strings in the keyword list are filtered out.
+     *
+     * @param keywords The list of keywords to match against the words of job application names.
+     */
+    public FuzzyNameMatchesPredicate(List<String> keywords) {
+        this.keywords = keywords.stream()
+                .filter(w -> !w.isEmpty())
+                .collect(Collectors.toList());
+        this.lowerCaseKeywords = this.keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the number of edits by which a word may differ from {@code keyword} and still match it.
+     * Keywords of up to three letters must match exactly, as too many short words are an edit away from them.
+     */
+    static int maxDistance(String keyword) {
+        if (keyword.length() <= 3) {
+            return 0;
+        }
+        return keyword.length() <= 6 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(JobApplication jobApplication) {
+        return distanceTo(jobApplication) != NO_MATCH;
+    }
+
+    /**
+     * Returns the fewest edits between a keyword and a word of the company name or role of {@code jobApplication},
+     * or {@link #NO_MATCH} if no word is close enough to any keyword.
+     */
+    public int distanceTo(JobApplication jobApplication) {
+        int closest = NO_MATCH;
+        for (String word : WordIndex.toWords(jobApplication)) {
+            for (String keyword : lowerCaseKeywords) {
+                int distance = StringUtil.editDistance(keyword, word);
+                if (distance <= maxDistance(keyword) && distance < closest) {
+                    closest = distance;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Looks up the indexed words close enough to any of the keywords in {@code index}, which only compares the
+     * keywords with words sharing some of their trigrams, and takes the union of the applications containing them.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications whose company name or role has a word close enough to any of the keywords
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        return new HashSet<>(findDistances(index).keySet());
+    }
+
+    /**
+     * Looks up the matches in {@code index} as {@link #findMatches} does, along with the fewest edits between a keyword
+     * and a word of each, as {@link #distanceTo} would return. The distances are those of the indexed words found, so
+     * no application is compared with the keywords.
+     */
+    public Map<JobApplication, Integer> findDistances(JobApplicationIndex index) {
+        Map<JobApplication, Integer> distances = new HashMap<>();
+        for (String keyword : lowerCaseKeywords) {
+            index.getTrigramIndex().getWordsWithinDistance(keyword, maxDistance(keyword)).forEach((word, distance) -> {
+                for (JobApplication application : index.getWordIndex().getApplicationsWithWord(word)) {
+                    distances.merge(application, distance, Math::min);
+                }
+            });
+        }
+        return distances;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNameMatchesPredicate)) {
+            return false;
+        }
+
+        FuzzyNameMatchesPredicate otherPredicate = (FuzzyNameMatchesPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
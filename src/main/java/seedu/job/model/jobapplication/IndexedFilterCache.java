@@ -0,0 +1,90 @@
+package seedu.job.model.jobapplication;
+
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least-recently-used cache of the matching positions of the most recently used {@link IndexedPredicate}s, so that
+ * returning to a recent filter does not look its matches up again. The positions are the {@link StoredOrder} slots of
+ * the matches, and equal predicates share them.
+ *
+ * <p>The cached positions are patched as the slots change: an application given a slot, or taking over the slot of
+ * the one it replaces, is tested once against each cached predicate, and a freed slot is cleared. Numbering the list
+ * again discards every cached entry.
+ */
+class IndexedFilterCache implements StoredOrder.Listener {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final JobApplicationIndex index;
+    private final StoredOrder storedOrder;
+    private final Map<IndexedPredicate, BitSet> matchesByPredicate;
+
+    /**
+     * Creates a cache that holds the positions in {@code storedOrder} of the matches of at most {@code capacity}
+     * predicates, looked up in {@code index}. It must be registered as a listener of {@code storedOrder}.
+     */
+    IndexedFilterCache(JobApplicationIndex index, StoredOrder storedOrder, int capacity) {
+        requireAllNonNull(index, storedOrder);
+        assert capacity > 0;
+        this.index = index;
+        this.storedOrder = storedOrder;
+        this.matchesByPredicate = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the slots of the applications accepted by {@code predicate}, reusing the cached slots of an equal
+     * predicate if there are any. The result is kept up to date while it stays cached, and must not be modified.
+     */
+    BitSet getMatches(IndexedPredicate predicate) {
+        return matchesByPredicate.computeIfAbsent(predicate, this::findMatches);
+    }
+
+    private BitSet findMatches(IndexedPredicate predicate) {
+        BitSet matches = new BitSet(storedOrder.getSlotCount());
+        for (JobApplication application : predicate.findMatches(index)) {
+            matches.set(storedOrder.getSlot(application));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of cached predicates.
+     */
+    int size() {
+        return matchesByPredicate.size();
+    }
+
+    @Override
+    public void onSlotAssigned(int slot, JobApplication application) {
+        matchesByPredicate.forEach((predicate, matches) -> {
+            if (predicate.test(application)) {
+                matches.set(slot);
+            }
+        });
+    }
+
+    @Override
+    public void onSlotFreed(int slot, JobApplication application) {
+        matchesByPredicate.values().forEach(matches -> matches.clear(slot));
+    }
+
+    @Override
+    public void onSlotReplaced(int slot, JobApplication replaced, JobApplication application) {
+        matchesByPredicate.forEach((predicate, matches) -> matches.set(slot, predicate.test(application)));
+    }
+
+    @Override
+    public void onRenumbered() {
+        matchesByPredicate.clear();
+    }
+
+}
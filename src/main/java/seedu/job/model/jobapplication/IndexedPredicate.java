@@ -0,0 +1,27 @@
+package seedu.job.model.jobapplication;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on job applications whose matches can be looked up in a {@link JobApplicationIndex} instead of
+ * being tested against every application.
+ */
+public interface IndexedPredicate extends Predicate<JobApplication> {
+
+    /**
+     * Returns the applications in {@code index} that this predicate accepts.
+     * The result must contain exactly the indexed applications for which {@link #test} returns true.
+     */
+    Set<JobApplication> findMatches(JobApplicationIndex index);
+
+    /**
+     * Returns an estimate of the number of applications in {@code index} that this predicate accepts, used to decide
+     * which term of a query to look up first. Implementations should override this when the index can give the
+     * estimate without collecting the matches.
+     */
+    default int estimateMatches(JobApplicationIndex index) {
+        return findMatches(index).size();
+    }
+
+}
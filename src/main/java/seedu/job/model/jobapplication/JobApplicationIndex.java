@@ -0,0 +1,173 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The secondary indexes over the job applications in a {@link JobBook}: by status, by tag, by deadline, by the words
+ * in their company name and role and by the trigrams of those words, along with counts for statistics and tries for
+ * completion. The {@code JobBook} reports every change here, so lookups never need to scan every application.
+ *
+ * <p>Each index is only built the first time it is asked for, from the applications in the {@code JobBook} at that
+ * time, and only the indexes built so far are kept up to date. A {@code JobBook} that is never queried, such as one
+ * that only replays a journal, therefore pays for no index at all.
+ */
+public class JobApplicationIndex {
+
+    /** The applications of the {@code JobBook}, from which an index is built when it is first asked for. */
+    private final Collection<JobApplication> applications;
+    /** The indexes built so far, in the order they were built. */
+    private final List<SecondaryIndex> indexes = new ArrayList<>();
+
+    private StatusIndex statusIndex;
+    private TagIndex tagIndex;
+    private DeadlineIndex deadlineIndex;
+    private WordIndex wordIndex;
+    private TrigramIndex trigramIndex;
+    private StatisticsIndex statisticsIndex;
+    private CompletionIndex completionIndex;
+
+    /**
+     * Creates a {@code JobApplicationIndex} over {@code applications}, which must be told of every change made to
+     * them before they are changed. None of the indexes is built yet.
+     */
+    JobApplicationIndex(Collection<JobApplication> applications) {
+        requireNonNull(applications);
+        this.applications = applications;
+    }
+
+    /**
+     * Adds {@code application} to the indexes built so far.
+     */
+    void add(JobApplication application) {
+        requireNonNull(application);
+        for (SecondaryIndex index : indexes) {
+            index.add(application);
+        }
+    }
+
+    /**
+     * Removes {@code application} from the indexes built so far.
+     */
+    void remove(JobApplication application) {
+        requireNonNull(application);
+        for (SecondaryIndex index : indexes) {
+            index.remove(application);
+        }
+    }
+
+    /**
+     * Replaces the contents of the indexes built so far with {@code applications}.
+     */
+    void setAll(Collection<JobApplication> applications) {
+        for (SecondaryIndex index : indexes) {
+            index.clear();
+            applications.forEach(index::add);
+        }
+    }
+
+    private <T extends SecondaryIndex> T build(T index) {
+        applications.forEach(index::add);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Returns the number of indexes built so far.
+     */
+    int countBuiltIndexes() {
+        return indexes.size() + (trigramIndex == null ? 0 : 1);
+    }
+
+    /**
+     * Returns the number of indexed applications.
+     */
+    public int size() {
+        return applications.size();
+    }
+
+    /**
+     * Returns all the indexed applications.
+     */
+    public Set<JobApplication> getApplications() {
+        return new HashSet<>(applications);
+    }
+
+    /**
+     * Returns the index of the applications by status.
+     */
+    public StatusIndex getStatusIndex() {
+        if (statusIndex == null) {
+            statusIndex = build(new StatusIndex());
+        }
+        return statusIndex;
+    }
+
+    /**
+     * Returns the index of the applications by tag.
+     */
+    public TagIndex getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = build(new TagIndex());
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index of the applications by deadline.
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        if (deadlineIndex == null) {
+            deadlineIndex = build(new DeadlineIndex());
+        }
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the index of the applications by the words of their company name and role.
+     */
+    public WordIndex getWordIndex() {
+        if (wordIndex == null) {
+            wordIndex = build(new WordIndex());
+        }
+        return wordIndex;
+    }
+
+    /**
+     * Returns the index of the words of company names and roles by their trigrams.
+     */
+    public TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            WordIndex words = getWordIndex();
+            trigramIndex = new TrigramIndex(words);
+            words.setTrigramIndex(trigramIndex);
+        }
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the counts of the applications per status, per tag and per deadline week.
+     */
+    public StatisticsIndex getStatisticsIndex() {
+        if (statisticsIndex == null) {
+            statisticsIndex = build(new StatisticsIndex());
+        }
+        return statisticsIndex;
+    }
+
+    /**
+     * Returns the tries of company names, roles and tag names for completion.
+     */
+    public CompletionIndex getCompletionIndex() {
+        if (completionIndex == null) {
+            completionIndex = build(new CompletionIndex());
+        }
+        return completionIndex;
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.job.model.jobapplication;
+
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.model.jobapplication.JobApplication.Status;
+
+/**
+ * Immutable counts of the job applications in a {@link JobBook} per status, per tag and per deadline week.
+ */
+public class JobApplicationStatistics {
+
+    private final Map<Status, Integer> countByStatus;
+    private final SortedMap<String, Integer> countByTag;
+    private final SortedMap<LocalDate, Integer> countByDeadlineWeek;
+
+    /**
+     * Creates a {@code JobApplicationStatistics} with copies of the given counts.
+     * Weeks are identified by their Monday.
+     */
+    public JobApplicationStatistics(Map<Status, Integer> countByStatus, Map<String, Integer> countByTag,
+            Map<LocalDate, Integer> countByDeadlineWeek) {
+        requireAllNonNull(countByStatus, countByTag, countByDeadlineWeek);
+        Map<Status, Integer> statusCounts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            statusCounts.put(status, countByStatus.getOrDefault(status, 0));
+        }
+        this.countByStatus = Collections.unmodifiableMap(statusCounts);
+        this.countByTag = Collections.unmodifiableSortedMap(new TreeMap<>(countByTag));
+        this.countByDeadlineWeek = Collections.unmodifiableSortedMap(new TreeMap<>(countByDeadlineWeek));
+    }
+
+    /**
+     * Returns the total number of job applications.
+     */
+    public int getTotal() {
+        return countByStatus.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the number of job applications with each status, including statuses without any.
+     */
+    public Map<Status, Integer> getCountByStatus() {
+        return countByStatus;
+    }
+
+    /**
+     * Returns the number of job applications with each lower-cased tag name, in order of tag name.
+     */
+    public SortedMap<String, Integer> getCountByTag() {
+        return countByTag;
+    }
+
+    /**
+     * Returns the number of job applications with a deadline in each week, keyed by the Monday of the week.
+     * Weeks without deadlines are left out.
+     */
+    public SortedMap<LocalDate, Integer> getCountByDeadlineWeek() {
+        return countByDeadlineWeek;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JobApplicationStatistics)) {
+            return false;
+        }
+
+        JobApplicationStatistics otherStatistics = (JobApplicationStatistics) other;
+        return countByStatus.equals(otherStatistics.countByStatus)
+                && countByTag.equals(otherStatistics.countByTag)
+                && countByDeadlineWeek.equals(otherStatistics.countByDeadlineWeek);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(countByStatus, countByTag, countByDeadlineWeek);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("countByStatus", countByStatus)
+                .add("countByTag", countByTag)
+                .add("countByDeadlineWeek", countByDeadlineWeek)
+                .toString();
+    }
+}
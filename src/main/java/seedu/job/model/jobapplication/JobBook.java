@@ -1,10 +1,13 @@
 package seedu.job.model.jobapplication;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.model.jobapplication.exceptions.DuplicateJobApplicationException;
+import seedu.job.model.jobapplication.exceptions.JobApplicationNotFoundException;
 import seedu.job.model.jobapplication.sort.SortField;
 import seedu.job.model.jobapplication.sort.SortOrder;
 
@@ -15,6 +18,14 @@ import seedu.job.model.jobapplication.sort.SortOrder;
 public class JobBook implements ReadOnlyJobBook {
 
     private final UniqueApplicationList applications;
+    // Updated before the list, so that listeners of the list see up-to-date indexes.
+    private final JobApplicationIndex applicationIndex;
+    private final List<JobBookChange> pendingChanges = new ArrayList<>();
+    private long modificationCount;
+    /** The steps undoing the changes made since the savepoint, in the order they were made, or null if none is set. */
+    private List<Runnable> undoSteps;
+    private int savepointChangeCount;
+    private long savepointModificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +36,7 @@ public class JobBook implements ReadOnlyJobBook {
      */
     {
         applications = new UniqueApplicationList();
+        applicationIndex = new JobApplicationIndex(applications.asUnmodifiableObservableList());
     }
 
     public JobBook() {}
@@ -35,6 +47,8 @@ public class JobBook implements ReadOnlyJobBook {
     public JobBook(ReadOnlyJobBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        pendingChanges.clear();
+        modificationCount = 0;
     }
 
     //// list overwrite operations
@@ -44,7 +58,26 @@ public class JobBook implements ReadOnlyJobBook {
      * {@code JobApplications} must not contain duplicate JobApplications.
      */
     public void setApplications(List<JobApplication> applications) {
-        this.applications.setJobApplications(applications);
+        Runnable undoStep = undoReset();
+        applicationIndex.setAll(applications);
+        try {
+            this.applications.setJobApplications(applications);
+        } catch (DuplicateJobApplicationException e) {
+            applicationIndex.setAll(this.applications.asUnmodifiableObservableList());
+            throw e;
+        }
+        recordChange(JobBookChange.reset(), undoStep);
+    }
+
+    /**
+     * Replaces the contents of the JobApplication list with {@code JobApplications} without checking them for
+     * duplicates, as they already were when loaded from storage, and takes over their unique keys.
+     */
+    public void setUniqueApplications(UniqueJobApplications applications) {
+        Runnable undoStep = undoReset();
+        applicationIndex.setAll(applications);
+        this.applications.setUniqueJobApplications(applications);
+        recordChange(JobBookChange.reset(), undoStep);
     }
 
     /**
@@ -53,6 +86,14 @@ public class JobBook implements ReadOnlyJobBook {
     public void resetData(ReadOnlyJobBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof JobBook) {
+            // another JobBook cannot contain duplicates
+            Runnable undoStep = undoReset();
+            applicationIndex.setAll(newData.getApplicationList());
+            this.applications.setJobApplications(((JobBook) newData).applications);
+            recordChange(JobBookChange.reset(), undoStep);
+            return;
+        }
         setApplications(newData.getApplicationList());
     }
 
@@ -71,7 +112,14 @@ public class JobBook implements ReadOnlyJobBook {
      * The JobApplication must not already exist in the Job book.
      */
     public void addApplication(JobApplication p) {
+        requireNonNull(p);
+        if (applications.contains(p)) {
+            throw new DuplicateJobApplicationException();
+        }
+
+        applicationIndex.add(p);
         applications.add(p);
+        recordChange(JobBookChange.add(p), () -> removeApplication(0));
     }
 
     /**
@@ -83,7 +131,27 @@ public class JobBook implements ReadOnlyJobBook {
     public void setApplication(JobApplication target, JobApplication editedJobApplication) {
         requireNonNull(editedJobApplication);
 
-        applications.setJobApplication(target, editedJobApplication);
+        setApplication(indexOfExisting(target), editedJobApplication);
+    }
+
+    /**
+     * Replaces the JobApplication at {@code index} of {@link #getApplicationList()} with {@code editedJobApplication}.
+     * The JobApplication identity of {@code editedJobApplication} must not be the same as another existing
+     * JobApplication in the Job book.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public void setApplication(int index, JobApplication editedJobApplication) {
+        requireNonNull(editedJobApplication);
+        JobApplication target = applications.asUnmodifiableObservableList().get(index);
+        if (!target.isSameJobApplication(editedJobApplication) && applications.contains(editedJobApplication)) {
+            throw new DuplicateJobApplicationException();
+        }
+
+        applicationIndex.remove(target);
+        applicationIndex.add(editedJobApplication);
+        applications.setJobApplication(index, editedJobApplication);
+        recordChange(JobBookChange.set(target, editedJobApplication), () -> setApplication(index, target));
     }
 
     /**
@@ -91,15 +159,146 @@ public class JobBook implements ReadOnlyJobBook {
      * {@code key} must exist in the Job book.
      */
     public void removeApplication(JobApplication key) {
-        applications.remove(key);
+        removeApplication(indexOfExisting(key));
     }
 
     /**
-     * Removes {@code key} from this {@code JobBook}.
-     * {@code key} must exist in the Job book.
+     * Removes the JobApplication at {@code index} of {@link #getApplicationList()} from this {@code JobBook}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public void removeApplication(int index) {
+        applicationIndex.remove(applications.asUnmodifiableObservableList().get(index));
+        JobApplication removed = applications.remove(index);
+        recordChange(JobBookChange.delete(removed), () -> {
+            applicationIndex.add(removed);
+            applications.add(index, removed);
+        });
+    }
+
+    /**
+     * Sorts the applications in this {@code JobBook} by {@code field} in the given {@code order}.
      */
     public void sortApplication(SortField field, SortOrder order) {
+        // The order before sorting cannot be told from the change, so it is kept while a savepoint is set
+        List<JobApplication> unsorted = undoSteps == null ? null : new ArrayList<>(getApplicationList());
         applications.sortApplication(field, order);
+        recordChange(JobBookChange.sort(field, order), () -> applications.setJobApplications(unsorted));
+    }
+
+    /**
+     * Returns the index in {@link #getApplicationList()} of the JobApplication equal to {@code application}.
+     *
+     * @throws JobApplicationNotFoundException if there is no such JobApplication.
+     */
+    private int indexOfExisting(JobApplication application) {
+        requireNonNull(application);
+        int index = applications.indexOf(application);
+        if (index == -1) {
+            throw new JobApplicationNotFoundException();
+        }
+        return index;
+    }
+
+    //// indexes
+
+    /**
+     * Returns the secondary indexes over the applications in this {@code JobBook}.
+     */
+    public JobApplicationIndex getApplicationIndex() {
+        return applicationIndex;
+    }
+
+    //// change tracking
+
+    /**
+     * Records {@code change}, which {@code undoStep} undoes if the changes are rolled back to a savepoint.
+     */
+    private void recordChange(JobBookChange change, Runnable undoStep) {
+        pendingChanges.add(change);
+        modificationCount++;
+        if (undoSteps != null) {
+            undoSteps.add(undoStep);
+        }
+    }
+
+    /**
+     * Returns a step restoring the current applications, if a savepoint is set, as a reset cannot be undone from the
+     * change alone.
+     */
+    private Runnable undoReset() {
+        if (undoSteps == null) {
+            return null;
+        }
+        UniqueJobApplications previous = applications.toUniqueJobApplications();
+        return () -> {
+            applicationIndex.setAll(previous);
+            applications.setUniqueJobApplications(previous);
+        };
+    }
+
+    /**
+     * Sets a savepoint, after which the steps undoing each change are kept until the changes are either rolled back
+     * with {@link #rollBackToSavepoint()} or kept with {@link #releaseSavepoint()}.
+     *
+     * @throws IllegalStateException if a savepoint is already set.
+     */
+    public void setSavepoint() {
+        if (undoSteps != null) {
+            throw new IllegalStateException("A savepoint is already set");
+        }
+        undoSteps = new ArrayList<>();
+        savepointChangeCount = pendingChanges.size();
+        savepointModificationCount = modificationCount;
+    }
+
+    /**
+     * Undoes every change made since the savepoint, latest first, and releases it. The undone changes are dropped
+     * from the pending changes and the modification count is restored, so they are as if they were never made.
+     *
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    public void rollBackToSavepoint() {
+        if (undoSteps == null) {
+            throw new IllegalStateException("No savepoint is set");
+        }
+        List<Runnable> steps = undoSteps;
+        // The steps change this JobBook through the usual methods, whose own changes are dropped below
+        undoSteps = null;
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            steps.get(i).run();
+        }
+        pendingChanges.subList(savepointChangeCount, pendingChanges.size()).clear();
+        modificationCount = savepointModificationCount;
+    }
+
+    /**
+     * Keeps the changes made since the savepoint and stops keeping the steps undoing them. Does nothing if no
+     * savepoint is set, e.g. as it was already rolled back.
+     */
+    public void releaseSavepoint() {
+        undoSteps = null;
+    }
+
+    /**
+     * Returns the number of modifications made to this {@code JobBook} since it was created.
+     * The count increases with every change and only goes back when the changes since a savepoint are rolled back,
+     * which restores the data as of that count, so callers can compare two counts to tell whether the data has
+     * changed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the changes applied to this {@code JobBook} since the last call, in the order they were applied,
+     * and clears them.
+     */
+    public List<JobBookChange> takePendingChanges() {
+        assert undoSteps == null : "The changes since a savepoint may still be rolled back";
+        List<JobBookChange> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return changes;
     }
 
     //// util methods
@@ -116,6 +315,14 @@ public class JobBook implements ReadOnlyJobBook {
         return applications.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a copy of {@link #getApplicationList()} that another {@code JobBook} can take over without checking it
+     * for duplicates again.
+     */
+    public UniqueJobApplications toUniqueApplications() {
+        return applications.toUniqueJobApplications();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
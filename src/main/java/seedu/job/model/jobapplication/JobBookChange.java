@@ -0,0 +1,175 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.job.commons.util.ToStringBuilder;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
+
+/**
+ * Represents a single mutation that was applied to a {@code JobBook}.
+ * Changes are recorded in the order they were applied, so that storage can persist them incrementally
+ * and replay them on top of an earlier copy of the data.
+ * Guarantees: immutable; fields required by the change's {@code Type} are present and not null.
+ */
+public class JobBookChange {
+
+    /**
+     * Represents the kind of mutation applied to a {@code JobBook}.
+     */
+    public enum Type {
+        ADD,
+        DELETE,
+        SET,
+        SORT,
+        RESET
+    }
+
+    private final Type type;
+    private final JobApplication target;
+    private final JobApplication editedApplication;
+    private final SortField sortField;
+    private final SortOrder sortOrder;
+
+    private JobBookChange(Type type, JobApplication target, JobApplication editedApplication,
+                          SortField sortField, SortOrder sortOrder) {
+        this.type = type;
+        this.target = target;
+        this.editedApplication = editedApplication;
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * Returns a change that adds {@code application} to the job book.
+     */
+    public static JobBookChange add(JobApplication application) {
+        requireNonNull(application);
+        return new JobBookChange(Type.ADD, application, null, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code application} from the job book.
+     */
+    public static JobBookChange delete(JobApplication application) {
+        requireNonNull(application);
+        return new JobBookChange(Type.DELETE, application, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedApplication}.
+     */
+    public static JobBookChange set(JobApplication target, JobApplication editedApplication) {
+        requireAllNonNull(target, editedApplication);
+        return new JobBookChange(Type.SET, target, editedApplication, null, null);
+    }
+
+    /**
+     * Returns a change that sorts the job book by {@code field} in the given {@code order}.
+     */
+    public static JobBookChange sort(SortField field, SortOrder order) {
+        requireAllNonNull(field, order);
+        return new JobBookChange(Type.SORT, null, null, field, order);
+    }
+
+    /**
+     * Returns a change that replaces the entire contents of the job book.
+     * A reset carries no data, so storage has to save the full list of applications to persist it.
+     */
+    public static JobBookChange reset() {
+        return new JobBookChange(Type.RESET, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the application that was added, deleted or replaced, or null for sorts and resets.
+     */
+    public JobApplication getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the application that replaced the target, or null if this is not a {@code SET} change.
+     */
+    public JobApplication getEditedApplication() {
+        return editedApplication;
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * Applies this change to {@code jobBook}.
+     *
+     * @throws IllegalStateException if this is a {@code RESET} change, which cannot be replayed.
+     * @throws seedu.job.model.jobapplication.exceptions.DuplicateJobApplicationException if the change
+     *     would result in duplicate job applications.
+     * @throws seedu.job.model.jobapplication.exceptions.JobApplicationNotFoundException if the application
+     *     to delete or replace is not in {@code jobBook}.
+     */
+    public void applyTo(JobBook jobBook) {
+        requireNonNull(jobBook);
+        switch (type) {
+        case ADD:
+            jobBook.addApplication(target);
+            break;
+        case DELETE:
+            jobBook.removeApplication(target);
+            break;
+        case SET:
+            jobBook.setApplication(target, editedApplication);
+            break;
+        case SORT:
+            jobBook.sortApplication(sortField, sortOrder);
+            break;
+        default:
+            throw new IllegalStateException("A reset cannot be replayed without the full list of applications");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JobBookChange)) {
+            return false;
+        }
+
+        JobBookChange otherChange = (JobBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(editedApplication, otherChange.editedApplication)
+                && sortField == otherChange.sortField
+                && sortOrder == otherChange.sortOrder;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, editedApplication, sortField, sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("editedApplication", editedApplication)
+                .add("sortField", sortField)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.job.model.jobapplication;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.job.commons.core.GuiSettings;
+import seedu.job.commons.core.index.Index;
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
 import seedu.job.model.jobapplication.sort.SortField;
 import seedu.job.model.jobapplication.sort.SortOrder;
 
@@ -54,6 +58,36 @@ public interface Model {
     /** Returns the JobBook */
     ReadOnlyJobBook getJobBook();
 
+    /**
+     * Returns the changes made to the job book since the last call, in the order they were made, and clears them.
+     */
+    List<JobBookChange> takeJobBookChanges();
+
+    /**
+     * Returns the number of modifications made to the job book so far.
+     * The count increases with every change to the job book, and only goes back to its value at a savepoint when the
+     * changes since then are rolled back.
+     */
+    long getJobBookModificationCount();
+
+    /**
+     * Sets a savepoint in the job book, so that the changes made after it can be rolled back with
+     * {@link #rollBackJobBook()}, until it is released with {@link #releaseJobBookSavepoint()}.
+     * @throws IllegalStateException if a savepoint is already set.
+     */
+    void setJobBookSavepoint();
+
+    /**
+     * Undoes the changes made to the job book since the savepoint, as if they were never made, and releases it.
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    void rollBackJobBook();
+
+    /**
+     * Keeps the changes made to the job book since the savepoint and releases it, if it is still set.
+     */
+    void releaseJobBookSavepoint();
+
     /**
      * Returns true if a application with the same identity as {@code JobApplication} exists in the address book.
      */
@@ -65,6 +99,12 @@ public interface Model {
      */
     void deleteJobApplication(JobApplication target);
 
+    /**
+     * Deletes the JobApplication at {@code index} of the filtered JobApplication list, without searching for it.
+     * {@code index} must be within the bounds of the filtered JobApplication list.
+     */
+    void deleteFilteredJobApplication(Index index);
+
     /**
      * Adds the given JobApplication.
      * {@code JobApplication} must not already exist in the address book.
@@ -85,16 +125,74 @@ public interface Model {
     void setJobApplication(JobApplication target, JobApplication editedJobApplication);
 
     /**
-     * Returns an unmodifiable view of the filtered JobApplication list
+     * Replaces the JobApplication at {@code index} of the filtered JobApplication list with
+     * {@code editedJobApplication}, without searching for it.
+     * {@code index} must be within the bounds of the filtered JobApplication list.
+     * The JobApplication identity of {@code editedJobApplication} must not be the same as another existing
+     * JobApplication in the address book.
+     */
+    void setFilteredJobApplication(Index index, JobApplication editedJobApplication);
+
+    /**
+     * Returns up to {@code count} of the JobApplications accepted by {@code filter} with the soonest deadlines from
+     * {@code from} (inclusive), from the soonest deadline to the latest, without reordering the job book.
+     */
+    List<JobApplication> getUpcomingJobApplications(LocalDateTime from, int count, Predicate<JobApplication> filter);
+
+    /**
+     * Returns the number of JobApplications per status, per tag and per deadline week.
+     */
+    JobApplicationStatistics getJobApplicationStatistics();
+
+    /**
+     * Returns up to {@code limit} of the distinct values of {@code field} among the JobApplications that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> getCompletions(CompletionField field, String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} of the JobApplications accepted by {@code predicate} in the whole job book, whatever
+     * the filter and page shown, the fewest edits from its keywords first and the most recently added first among
+     * those equally close.
+     */
+    List<JobApplication> getClosestJobApplications(FuzzyNameMatchesPredicate predicate, int limit);
+
+    /**
+     * Returns an unmodifiable view of the filtered JobApplication list, or of the page of it last set with
+     * {@link #updateFilteredJobApplicationList(Predicate, Page)}.
      */
     ObservableList<JobApplication> getFilteredApplicationList();
 
     /**
-     * Updates the filter of the filtered JobApplication list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered JobApplication list to filter by the given {@code predicate}, and shows every
+     * JobApplication accepted by it.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredJobApplicationList(Predicate<JobApplication> predicate);
 
+    /**
+     * Updates the filter of the filtered JobApplication list to filter by the given {@code predicate}, and shows only
+     * the JobApplications on {@code page} of those accepted by it. A filter that is not looked up in an index is only
+     * tested against as many JobApplications as it takes to fill the page.
+     * @throws NullPointerException if {@code predicate} or {@code page} is null.
+     */
+    void updateFilteredJobApplicationList(Predicate<JobApplication> predicate, Page page);
+
+    /**
+     * Shows exactly {@code applications}, which must all be in the job book, in the given order until the filter is
+     * next updated, e.g. so that the list is numbered as a command listed them. A JobApplication deleted meanwhile is
+     * no longer shown, and one edited meanwhile is shown edited in the same place.
+     * @throws NullPointerException if {@code applications} is null.
+     * @throws IllegalArgumentException if a JobApplication is not in the job book.
+     */
+    void setFilteredJobApplications(List<JobApplication> applications);
+
+    /**
+     * Returns the number of JobApplications accepted by the filter, on every page. The JobApplications beyond the page
+     * shown are only tested against the filter when this is first asked for.
+     */
+    int getFilteredJobApplicationCount();
+
     /**
      * Sets the recently modified job application for UI highlighting.
      * @param application The recently modified application, or null to clear highlighting.
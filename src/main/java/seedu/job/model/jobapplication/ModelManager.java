@@ -4,13 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.job.commons.core.GuiSettings;
 import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.core.index.Index;
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
 import seedu.job.model.jobapplication.sort.SortField;
 import seedu.job.model.jobapplication.sort.SortOrder;
 
@@ -22,7 +28,7 @@ public class ModelManager implements Model {
 
     private final JobBook jobBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<JobApplication> filteredApplications;
+    private final DisplayedApplicationList displayedApplications;
     private JobApplication recentlyModifiedApplication;
 
     /**
@@ -35,7 +41,10 @@ public class ModelManager implements Model {
 
         this.jobBook = new JobBook(jobBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredApplications = new FilteredList<>(this.jobBook.getApplicationList());
+        // Show the applications accepted by the filter newest first, as they are stored, and only one page of them
+        // when asked to, so that only that page is handed to the UI.
+        displayedApplications = new DisplayedApplicationList(this.jobBook.getApplicationList(),
+                this.jobBook.getApplicationIndex());
     }
 
     public ModelManager() {
@@ -89,6 +98,31 @@ public class ModelManager implements Model {
         return jobBook;
     }
 
+    @Override
+    public List<JobBookChange> takeJobBookChanges() {
+        return jobBook.takePendingChanges();
+    }
+
+    @Override
+    public long getJobBookModificationCount() {
+        return jobBook.getModificationCount();
+    }
+
+    @Override
+    public void setJobBookSavepoint() {
+        jobBook.setSavepoint();
+    }
+
+    @Override
+    public void rollBackJobBook() {
+        jobBook.rollBackToSavepoint();
+    }
+
+    @Override
+    public void releaseJobBookSavepoint() {
+        jobBook.releaseSavepoint();
+    }
+
     @Override
     public boolean hasApplication(JobApplication application) {
         requireNonNull(application);
@@ -100,6 +134,12 @@ public class ModelManager implements Model {
         jobBook.removeApplication(target);
     }
 
+    @Override
+    public void deleteFilteredJobApplication(Index index) {
+        requireNonNull(index);
+        jobBook.removeApplication(toJobBookIndex(index));
+    }
+
     @Override
     public void addJobApplication(JobApplication jobApplication) {
         jobBook.addApplication(jobApplication);
@@ -120,6 +160,50 @@ public class ModelManager implements Model {
         jobBook.setApplication(target, editedApplication);
     }
 
+    @Override
+    public void setFilteredJobApplication(Index index, JobApplication editedApplication) {
+        requireAllNonNull(index, editedApplication);
+
+        jobBook.setApplication(toJobBookIndex(index), editedApplication);
+    }
+
+    /**
+     * Returns the index in {@link JobBook#getApplicationList()} of the application at {@code index} of the filtered
+     * list.
+     */
+    private int toJobBookIndex(Index index) {
+        return displayedApplications.getSourceIndex(index.getZeroBased());
+    }
+
+    @Override
+    public List<JobApplication> getUpcomingJobApplications(LocalDateTime from, int count,
+            Predicate<JobApplication> filter) {
+        requireAllNonNull(from, filter);
+        return jobBook.getApplicationIndex().getDeadlineIndex().getApplicationsDueFrom(from, count, filter);
+    }
+
+    @Override
+    public JobApplicationStatistics getJobApplicationStatistics() {
+        return jobBook.getApplicationIndex().getStatisticsIndex().getStatistics();
+    }
+
+    @Override
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return jobBook.getApplicationIndex().getCompletionIndex().getCompletions(field, prefix, limit);
+    }
+
+    @Override
+    public List<JobApplication> getClosestJobApplications(FuzzyNameMatchesPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        Map<JobApplication, Integer> distances = predicate.findDistances(jobBook.getApplicationIndex());
+        Comparator<JobApplication> closestFirst = Comparator.comparingInt(distances::get);
+        return distances.keySet().stream()
+                .sorted(closestFirst.thenComparing(displayedApplications.newestFirst()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     //=========== Filtered Job Application List Accessors =============================================================
 
     /**
@@ -128,13 +212,33 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<JobApplication> getFilteredApplicationList() {
-        return filteredApplications;
+        return displayedApplications;
     }
 
     @Override
     public void updateFilteredJobApplicationList(Predicate<JobApplication> predicate) {
-        requireNonNull(predicate);
-        filteredApplications.setPredicate(predicate);
+        updateFilteredJobApplicationList(predicate, Page.ALL);
+    }
+
+    @Override
+    public void updateFilteredJobApplicationList(Predicate<JobApplication> predicate, Page page) {
+        requireAllNonNull(predicate, page);
+        if (predicate == PREDICATE_SHOW_ALL_APPLICATIONS) {
+            displayedApplications.showAll(page.getOffset(), page.getSize());
+            return;
+        }
+        displayedApplications.setPredicate(predicate, page.getOffset(), page.getSize());
+    }
+
+    @Override
+    public void setFilteredJobApplications(List<JobApplication> applications) {
+        requireNonNull(applications);
+        displayedApplications.setApplications(applications);
+    }
+
+    @Override
+    public int getFilteredJobApplicationCount() {
+        return displayedApplications.getTotalSize();
     }
 
     @Override
@@ -161,7 +265,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return jobBook.equals(otherModelManager.jobBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredApplications.equals(otherModelManager.filteredApplications);
+                && displayedApplications.equals(otherModelManager.displayedApplications);
     }
 
 }
@@ -1,17 +1,19 @@
 package seedu.job.model.jobapplication;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import seedu.job.commons.util.StringUtil;
 import seedu.job.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code JobApplication}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<JobApplication> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
 
 
     /**
@@ -25,17 +27,42 @@ public class NameContainsKeywordsPredicate implements Predicate<JobApplication>
         this.keywords = keywords.stream()
                                 .filter(w -> !w.isEmpty())
                                 .collect(Collectors.toList());
+        this.lowerCaseKeywords = this.keywords.stream()
+                                .map(String::toLowerCase)
+                                .collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(JobApplication jobApplication) {
-        String company = jobApplication.getCompanyName();
-        String role = jobApplication.getRole();
-        String position = company + " " + role;
+        return !Collections.disjoint(WordIndex.toWords(jobApplication), lowerCaseKeywords);
+    }
 
-        return keywords.stream().anyMatch(
-            keyword -> StringUtil.containsWordIgnoreCase(position, keyword)
-        );
+    /**
+     * Looks up the job applications with any of the keywords as a word of their company name or role in
+     * {@code index}, by taking the union of the applications indexed under each keyword.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications whose company name or role contains any of the keywords as a whole word
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        Set<JobApplication> matches = new HashSet<>();
+        for (String keyword : lowerCaseKeywords) {
+            matches.addAll(index.getWordIndex().getApplicationsWithWord(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the job applications indexed under each keyword in {@code index}, without collecting them.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        int count = 0;
+        for (String keyword : lowerCaseKeywords) {
+            count += index.getWordIndex().getApplicationsWithWord(keyword).size();
+        }
+        return count;
     }
 
     @Override
@@ -53,6 +80,11 @@ public class NameContainsKeywordsPredicate implements Predicate<JobApplication>
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
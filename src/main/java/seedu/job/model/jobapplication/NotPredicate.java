@@ -0,0 +1,95 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that accepts a JobApplication only if its operand does not accept it.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<JobApplication> operand;
+
+    /**
+     * Constructs a NotPredicate negating the specified operand.
+     *
+     * @param operand the predicate to negate
+     */
+    public NotPredicate(Predicate<JobApplication> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    /**
+     * Tests whether the operand rejects the given JobApplication.
+     *
+     * @param jobApplication the JobApplication to test
+     * @return {@code true} if the operand does not accept the job application, {@code false} otherwise
+     */
+    @Override
+    public boolean test(JobApplication jobApplication) {
+        return !operand.test(jobApplication);
+    }
+
+    /**
+     * Takes every application in {@code index} except the matches of the operand. If the operand is not indexed,
+     * every application in {@code index} is tested instead.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications not accepted by the operand
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        Set<JobApplication> applications = index.getApplications();
+        if (operand instanceof IndexedPredicate) {
+            applications.removeAll(((IndexedPredicate) operand).findMatches(index));
+            return applications;
+        }
+
+        Set<JobApplication> matches = new HashSet<>();
+        for (JobApplication application : applications) {
+            if (test(application)) {
+                matches.add(application);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Estimates the matches as every application except the estimated matches of the operand.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        if (!(operand instanceof IndexedPredicate)) {
+            return index.size();
+        }
+        return Math.max(0, index.size() - ((IndexedPredicate) operand).estimateMatches(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+        NotPredicate otherPredicate = (NotPredicate) other;
+
+        return operand.equals(otherPredicate.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
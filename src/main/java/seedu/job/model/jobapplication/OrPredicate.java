@@ -0,0 +1,110 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that accepts a JobApplication if any of its operands accepts it.
+ */
+public class OrPredicate implements IndexedPredicate {
+    private final List<Predicate<JobApplication>> operands;
+
+    /**
+     * Constructs an OrPredicate over the specified operands.
+     *
+     * @param operands the predicates of which at least one must accept a job application
+     */
+    public OrPredicate(List<Predicate<JobApplication>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    /**
+     * Tests whether any of the operands accepts the given JobApplication.
+     *
+     * @param jobApplication the JobApplication to test
+     * @return {@code true} if at least one operand accepts the job application, {@code false} otherwise
+     */
+    @Override
+    public boolean test(JobApplication jobApplication) {
+        for (Predicate<JobApplication> operand : operands) {
+            if (operand.test(jobApplication)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the matches of every operand in {@code index} and takes their union. If any operand is not indexed,
+     * every application in {@code index} is tested instead.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications accepted by at least one operand
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        Set<JobApplication> matches = new HashSet<>();
+        if (!isIndexed()) {
+            for (JobApplication application : index.getApplications()) {
+                if (test(application)) {
+                    matches.add(application);
+                }
+            }
+            return matches;
+        }
+
+        for (Predicate<JobApplication> operand : operands) {
+            matches.addAll(((IndexedPredicate) operand).findMatches(index));
+        }
+        return matches;
+    }
+
+    /**
+     * Estimates the matches as the sum of those of the operands.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        if (!isIndexed()) {
+            return index.size();
+        }
+        int estimate = 0;
+        for (Predicate<JobApplication> operand : operands) {
+            estimate += ((IndexedPredicate) operand).estimateMatches(index);
+        }
+        return Math.min(estimate, index.size());
+    }
+
+    private boolean isIndexed() {
+        return operands.stream().allMatch(operand -> operand instanceof IndexedPredicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+        OrPredicate otherPredicate = (OrPredicate) other;
+
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
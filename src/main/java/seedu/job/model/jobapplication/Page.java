@@ -0,0 +1,81 @@
+package seedu.job.model.jobapplication;
+
+import static seedu.job.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.job.commons.util.ToStringBuilder;
+
+/**
+ * A page of a list of job applications: the {@code size} applications following the first {@code number - 1} pages.
+ * Guarantees: immutable; the number and the size are positive.
+ */
+public class Page {
+
+    public static final String MESSAGE_CONSTRAINTS = "Page numbers and page sizes must be positive.";
+
+    /** A single page holding every application. */
+    public static final Page ALL = new Page(1, Integer.MAX_VALUE);
+
+    private final int number;
+    private final int size;
+
+    /**
+     * Constructs the page numbered {@code number}, counting from 1, of pages of {@code size} applications.
+     */
+    public Page(int number, int size) {
+        checkArgument(number >= 1 && size >= 1, MESSAGE_CONSTRAINTS);
+        this.number = number;
+        this.size = size;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first application on this page, or {@link Integer#MAX_VALUE} if that is larger.
+     */
+    public int getOffset() {
+        return (int) Math.min((long) (number - 1) * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of pages of this size needed to hold {@code total} applications, which is at least 1.
+     */
+    public int countPages(int total) {
+        return Math.max(1, (int) (((long) total + size - 1) / size));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page)) {
+            return false;
+        }
+
+        Page otherPage = (Page) other;
+        return number == otherPage.number && size == otherPage.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, size);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("number", number)
+                .add("size", size)
+                .toString();
+    }
+}
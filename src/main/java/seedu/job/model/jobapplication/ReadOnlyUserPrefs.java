@@ -3,6 +3,7 @@ package seedu.job.model.jobapplication;
 import java.nio.file.Path;
 
 import seedu.job.commons.core.GuiSettings;
+import seedu.job.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getJobBookFilePath();
 
+    StorageFormat getJobBookStorageFormat();
+
 }
@@ -0,0 +1,95 @@
+package seedu.job.model.jobapplication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of an {@code ObservableList} in reverse order.
+ * An element appended to the source appears at the front of this view, so a list that is shown newest-first can be
+ * kept oldest-first, where adding is an amortised O(1) append instead of shifting every element.
+ */
+class ReversedList<E> extends TransformationList<E, E> {
+
+    /** Size of the source as of the sub-change being translated, or after the last change otherwise. */
+    private int sourceSize;
+
+    ReversedList(ObservableList<? extends E> source) {
+        super(source);
+        sourceSize = source.size();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return size() - 1 - Objects.checkIndex(index, size());
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return size() - 1 - Objects.checkIndex(index, size());
+    }
+
+    /**
+     * Translates each sub-change of the source into the mirrored sub-change of this view. Sub-changes are applied in
+     * order, so each one is mirrored against the size of the source right before it.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                nextReversedPermutation(c);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(sourceSize - 1 - i);
+                }
+            } else {
+                nextReversedAddRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    private void nextReversedPermutation(ListChangeListener.Change<? extends E> c) {
+        int from = sourceSize - c.getTo();
+        int to = sourceSize - c.getFrom();
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            permutation[i - from] = sourceSize - 1 - c.getPermutation(sourceSize - 1 - i);
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void nextReversedAddRemove(ListChangeListener.Change<? extends E> c) {
+        int removedSize = c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int position = sourceSize - c.getFrom() - removedSize;
+
+        List<E> removed = new ArrayList<>(c.getRemoved());
+        Collections.reverse(removed);
+        if (c.wasReplaced()) {
+            nextReplace(position, position + addedSize, removed);
+        } else if (c.wasRemoved()) {
+            nextRemove(position, removed);
+        } else if (c.wasAdded()) {
+            nextAdd(position, position + addedSize);
+        }
+        sourceSize += addedSize - removedSize;
+    }
+
+}
@@ -0,0 +1,19 @@
+package seedu.job.model.jobapplication;
+
+/**
+ * An index over the job applications of a {@link JobBook} that answers one kind of lookup.
+ * It is built by {@link JobApplicationIndex} the first time it is asked for, and then kept up to date as the
+ * applications change.
+ */
+interface SecondaryIndex {
+
+    /** Adds {@code application} to this index. */
+    void add(JobApplication application);
+
+    /** Removes {@code application}, which was added before, from this index. */
+    void remove(JobApplication application);
+
+    /** Removes every application from this index. */
+    void clear();
+
+}
@@ -0,0 +1,69 @@
+package seedu.job.model.jobapplication;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.tag.Tag;
+
+/**
+ * Counts job applications per status, per tag name (ignoring case) and per deadline week, without holding the
+ * applications themselves.
+ */
+public class StatisticsIndex implements SecondaryIndex {
+
+    private final Map<Status, Integer> countByStatus = new EnumMap<>(Status.class);
+    private final Map<String, Integer> countByTag = new HashMap<>();
+    private final NavigableMap<LocalDate, Integer> countByDeadlineWeek = new TreeMap<>();
+
+    @Override
+    public void add(JobApplication application) {
+        countByStatus.merge(application.getStatus(), 1, Integer::sum);
+        for (Tag tag : application.getTags()) {
+            countByTag.merge(TagIndex.toTagKey(tag.tagName), 1, Integer::sum);
+        }
+        countByDeadlineWeek.merge(toWeek(application.getDeadline()), 1, Integer::sum);
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        decrement(countByStatus, application.getStatus());
+        for (Tag tag : application.getTags()) {
+            decrement(countByTag, TagIndex.toTagKey(tag.tagName));
+        }
+        decrement(countByDeadlineWeek, toWeek(application.getDeadline()));
+    }
+
+    @Override
+    public void clear() {
+        countByStatus.clear();
+        countByTag.clear();
+        countByDeadlineWeek.clear();
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the Monday of the week of {@code deadline}.
+     */
+    static LocalDate toWeek(LocalDateTime deadline) {
+        return deadline.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the number of applications per status, per tag and per deadline week.
+     */
+    public JobApplicationStatistics getStatistics() {
+        return new JobApplicationStatistics(countByStatus, countByTag, countByDeadlineWeek);
+    }
+
+}
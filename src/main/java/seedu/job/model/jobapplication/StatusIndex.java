@@ -0,0 +1,49 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.job.model.jobapplication.JobApplication.Status;
+
+/**
+ * Indexes job applications by their status.
+ */
+public class StatusIndex implements SecondaryIndex {
+
+    private final Map<Status, Set<JobApplication>> byStatus = new EnumMap<>(Status.class);
+
+    StatusIndex() {
+        for (Status status : Status.values()) {
+            byStatus.put(status, new HashSet<>());
+        }
+    }
+
+    @Override
+    public void add(JobApplication application) {
+        byStatus.get(application.getStatus()).add(application);
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        byStatus.get(application.getStatus()).remove(application);
+    }
+
+    @Override
+    public void clear() {
+        byStatus.values().forEach(Set::clear);
+    }
+
+    /**
+     * Returns an unmodifiable view of the applications with {@code status}.
+     */
+    public Set<JobApplication> getApplicationsWithStatus(Status status) {
+        requireNonNull(status);
+        return Collections.unmodifiableSet(byStatus.get(status));
+    }
+
+}
@@ -1,6 +1,6 @@
 package seedu.job.model.jobapplication;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.job.model.jobapplication.JobApplication.Status;
 
@@ -8,7 +8,7 @@ import seedu.job.model.jobapplication.JobApplication.Status;
  * A predicate that tests whether a JobApplication's status matches a specified status.
  * This predicate is used to filter job applications by their current status.
  */
-public class StatusMatchesKeywordPredicate implements Predicate<JobApplication> {
+public class StatusMatchesKeywordPredicate implements IndexedPredicate {
     private final Status keyword;
 
     /**
@@ -33,6 +33,25 @@ public class StatusMatchesKeywordPredicate implements Predicate<JobApplication>
         return jobApplication.getStatus().equals(keyword);
     }
 
+    /**
+     * Looks up the job applications with the predicate's status in {@code index}.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications whose status equals the predicate's status
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        return index.getStatusIndex().getApplicationsWithStatus(keyword);
+    }
+
+    /**
+     * Returns the number of job applications with the predicate's status in {@code index}.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        return index.getStatusIndex().getApplicationsWithStatus(keyword).size();
+    }
+
     /**
      * Compares this StatusMatchesKeywordPredicate with another object for equality.
      * Two StatusMatchesKeywordPredicates are considered equal if they have the same status.
@@ -53,4 +72,9 @@ public class StatusMatchesKeywordPredicate implements Predicate<JobApplication>
 
         return keyword.equals(otherPredicate.keyword);
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -0,0 +1,186 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Numbers the job applications of a newest-first list with slots that decrease along the list, so that any set of
+ * them can be held as a {@link java.util.BitSet} of their slots and listed in stored order by walking its bits down.
+ *
+ * <p>An application added at the front of the list gets a slot above every other, and an application replaced in
+ * place takes over the slot of the one it replaces, so these changes leave every other slot as it was. A removed
+ * application leaves its slot unused. Any other change, such as removing several applications at once, or more unused
+ * slots than used ones, numbers the whole list again, after which every slot held elsewhere is out of date.
+ */
+class StoredOrder {
+
+    /** Number of unused slots that is always tolerated before the list is numbered again. */
+    private static final int MIN_UNUSED_SLOTS = 64;
+
+    private final ObservableList<? extends JobApplication> applications;
+    private final Map<JobApplication, Integer> slots = new IdentityHashMap<>();
+    private final List<Listener> listeners = new ArrayList<>();
+    private JobApplication[] bySlot;
+    private int slotCount;
+
+    /**
+     * Receives the changes made to the slots of a {@code StoredOrder}.
+     */
+    interface Listener {
+        /** Called after {@code application} has been given {@code slot}. */
+        void onSlotAssigned(int slot, JobApplication application);
+
+        /** Called after {@code application} has been removed from {@code slot}, leaving the slot unused. */
+        void onSlotFreed(int slot, JobApplication application);
+
+        /** Called after {@code replaced} has been replaced in place by {@code application}, which takes its slot. */
+        void onSlotReplaced(int slot, JobApplication replaced, JobApplication application);
+
+        /** Called after the whole list has been numbered again. */
+        void onRenumbered();
+    }
+
+    /**
+     * Creates a {@code StoredOrder} numbering {@code applications}, which must be newest first and must be reported
+     * to {@link #update} every time it changes.
+     */
+    StoredOrder(ObservableList<? extends JobApplication> applications) {
+        requireNonNull(applications);
+        this.applications = applications;
+        renumber();
+    }
+
+    /**
+     * Registers {@code listener} to be told of every change made to the slots.
+     */
+    void addListener(Listener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Updates the slots after the change {@code c} of the list, which is left to be iterated again from the start.
+     */
+    void update(ListChangeListener.Change<? extends JobApplication> c) {
+        boolean needsRenumbering = false;
+        while (c.next() && !needsRenumbering) {
+            if (c.wasPermutated()) {
+                needsRenumbering = true;
+            } else if (c.wasUpdated()) {
+                continue;
+            } else if (c.getRemovedSize() == 1 && c.getAddedSize() == 1) {
+                replace(c.getRemoved().get(0), c.getAddedSubList().get(0));
+            } else if (c.getRemovedSize() > 1 || c.wasAdded() && (c.wasRemoved() || c.getFrom() != 0)) {
+                needsRenumbering = true;
+            } else if (c.wasRemoved()) {
+                free(c.getRemoved().get(0));
+            } else {
+                List<? extends JobApplication> added = c.getAddedSubList();
+                for (int i = added.size() - 1; i >= 0; i--) {
+                    assign(slotCount, added.get(i));
+                }
+            }
+        }
+        c.reset();
+
+        if (needsRenumbering || slotCount - slots.size() > Math.max(slots.size(), MIN_UNUSED_SLOTS)) {
+            renumber();
+            listeners.forEach(Listener::onRenumbered);
+        }
+    }
+
+    private void assign(int slot, JobApplication application) {
+        if (slot == bySlot.length) {
+            bySlot = Arrays.copyOf(bySlot, Math.max(MIN_UNUSED_SLOTS, bySlot.length * 2));
+        }
+        bySlot[slot] = application;
+        slots.put(application, slot);
+        slotCount = Math.max(slotCount, slot + 1);
+        listeners.forEach(listener -> listener.onSlotAssigned(slot, application));
+    }
+
+    private void free(JobApplication application) {
+        int slot = slots.remove(application);
+        bySlot[slot] = null;
+        listeners.forEach(listener -> listener.onSlotFreed(slot, application));
+    }
+
+    private void replace(JobApplication replaced, JobApplication application) {
+        int slot = slots.remove(replaced);
+        bySlot[slot] = application;
+        slots.put(application, slot);
+        listeners.forEach(listener -> listener.onSlotReplaced(slot, replaced, application));
+    }
+
+    private void renumber() {
+        int size = applications.size();
+        slots.clear();
+        bySlot = new JobApplication[Math.max(MIN_UNUSED_SLOTS, size)];
+        for (int slot = 0; slot < size; slot++) {
+            JobApplication application = applications.get(size - 1 - slot);
+            bySlot[slot] = application;
+            slots.put(application, slot);
+        }
+        slotCount = size;
+    }
+
+    /**
+     * Returns the number of slots handed out so far, which is above every used slot.
+     */
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns the slot of {@code application}, or -1 if it is not in the list.
+     */
+    int getSlot(JobApplication application) {
+        Integer slot = slots.get(application);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns true if an application is at {@code slot}. Any number, e.g. -1, may be given.
+     */
+    boolean isUsed(int slot) {
+        return slot >= 0 && slot < slotCount && bySlot[slot] != null;
+    }
+
+    /**
+     * Returns the application at {@code slot}, which must be used.
+     */
+    JobApplication get(int slot) {
+        assert bySlot[slot] != null;
+        return bySlot[slot];
+    }
+
+    /**
+     * Returns the position in the list of the application at {@code slot}, which must be used.
+     * Slots decrease along the list, so this is a binary search.
+     */
+    int indexOf(int slot) {
+        int low = 0;
+        int high = applications.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleSlot = slots.get(applications.get(middle));
+            if (middleSlot == slot) {
+                return middle;
+            } else if (middleSlot > slot) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        throw new IllegalArgumentException("Unused slot: " + slot);
+    }
+
+}
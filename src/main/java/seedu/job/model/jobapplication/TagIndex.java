@@ -0,0 +1,97 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.job.model.tag.Tag;
+
+/**
+ * Indexes job applications by the names of their tags, ignoring case. A substring of tag names is first resolved to
+ * the matching names in a {@link TagNameDictionary} of the distinct ones, and then to their applications here.
+ */
+public class TagIndex implements SecondaryIndex {
+
+    private final Map<String, Set<JobApplication>> byTag = new HashMap<>();
+    private final TagNameDictionary tagNames = new TagNameDictionary(TagNameDictionary.DEFAULT_CAPACITY);
+
+    @Override
+    public void add(JobApplication application) {
+        for (Tag tag : application.getTags()) {
+            String tagKey = toTagKey(tag.tagName);
+            byTag.computeIfAbsent(tagKey, key -> {
+                tagNames.add(key);
+                return new HashSet<>();
+            }).add(application);
+        }
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        for (Tag tag : application.getTags()) {
+            String tagKey = toTagKey(tag.tagName);
+            Set<JobApplication> applications = byTag.get(tagKey);
+            if (applications != null && applications.remove(application) && applications.isEmpty()) {
+                byTag.remove(tagKey);
+                tagNames.remove(tagKey);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        byTag.clear();
+        tagNames.clear();
+    }
+
+    static String toTagKey(String tagName) {
+        return tagName.toLowerCase();
+    }
+
+    /**
+     * Returns the applications with a tag named {@code tagName}, ignoring case.
+     */
+    public Set<JobApplication> getApplicationsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return Collections.unmodifiableSet(byTag.getOrDefault(toTagKey(tagName), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the distinct tag names, lower-cased, that contain {@code keyword}, ignoring case.
+     */
+    public Set<String> getTagNamesContaining(String keyword) {
+        requireNonNull(keyword);
+        return Set.copyOf(tagNames.getTagKeysContaining(toTagKey(keyword)));
+    }
+
+    /**
+     * Returns the applications with a tag whose name contains {@code keyword}, ignoring case, as the union of the
+     * applications of each matching tag name.
+     */
+    public Set<JobApplication> getApplicationsWithTagContaining(String keyword) {
+        Set<JobApplication> matches = new HashSet<>();
+        requireNonNull(keyword);
+        for (String tagKey : tagNames.getTagKeysContaining(toTagKey(keyword))) {
+            matches.addAll(byTag.get(tagKey));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of applications with a tag whose name contains {@code keyword}, without
+     * collecting them. Applications with several such tags are counted once per tag.
+     */
+    public int countApplicationsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        int count = 0;
+        for (String tagKey : tagNames.getTagKeysContaining(toTagKey(keyword))) {
+            count += byTag.get(tagKey).size();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.job.model.jobapplication;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The distinct tag names of a {@link TagIndex}, lower-cased, against which a substring filter is resolved to the tag
+ * names it matches before any application is looked up.
+ *
+ * <p>The tag names are few compared with the applications, so a keyword is resolved by searching all of them. The
+ * tag names found for the most recently used keywords are kept, and patched as tag names come and go, so filtering
+ * by the same keyword again searches nothing.
+ */
+class TagNameDictionary {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final Set<String> tagKeys = new HashSet<>();
+    private final Map<String, Set<String>> tagKeysByKeyword;
+
+    /**
+     * Creates an empty dictionary that keeps the tag names found for at most {@code capacity} keywords.
+     */
+    TagNameDictionary(int capacity) {
+        assert capacity > 0;
+        this.tagKeysByKeyword = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Adds the lower-cased tag name {@code tagKey}, if it is not in the dictionary yet.
+     */
+    void add(String tagKey) {
+        if (!tagKeys.add(tagKey)) {
+            return;
+        }
+        tagKeysByKeyword.forEach((keyword, found) -> {
+            if (tagKey.contains(keyword)) {
+                found.add(tagKey);
+            }
+        });
+    }
+
+    /**
+     * Removes the lower-cased tag name {@code tagKey}, if it is in the dictionary.
+     */
+    void remove(String tagKey) {
+        if (tagKeys.remove(tagKey)) {
+            tagKeysByKeyword.values().forEach(found -> found.remove(tagKey));
+        }
+    }
+
+    void clear() {
+        tagKeys.clear();
+        tagKeysByKeyword.clear();
+    }
+
+    /**
+     * Returns the tag names that contain the lower-cased {@code keyword}. The result must not be kept, as it is
+     * patched as tag names come and go.
+     */
+    Set<String> getTagKeysContaining(String keyword) {
+        return Collections.unmodifiableSet(tagKeysByKeyword.computeIfAbsent(keyword, this::findTagKeysContaining));
+    }
+
+    private Set<String> findTagKeysContaining(String keyword) {
+        Set<String> found = new HashSet<>();
+        for (String tagKey : tagKeys) {
+            if (tagKey.contains(keyword)) {
+                found.add(tagKey);
+            }
+        }
+        return found;
+    }
+
+}
@@ -1,12 +1,15 @@
 package seedu.job.model.jobapplication;
 
-import java.util.function.Predicate;
+import java.util.Set;
+
+import seedu.job.commons.util.StringUtil;
+import seedu.job.model.tag.Tag;
 
 /**
  * A predicate that tests whether a JobApplication contains tags with a keyword.
  * The search is case-insensitive and matches partial tag names.
  */
-public class TagsContainKeywordPredicate implements Predicate<JobApplication> {
+public class TagsContainKeywordPredicate implements IndexedPredicate {
     private final String keyword;
 
     /**
@@ -22,6 +25,8 @@ public class TagsContainKeywordPredicate implements Predicate<JobApplication> {
     /**
      * Tests whether the given JobApplication contains any tags that include the keyword.
      * The search is case-insensitive and matches if the tag name contains the keyword as a substring.
+     * No lower-cased copies of the tag names are made, as this is called for every job application when the
+     * matches cannot be looked up in an index.
      *
      * @param jobApplication the JobApplication to test
      * @return {@code true} if at least one tag contains the keyword (case-insensitive),
@@ -29,8 +34,33 @@ public class TagsContainKeywordPredicate implements Predicate<JobApplication> {
      */
     @Override
     public boolean test(JobApplication jobApplication) {
-        return jobApplication.getTags().stream()
-                .anyMatch(tag -> tag.tagName.toLowerCase().contains(keyword));
+        for (Tag tag : jobApplication.getTags()) {
+            if (StringUtil.containsIgnoreCase(tag.tagName, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the job applications with a tag containing the keyword in {@code index}.
+     * The keyword is first matched against the distinct tag names, and the applications of the matching tags are
+     * then taken from the index, rather than searching the tags of every job application.
+     *
+     * @param index the index of the job applications to filter
+     * @return the job applications with at least one tag that contains the keyword (case-insensitive)
+     */
+    @Override
+    public Set<JobApplication> findMatches(JobApplicationIndex index) {
+        return index.getTagIndex().getApplicationsWithTagContaining(keyword);
+    }
+
+    /**
+     * Counts the job applications with a tag containing the keyword in {@code index}, without collecting them.
+     */
+    @Override
+    public int estimateMatches(JobApplicationIndex index) {
+        return index.getTagIndex().countApplicationsWithTagContaining(keyword);
     }
 
     /**
@@ -53,4 +83,9 @@ public class TagsContainKeywordPredicate implements Predicate<JobApplication> {
 
         return keyword.equals(otherPredicate.keyword);
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.job.commons.util.StringUtil;
+
+/**
+ * Indexes the words of a {@link WordIndex} by their trigrams, to find the words close to a misspelt keyword.
+ * It is kept up to date by the {@code WordIndex} as words start and stop being indexed.
+ */
+public class TrigramIndex {
+
+    private final WordIndex wordIndex;
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Creates a {@code TrigramIndex} of the words currently in {@code wordIndex}.
+     */
+    TrigramIndex(WordIndex wordIndex) {
+        requireNonNull(wordIndex);
+        this.wordIndex = wordIndex;
+        wordIndex.getWords().forEach(this::addWord);
+    }
+
+    void addWord(String word) {
+        for (String trigram : toTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(word);
+        }
+    }
+
+    void removeWord(String word) {
+        for (String trigram : toTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the distinct sequences of three characters in {@code word}, with its start and end marked by {@code $}.
+     */
+    static Set<String> toTrigrams(String word) {
+        String marked = "$" + word + "$";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= marked.length(); i++) {
+            trigrams.add(marked.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the indexed words of company names and roles that are at most {@code maxDistance} edits away from
+     * {@code keyword}, ignoring case, with their edit distance.
+     * Since every edit changes at most three trigrams, only the words sharing enough trigrams with {@code keyword}
+     * are compared with it. Every word is compared when {@code keyword} has too few trigrams to rule any word out.
+     */
+    public Map<String, Integer> getWordsWithinDistance(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        String key = keyword.toLowerCase();
+        Set<String> trigrams = toTrigrams(key);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        if (trigrams.size() <= 3 * maxDistance) {
+            wordIndex.getWords().forEach(word -> sharedTrigramCounts.put(word, 0));
+        }
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        int minSharedTrigrams = trigrams.size() - 3 * maxDistance;
+        Map<String, Integer> distances = new HashMap<>();
+        sharedTrigramCounts.forEach((word, sharedTrigrams) -> {
+            if (sharedTrigrams < minSharedTrigrams || Math.abs(word.length() - key.length()) > maxDistance) {
+                return;
+            }
+            int distance = StringUtil.editDistance(key, word);
+            if (distance <= maxDistance) {
+                distances.put(word, distance);
+            }
+        });
+        return distances;
+    }
+
+}
@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -32,30 +35,30 @@ import seedu.job.model.jobapplication.sort.SortOrder;
  */
 public class UniqueApplicationList implements Iterable<JobApplication> {
 
+    // Kept in the reverse of display order, i.e. oldest first, so that adding is an append.
     private final ObservableList<JobApplication> internalList = FXCollections.observableArrayList();
-    private final ObservableList<JobApplication> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<JobApplication> internalUnmodifiableList = new ReversedList<>(internalList);
 
 
-    private final Set<String> uniqueHash = new HashSet<>();
+    private Set<String> uniqueHash = new HashSet<>();
 
     /**
      * Adds an Application to the list at the beginning. WITHOUT CHECKS
      */
     private void addUnsafe(JobApplication toAdd) {
-        internalList.add(0, toAdd);
+        internalList.add(toAdd);
         uniqueHash.add(toAdd.getUniqueKey());
     }
 
     /**
-     * Replaces the contents of this list with {@code Applications}. WITHOUT CHECKS
+     * Replaces the contents of this list with {@code Applications}, whose unique keys are {@code keys}, which this list
+     * takes over. WITHOUT CHECKS
      */
-    private void setAllUnsafe(List<JobApplication> applications) {
-        internalList.setAll(applications);
-        uniqueHash.clear();
-        for (var app: applications) {
-            uniqueHash.add(app.getUniqueKey());
-        }
+    private void setAllUnsafe(List<JobApplication> applications, Set<String> keys) {
+        List<JobApplication> insertionOrder = new ArrayList<>(applications);
+        Collections.reverse(insertionOrder);
+        internalList.setAll(insertionOrder);
+        uniqueHash = keys;
     }
 
     /**
@@ -78,6 +81,21 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
         addUnsafe(toAdd);
     }
 
+    /**
+     * Inserts an Application at {@code index} of {@link #asUnmodifiableObservableList()}, e.g. to put back one that was
+     * removed from there. The Application must not already exist in the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list or just past its end.
+     */
+    public void add(int index, JobApplication toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateJobApplicationException();
+        }
+        internalList.add(internalList.size() - Objects.checkIndex(index, internalList.size() + 1), toAdd);
+        uniqueHash.add(toAdd.getUniqueKey());
+    }
+
     /**
      * Replaces the Application {@code target} in the list with {@code editedApplication}.
      * {@code target} must exist in the list.
@@ -87,18 +105,34 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
     public void setJobApplication(JobApplication target, JobApplication editedApplication) {
         requireAllNonNull(target, editedApplication);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new JobApplicationNotFoundException();
         }
+        setJobApplication(index, editedApplication);
+    }
+
+    /**
+     * Replaces the Application at {@code index} in the list with {@code editedApplication}, without searching for it.
+     * The Application identity of {@code editedApplication} must not be the same as another existing Application in the
+     * list.
+     *
+     * @return the Application that was replaced.
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public JobApplication setJobApplication(int index, JobApplication editedApplication) {
+        requireNonNull(editedApplication);
+        int position = toInternalPosition(index);
+        JobApplication target = internalList.get(position);
 
         if (!target.isSameJobApplication(editedApplication) && contains(editedApplication)) {
             throw new DuplicateJobApplicationException();
         }
 
-        internalList.set(index, editedApplication);
+        internalList.set(position, editedApplication);
         uniqueHash.remove(target.getUniqueKey());
         uniqueHash.add(editedApplication.getUniqueKey());
+        return target;
     }
 
     /**
@@ -107,10 +141,45 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
      */
     public void remove(JobApplication toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new JobApplicationNotFoundException();
         }
-        uniqueHash.remove(toRemove.getUniqueKey());
+        remove(index);
+    }
+
+    /**
+     * Returns the index in {@link #asUnmodifiableObservableList()} of the Application equal to {@code application},
+     * or -1 if there is none.
+     */
+    public int indexOf(JobApplication application) {
+        requireNonNull(application);
+        if (!contains(application)) {
+            return -1;
+        }
+        int position = internalList.lastIndexOf(application);
+        return position == -1 ? -1 : internalList.size() - 1 - position;
+    }
+
+    /**
+     * Removes the Application at {@code index} from the list, without searching for it.
+     *
+     * @return the Application that was removed.
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public JobApplication remove(int index) {
+        JobApplication removed = internalList.remove(toInternalPosition(index));
+        uniqueHash.remove(removed.getUniqueKey());
+        return removed;
+    }
+
+    /**
+     * Returns the position in {@code internalList} of the Application at {@code index} in display order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    private int toInternalPosition(int index) {
+        return internalList.size() - 1 - Objects.checkIndex(index, internalList.size());
     }
 
     /**
@@ -118,7 +187,8 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
      */
     public void sortApplication(SortField field, SortOrder order) {
         Comparator<JobApplication> cmp = comparatorFor(field);
-        if (order == SortOrder.DESCENDING) {
+        // internalList is displayed in reverse, so it is sorted in the opposite order
+        if (order == SortOrder.ASCENDING) {
             cmp = cmp.reversed();
         }
         FXCollections.sort(internalList, cmp);
@@ -154,7 +224,8 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
 
     public void setJobApplications(UniqueApplicationList replacement) {
         requireNonNull(replacement);
-        setAllUnsafe(replacement.internalList);
+        internalList.setAll(replacement.internalList);
+        uniqueHash = new HashSet<>(replacement.uniqueHash);
     }
 
     /**
@@ -163,23 +234,50 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
      */
     public void setJobApplications(List<JobApplication> applications) {
         requireAllNonNull(applications);
-        if (!applicationsAreUnique(applications)) {
+        Set<String> keys = uniqueKeysOf(applications);
+        if (keys == null) {
             throw new DuplicateJobApplicationException();
         }
 
-        setAllUnsafe(applications);
+        setAllUnsafe(applications, keys);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code Applications}, which were already checked for duplicates,
+     * e.g. when loaded from storage. Their unique keys are taken over rather than computed again, unless they have
+     * already been taken by another list.
+     */
+    public void setUniqueJobApplications(UniqueJobApplications applications) {
+        requireNonNull(applications);
+        Set<String> keys = applications.takeUniqueKeys();
+        if (keys == null) {
+            keys = new HashSet<>();
+            for (JobApplication application : applications) {
+                keys.add(application.getUniqueKey());
+            }
+        }
+
+        setAllUnsafe(applications, keys);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservableList}, newest Application first.
      */
     public ObservableList<JobApplication> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a copy of the Applications in the order of {@link #asUnmodifiableObservableList()}, together with a
+     * copy of their unique keys.
+     */
+    public UniqueJobApplications toUniqueJobApplications() {
+        return new UniqueJobApplications(new ArrayList<>(internalUnmodifiableList), new HashSet<>(uniqueHash));
+    }
+
     @Override
     public Iterator<JobApplication> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -204,21 +302,19 @@ public class UniqueApplicationList implements Iterable<JobApplication> {
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return internalUnmodifiableList.toString();
     }
 
     /**
-     * Returns true if {@code Applications} contains only unique Applications.
+     * Returns the unique keys of {@code Applications}, or null if {@code Applications} contains duplicates.
      */
-    private boolean applicationsAreUnique(List<JobApplication> applications) {
+    private static Set<String> uniqueKeysOf(List<JobApplication> applications) {
         Set<String> uniqueKeys = new HashSet<>();
         for (int i = 0; i < applications.size(); i++) {
-            String uk = applications.get(i).getUniqueKey();
-            if (uniqueKeys.contains(uk)) {
-                return false;
+            if (!uniqueKeys.add(applications.get(i).getUniqueKey())) {
+                return null;
             }
-            uniqueKeys.add(uk);
         }
-        return true;
+        return uniqueKeys;
     }
 }
@@ -0,0 +1,61 @@
+package seedu.job.model.jobapplication;
+
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An unmodifiable list of job applications already checked to contain no two applications with the same unique key,
+ * e.g. while they were loaded from storage, together with those keys. A {@link JobBook} takes both over in
+ * {@link JobBook#setUniqueApplications}, without checking the applications or computing their keys again.
+ *
+ * @see JobApplication#getUniqueKey()
+ */
+public class UniqueJobApplications extends AbstractList<JobApplication> {
+
+    private final List<JobApplication> applications;
+    private Set<String> uniqueKeys;
+
+    /**
+     * Creates a {@code UniqueJobApplications} of {@code applications}, whose unique keys are {@code uniqueKeys}.
+     * The caller must guarantee that no two applications have the same key, and must not use either argument again.
+     */
+    public UniqueJobApplications(List<JobApplication> applications, Set<String> uniqueKeys) {
+        requireAllNonNull(applications, uniqueKeys);
+        assert applications.size() == uniqueKeys.size();
+        this.applications = applications;
+        this.uniqueKeys = uniqueKeys;
+    }
+
+    /**
+     * Returns an empty {@code UniqueJobApplications}.
+     */
+    public static UniqueJobApplications empty() {
+        return new UniqueJobApplications(new ArrayList<>(), new HashSet<>());
+    }
+
+    @Override
+    public JobApplication get(int index) {
+        return applications.get(index);
+    }
+
+    @Override
+    public int size() {
+        return applications.size();
+    }
+
+    /**
+     * Returns the unique keys of the applications and hands them over to the caller, who may then modify them,
+     * or returns null if they have already been taken.
+     */
+    Set<String> takeUniqueKeys() {
+        Set<String> keys = uniqueKeys;
+        uniqueKeys = null;
+        return keys;
+    }
+
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.job.commons.core.GuiSettings;
+import seedu.job.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path jobBookFilePath = Paths.get("data" , "JobApplications.json");
+    private StorageFormat jobBookStorageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setJobBookFilePath(newUserPrefs.getJobBookFilePath());
+        setJobBookStorageFormat(newUserPrefs.getJobBookStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.jobBookFilePath = jobBookFilePath;
     }
 
+    public StorageFormat getJobBookStorageFormat() {
+        return jobBookStorageFormat;
+    }
+
+    public void setJobBookStorageFormat(StorageFormat jobBookStorageFormat) {
+        requireNonNull(jobBookStorageFormat);
+        this.jobBookStorageFormat = jobBookStorageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +81,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && jobBookFilePath.equals(otherUserPrefs.jobBookFilePath);
+                && jobBookFilePath.equals(otherUserPrefs.jobBookFilePath)
+                && jobBookStorageFormat == otherUserPrefs.jobBookStorageFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, jobBookFilePath);
+        return Objects.hash(guiSettings, jobBookFilePath, jobBookStorageFormat);
     }
 
     @Override
@@ -82,6 +95,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + jobBookFilePath);
+        sb.append("\nLocal data file format : " + jobBookStorageFormat);
         return sb.toString();
     }
 
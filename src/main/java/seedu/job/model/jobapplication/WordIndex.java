@@ -0,0 +1,98 @@
+package seedu.job.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes job applications by the whole words of their company name and role, ignoring case.
+ */
+public class WordIndex implements SecondaryIndex {
+
+    private final Map<String, Set<JobApplication>> byWord = new HashMap<>();
+    /** Told of every word that starts or stops being indexed, once it has been built. */
+    private TrigramIndex trigramIndex;
+
+    @Override
+    public void add(JobApplication application) {
+        for (String word : toWords(application)) {
+            byWord.computeIfAbsent(word, this::addWord).add(application);
+        }
+    }
+
+    @Override
+    public void remove(JobApplication application) {
+        for (String word : toWords(application)) {
+            Set<JobApplication> applications = byWord.get(word);
+            if (applications != null && applications.remove(application) && applications.isEmpty()) {
+                byWord.remove(word);
+                if (trigramIndex != null) {
+                    trigramIndex.removeWord(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        byWord.clear();
+        if (trigramIndex != null) {
+            trigramIndex.clear();
+        }
+    }
+
+    /**
+     * Returns an empty set for the applications containing a newly indexed {@code word}.
+     */
+    private Set<JobApplication> addWord(String word) {
+        if (trigramIndex != null) {
+            trigramIndex.addWord(word);
+        }
+        return new HashSet<>();
+    }
+
+    /**
+     * Keeps {@code trigramIndex} up to date with the indexed words from now on.
+     */
+    void setTrigramIndex(TrigramIndex trigramIndex) {
+        this.trigramIndex = trigramIndex;
+    }
+
+    /**
+     * Returns the distinct lower-cased words in the company name and role of {@code application}.
+     */
+    static Set<String> toWords(JobApplication application) {
+        Set<String> words = new HashSet<>();
+        addWords(application.getCompanyName(), words);
+        addWords(application.getRole(), words);
+        return words;
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the indexed words.
+     */
+    public Set<String> getWords() {
+        return Collections.unmodifiableSet(byWord.keySet());
+    }
+
+    /**
+     * Returns the applications with {@code word} as a whole word of their company name or role, ignoring case.
+     */
+    public Set<JobApplication> getApplicationsWithWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(byWord.getOrDefault(word.toLowerCase(), Collections.emptySet()));
+    }
+
+}
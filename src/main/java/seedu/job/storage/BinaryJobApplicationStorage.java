@@ -0,0 +1,338 @@
+package seedu.job.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.commons.util.FileUtil;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+import seedu.job.model.tag.Tag;
+
+/**
+ * A class to access Job Application data stored in a compact binary file on the hard disk.
+ *
+ * <p>The file starts with a magic number and a format version, followed by a dictionary of every distinct
+ * company name, role and tag, and then one length-prefixed record per job application. A record refers to its
+ * strings by their position in the dictionary, stores its deadline in epoch seconds (UTC, so fractions of a
+ * second are dropped) and its status as a single byte.
+ */
+public class BinaryJobApplicationStorage implements JobApplicationStorage {
+
+    public static final String MESSAGE_NOT_A_DATA_FILE = "Not a HustleHub binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Record %d is corrupted.";
+    public static final String MESSAGE_TOO_MANY_TAGS = "Too many tags to store in binary format: %s, %s";
+    public static final String MESSAGE_TOO_LARGE = "Too many job applications to store in binary format.";
+    public static final String MESSAGE_DUPLICATE_ENTRY_FORMAT =
+            JsonSerializableJobApplicationList.MESSAGE_DUPLICATE_APPLICATION
+            + " Record %d has the same company and role as record %d (%s, %s).";
+
+    static final int MAGIC = 0x48484A42; // "HHJB"
+    static final byte VERSION = 1;
+    static final int MAX_TAG_COUNT = 0xFF;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryJobApplicationStorage.class);
+    private static final JobApplication.Status[] STATUSES = JobApplication.Status.values();
+
+    private Path filePath;
+    private final ForcedSaveTracker forcedSaveTracker;
+
+    public BinaryJobApplicationStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.ON_SAVE);
+    }
+
+    /**
+     * Creates a {@code BinaryJobApplicationStorage} for {@code filePath} that forces saves to the storage device
+     * according to {@code durabilityPolicy}.
+     */
+    public BinaryJobApplicationStorage(Path filePath, DurabilityPolicy durabilityPolicy) {
+        this.filePath = filePath;
+        this.forcedSaveTracker = new ForcedSaveTracker(durabilityPolicy);
+    }
+
+    public Path getDataFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public UniqueJobApplications readDataFile() throws DataLoadingException {
+        return readDataFile(filePath);
+    }
+
+    /**
+     * Similar to {@link #readDataFile()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return UniqueJobApplications.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return read(Files.readAllBytes(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveJobApplicationData(List<JobApplication> jobApplications) throws IOException {
+        saveJobApplicationData(jobApplications, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveJobApplicationData(List)}}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveJobApplicationData(List<JobApplication> jobApplications, Path filePath) throws IOException {
+        requireNonNull(jobApplications);
+        requireNonNull(filePath);
+
+        boolean isForced = forcedSaveTracker.shouldForceNextSave();
+        FileUtil.writeToFileAtomically(filePath, write(jobApplications), isForced);
+        forcedSaveTracker.recordSave(filePath, isForced);
+    }
+
+    /**
+     * Saves {@code jobApplications} in full, as a binary snapshot has no way of storing individual changes.
+     */
+    @Override
+    public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException {
+        requireNonNull(changes);
+        saveJobApplicationData(jobApplications);
+    }
+
+    /**
+     * Returns the binary representation of {@code jobApplications}.
+     * The dictionary references of every record are collected while the dictionary is built, so that the file can
+     * be written in a single buffer of exactly the right size.
+     */
+    static byte[] write(List<JobApplication> jobApplications) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] references = new int[jobApplications.size() * 2];
+        int referenceCount = 0;
+        long size = Integer.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+        for (JobApplication application : jobApplications) {
+            Set<Tag> tags = application.getTags();
+            if (tags.size() > MAX_TAG_COUNT) {
+                throw new IOException(String.format(MESSAGE_TOO_MANY_TAGS, application.getCompanyName(),
+                        application.getRole()));
+            }
+            int recordReferenceCount = 2 + tags.size();
+            if (referenceCount + recordReferenceCount > references.length) {
+                references = Arrays.copyOf(references, Math.max(references.length * 2,
+                        referenceCount + recordReferenceCount));
+            }
+            references[referenceCount++] = addToDictionary(application.getCompanyName(), dictionary, strings);
+            references[referenceCount++] = addToDictionary(application.getRole(), dictionary, strings);
+            for (Tag tag : tags) {
+                references[referenceCount++] = addToDictionary(tag.tagName, dictionary, strings);
+            }
+            size += Integer.BYTES + getRecordLength(tags.size());
+        }
+        for (byte[] encoded : strings) {
+            size += Integer.BYTES + encoded.length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_TOO_LARGE);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC);
+        out.put(VERSION);
+
+        out.putInt(strings.size());
+        for (byte[] encoded : strings) {
+            out.putInt(encoded.length);
+            out.put(encoded);
+        }
+
+        out.putInt(jobApplications.size());
+        int reference = 0;
+        for (JobApplication application : jobApplications) {
+            int tagCount = application.getTags().size();
+            out.putInt(getRecordLength(tagCount));
+            out.putInt(references[reference++]);
+            out.putInt(references[reference++]);
+            out.putLong(application.getDeadline().toEpochSecond(ZoneOffset.UTC));
+            out.put((byte) application.getStatus().ordinal());
+            out.put((byte) tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                out.putInt(references[reference++]);
+            }
+        }
+        assert !out.hasRemaining();
+        return out.array();
+    }
+
+    /**
+     * Reads the list of job applications from the binary representation {@code bytes}.
+     * The returned list contains no two applications with the same company and role, and carries their unique keys.
+     * Every count in the file is checked against the bytes left before anything is allocated for it, so a corrupted
+     * count is reported as an {@code IOException} rather than exhausting memory.
+     *
+     * @throws IOException if {@code bytes} is not a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static UniqueJobApplications read(byte[] bytes) throws IOException, IllegalValueException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_A_DATA_FILE);
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            // each string takes at least its length prefix
+            String[] strings = new String[readCount(in, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readCount(in, 1);
+                strings[i] = new String(bytes, in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            }
+
+            // each record takes at least its length prefix and the fields of a record without tags
+            int recordCount = readCount(in, Integer.BYTES + getRecordLength(0));
+            List<JobApplication> applications = new ArrayList<>(recordCount);
+            Set<String> uniqueKeys = new HashSet<>(recordCount * 4 / 3 + 1);
+            Tag[] tagByReference = new Tag[strings.length];
+            for (int recordNumber = 1; recordNumber <= recordCount; recordNumber++) {
+                JobApplication application = readRecord(in, strings, tagByReference, recordNumber);
+                if (!uniqueKeys.add(application.getUniqueKey())) {
+                    int firstRecord = JsonSerializableJobApplicationList.indexOfKey(applications,
+                            application.getUniqueKey()) + 1;
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ENTRY_FORMAT, recordNumber,
+                            firstRecord, application.getCompanyName(), application.getRole()));
+                }
+                applications.add(application);
+            }
+            return new UniqueJobApplications(applications, uniqueKeys);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_NOT_A_DATA_FILE, e);
+        }
+    }
+
+    /**
+     * Reads a single length-prefixed record, skipping any trailing bytes written by a newer minor revision.
+     * Each tag in the dictionary is validated once, and its {@code Tag} shared through {@code tagByReference}.
+     */
+    private static JobApplication readRecord(ByteBuffer in, String[] strings, Tag[] tagByReference,
+            int recordNumber) throws IOException, IllegalValueException {
+        int recordLength = in.getInt();
+        if (recordLength < getRecordLength(0) || recordLength > in.remaining()) {
+            throw corruptedRecord(recordNumber);
+        }
+
+        int end = in.position() + recordLength;
+        String companyName = lookUp(strings, in.getInt(), recordNumber);
+        String role = lookUp(strings, in.getInt(), recordNumber);
+        long deadlineSeconds = in.getLong();
+        int statusOrdinal = Byte.toUnsignedInt(in.get());
+        int tagCount = Byte.toUnsignedInt(in.get());
+        if (statusOrdinal >= STATUSES.length || recordLength < getRecordLength(tagCount)) {
+            throw corruptedRecord(recordNumber);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int reference = in.getInt();
+            String tagName = lookUp(strings, reference, recordNumber);
+            if (tagByReference[reference] == null) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tagByReference[reference] = new Tag(tagName);
+            }
+            tags.add(tagByReference[reference]);
+        }
+        in.position(end);
+
+        LocalDateTime deadline;
+        try {
+            deadline = LocalDateTime.ofEpochSecond(deadlineSeconds, 0, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber), e);
+        }
+        return new JobApplication(companyName, role, deadline, STATUSES[statusOrdinal], tags);
+    }
+
+    private static IOException corruptedRecord(int recordNumber) {
+        return new IOException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber));
+    }
+
+    /**
+     * Returns the dictionary reference of {@code string}, adding its UTF-8 encoding to {@code strings} if it is not in
+     * the dictionary yet.
+     */
+    private static int addToDictionary(String string, Map<String, Integer> dictionary, List<byte[]> strings) {
+        Integer reference = dictionary.putIfAbsent(string, strings.size());
+        if (reference != null) {
+            return reference;
+        }
+        strings.add(string.getBytes(StandardCharsets.UTF_8));
+        return strings.size() - 1;
+    }
+
+    private static String lookUp(String[] strings, int reference, int recordNumber) throws IOException {
+        if (reference < 0 || reference >= strings.length) {
+            throw corruptedRecord(recordNumber);
+        }
+        return strings[reference];
+    }
+
+    /**
+     * Reads a count of items that each take at least {@code minItemLength} bytes, and checks that that many items fit
+     * in the bytes left in {@code in}.
+     */
+    private static int readCount(ByteBuffer in, int minItemLength) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || (long) count * minItemLength > in.remaining()) {
+            throw new IOException(MESSAGE_NOT_A_DATA_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes in a record with {@code tagCount} tags, excluding its length prefix.
+     */
+    static int getRecordLength(int tagCount) {
+        return Integer.BYTES * 2 + Long.BYTES + 2 + Integer.BYTES * tagCount;
+    }
+
+}
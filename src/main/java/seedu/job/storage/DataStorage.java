@@ -7,7 +7,9 @@ import java.util.Optional;
 
 import seedu.job.commons.exceptions.DataLoadingException;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
 import seedu.job.model.jobapplication.ReadOnlyUserPrefs;
+import seedu.job.model.jobapplication.UniqueJobApplications;
 import seedu.job.model.jobapplication.UserPrefs;
 
 /**
@@ -25,10 +27,14 @@ public interface DataStorage extends JobApplicationStorage, UserPrefsStorage {
     Path getDataFilePath();
 
     @Override
-    List<JobApplication> readDataFile() throws DataLoadingException;
+    UniqueJobApplications readDataFile() throws DataLoadingException;
 
     @Override
     void saveJobApplicationData(List<JobApplication> jobApplicationList) throws IOException;
 
+    @Override
+    void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplicationList)
+            throws IOException;
+
 }
 
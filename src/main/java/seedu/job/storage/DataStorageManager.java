@@ -9,7 +9,9 @@ import java.util.logging.Logger;
 import seedu.job.commons.core.LogsCenter;
 import seedu.job.commons.exceptions.DataLoadingException;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
 import seedu.job.model.jobapplication.ReadOnlyUserPrefs;
+import seedu.job.model.jobapplication.UniqueJobApplications;
 import seedu.job.model.jobapplication.UserPrefs;
 
 /**
@@ -55,12 +57,12 @@ public class DataStorageManager implements DataStorage {
     }
 
     @Override
-    public List<JobApplication> readDataFile() throws DataLoadingException {
+    public UniqueJobApplications readDataFile() throws DataLoadingException {
         return readDataFile(jobApplicationStorage.getDataFilePath());
     }
 
     @Override
-    public List<JobApplication> readDataFile(Path filePath) throws DataLoadingException {
+    public UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
         return jobApplicationStorage.readDataFile(filePath);
     }
@@ -76,4 +78,12 @@ public class DataStorageManager implements DataStorage {
         jobApplicationStorage.saveJobApplicationData(jobApplications, filePath);
     }
 
+    @Override
+    public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: "
+                + jobApplicationStorage.getDataFilePath());
+        jobApplicationStorage.saveJobApplicationChanges(changes, jobApplications);
+    }
+
 }
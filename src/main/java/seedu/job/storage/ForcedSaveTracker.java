@@ -0,0 +1,136 @@
+package seedu.job.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.util.FileUtil;
+import seedu.job.commons.util.StringUtil;
+
+/**
+ * Decides, according to a {@link DurabilityPolicy}, which saves are forced to the storage device.
+ * Under {@link DurabilityPolicy#BATCHED}, the files saved without being forced are forced by a timer once the batching
+ * interval since the last forced save has passed, so saved data is never left unforced for much longer than that.
+ */
+class ForcedSaveTracker {
+
+    /** Minimum time between two forced saves under {@link DurabilityPolicy#BATCHED}. */
+    static final long BATCHED_FORCE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ForcedSaveTracker.class);
+
+    private final DurabilityPolicy durabilityPolicy;
+    private final long batchedForceIntervalNanos;
+    private final FileForcer fileForcer;
+
+    /** Files saved without being forced since the timer last forced them, under {@link DurabilityPolicy#BATCHED}. */
+    private final Set<Path> unforcedFiles = new LinkedHashSet<>();
+    private boolean isForceScheduled;
+    private long lastForcedSaveNanos;
+    private boolean hasForcedSave;
+
+    /**
+     * Forces the content of a file to the storage device.
+     */
+    @FunctionalInterface
+    interface FileForcer {
+        void force(Path file) throws IOException;
+    }
+
+    ForcedSaveTracker(DurabilityPolicy durabilityPolicy) {
+        this(durabilityPolicy, BATCHED_FORCE_INTERVAL_NANOS, FileUtil::forceToDevice);
+    }
+
+    /**
+     * Creates a {@code ForcedSaveTracker} that forces saves at most once per {@code batchedForceIntervalNanos} under
+     * {@link DurabilityPolicy#BATCHED}, and forces the files saved in between with {@code fileForcer}.
+     */
+    ForcedSaveTracker(DurabilityPolicy durabilityPolicy, long batchedForceIntervalNanos, FileForcer fileForcer) {
+        requireNonNull(durabilityPolicy);
+        requireNonNull(fileForcer);
+        this.durabilityPolicy = durabilityPolicy;
+        this.batchedForceIntervalNanos = batchedForceIntervalNanos;
+        this.fileForcer = fileForcer;
+    }
+
+    /**
+     * Returns true if the save that is about to happen should be forced to the storage device.
+     * A save that is not forced must be reported with {@link #recordSave} once it has been written.
+     */
+    synchronized boolean shouldForceNextSave() {
+        switch (durabilityPolicy) {
+        case NONE:
+            return false;
+        case BATCHED:
+            long now = System.nanoTime();
+            if (hasForcedSave && now - lastForcedSaveNanos < batchedForceIntervalNanos) {
+                return false;
+            }
+            hasForcedSave = true;
+            lastForcedSaveNanos = now;
+            return true;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Records that {@code file} has been saved, forced to the storage device or not as {@code isForced} says.
+     * Under {@link DurabilityPolicy#BATCHED}, a file saved without being forced is forced by the timer at the end of
+     * the current batching interval.
+     */
+    synchronized void recordSave(Path file, boolean isForced) {
+        requireNonNull(file);
+        if (durabilityPolicy != DurabilityPolicy.BATCHED || isForced) {
+            return;
+        }
+
+        unforcedFiles.add(file);
+        if (!isForceScheduled) {
+            long delayNanos = Math.max(0, lastForcedSaveNanos + batchedForceIntervalNanos - System.nanoTime());
+            Timer.INSTANCE.schedule(this::forceUnforcedFiles, delayNanos, TimeUnit.NANOSECONDS);
+            isForceScheduled = true;
+        }
+    }
+
+    private void forceUnforcedFiles() {
+        List<Path> files;
+        synchronized (this) {
+            files = new ArrayList<>(unforcedFiles);
+            unforcedFiles.clear();
+            isForceScheduled = false;
+            hasForcedSave = true;
+            lastForcedSaveNanos = System.nanoTime();
+        }
+
+        for (Path file : files) {
+            try {
+                fileForcer.force(file);
+            } catch (IOException e) {
+                logger.warning("Failed to force " + file + " to the storage device: " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Holds the timer shared by every tracker, which is only started once a save is batched.
+     */
+    private static class Timer {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "batched-force-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 
 import seedu.job.commons.exceptions.DataLoadingException;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
 
 /**
  * Represents a storage for {@link JobApplication}.
@@ -18,17 +20,17 @@ public interface JobApplicationStorage {
     Path getDataFilePath();
 
     /**
-     * Returns a list of job applications
-     * Returns {@code Optional.empty()} if storage file is not found.
+     * Returns a list of job applications, which contains no two applications with the same company and role.
+     * Returns an empty list if storage file is not found.
      *
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    List<JobApplication> readDataFile() throws DataLoadingException;
+    UniqueJobApplications readDataFile() throws DataLoadingException;
 
     /**
      * @see #getDataFilePath()
      */
-    List<JobApplication> readDataFile(Path filePath) throws DataLoadingException;
+    UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException;
 
     /**
      * Saves the given list of job applications to the storage.
@@ -42,4 +44,14 @@ public interface JobApplicationStorage {
      */
     void saveJobApplicationData(List<JobApplication> jobApplications, Path filePath) throws IOException;
 
+    /**
+     * Persists {@code changes}, which were applied in order to bring the stored data up to {@code jobApplications}.
+     * Implementations that cannot store changes incrementally may save {@code jobApplications} in full instead.
+     * @param changes can be empty
+     * @param jobApplications the complete list of job applications after {@code changes} were applied
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException;
+
 }
@@ -0,0 +1,85 @@
+package seedu.job.storage;
+
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.core.StorageFormat;
+
+/**
+ * Creates the {@link JobApplicationStorage} that reads and writes a given {@link StorageFormat}.
+ */
+public class JobApplicationStorageFactory {
+
+    private static final Logger logger = LogsCenter.getLogger(JobApplicationStorageFactory.class);
+
+    private JobApplicationStorageFactory() {}
+
+    /**
+     * Returns a storage for job applications kept at {@code filePath} in {@code format}, which forces saves to the
+     * storage device according to {@code durabilityPolicy}.
+     */
+    public static JobApplicationStorage create(StorageFormat format, Path filePath,
+            DurabilityPolicy durabilityPolicy) {
+        requireAllNonNull(format, filePath, durabilityPolicy);
+        switch (format) {
+        case BINARY:
+            return new BinaryJobApplicationStorage(filePath, durabilityPolicy);
+        case JSON:
+        default:
+            return new JsonJobApplicationStorage(filePath, durabilityPolicy);
+        }
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath}, configured to be in {@code format}.
+     * If the file already exists but its contents are in another format, e.g. because the format was changed without
+     * converting the file, the storage keeps reading and writing the format of the contents instead, so that the
+     * file is neither rejected as corrupted nor overwritten in a format that does not match its name.
+     */
+    public static JobApplicationStorage createForDataFile(StorageFormat format, Path filePath,
+            DurabilityPolicy durabilityPolicy) {
+        requireAllNonNull(format, filePath, durabilityPolicy);
+        StorageFormat contentFormat = detectFormat(filePath).orElse(format);
+        if (contentFormat != format) {
+            logger.warning("Data file " + filePath + " is in " + contentFormat + " format rather than the configured "
+                    + format + " format. Keeping it in " + contentFormat + " format.");
+        }
+        return create(contentFormat, filePath, durabilityPolicy);
+    }
+
+    /**
+     * Returns the format of the contents of the file at {@code filePath}, judged by their first bytes,
+     * or {@code Optional.empty()} if the file does not exist, cannot be read or is in no known format.
+     */
+    static Optional<StorageFormat> detectFormat(Path filePath) {
+        if (!Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            in.mark(Integer.BYTES);
+            if (in.readInt() == BinaryJobApplicationStorage.MAGIC) {
+                return Optional.of(StorageFormat.BINARY);
+            }
+            in.reset();
+
+            // a JSON data file holds an object, possibly after some whitespace
+            int next;
+            while ((next = in.read()) != -1 && Character.isWhitespace(next)) {
+                continue;
+            }
+            return next == '{' ? Optional.of(StorageFormat.JSON) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+}
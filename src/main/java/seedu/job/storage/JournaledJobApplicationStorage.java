@@ -0,0 +1,269 @@
+package seedu.job.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.commons.util.FileUtil;
+import seedu.job.commons.util.JsonUtil;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+import seedu.job.model.jobapplication.exceptions.DuplicateJobApplicationException;
+import seedu.job.model.jobapplication.exceptions.JobApplicationNotFoundException;
+
+/**
+ * A {@code JobApplicationStorage} that appends each change to a journal file next to the data file, instead of
+ * rewriting every job application on each save.
+ * The data file itself is written by the wrapped snapshot storage. When the journal grows past the compaction
+ * threshold, or the whole job book is replaced, a fresh snapshot is written and the journal is discarded.
+ * On reading, the journal is replayed on top of the last snapshot.
+ */
+public class JournaledJobApplicationStorage implements JobApplicationStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledJobApplicationStorage.class);
+
+    private final JobApplicationStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final ForcedSaveTracker forcedSaveTracker;
+
+    /** Number of records in the journal of the data file. */
+    private int journalSize;
+
+    /**
+     * Whether the journal of the data file is known to extend the current snapshot.
+     * Until the data file has been read or written, the first save writes a full snapshot.
+     */
+    private boolean isJournalInSync;
+
+    /** Whether the last journal read ended with an incomplete record, which must not be appended to. */
+    private boolean hasIncompleteRecord;
+
+    /**
+     * Creates a {@code JournaledJobApplicationStorage} that compacts after {@link #DEFAULT_COMPACTION_THRESHOLD}
+     * journal records.
+     */
+    public JournaledJobApplicationStorage(JobApplicationStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledJobApplicationStorage} that writes snapshots through {@code snapshotStorage} and
+     * compacts once the journal holds more than {@code compactionThreshold} records.
+     */
+    public JournaledJobApplicationStorage(JobApplicationStorage snapshotStorage, int compactionThreshold) {
+        this(snapshotStorage, compactionThreshold, DurabilityPolicy.ON_SAVE);
+    }
+
+    /**
+     * Creates a {@code JournaledJobApplicationStorage} that writes snapshots through {@code snapshotStorage},
+     * compacts once the journal holds more than {@code compactionThreshold} records, and forces journal appends to
+     * the storage device according to {@code durabilityPolicy}.
+     */
+    public JournaledJobApplicationStorage(JobApplicationStorage snapshotStorage, int compactionThreshold,
+            DurabilityPolicy durabilityPolicy) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(durabilityPolicy);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive: " + compactionThreshold);
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.forcedSaveTracker = new ForcedSaveTracker(durabilityPolicy);
+    }
+
+    @Override
+    public Path getDataFilePath() {
+        return snapshotStorage.getDataFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public UniqueJobApplications readDataFile() throws DataLoadingException {
+        return readDataFile(getDataFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     * A malformed final journal record is assumed to be an interrupted append and is ignored.
+     * Records that no longer apply, such as those left behind by an interrupted compaction, are skipped.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        UniqueJobApplications snapshot = snapshotStorage.readDataFile(filePath);
+        List<JobBookChange> changes = readJournal(getJournalFilePath(filePath));
+
+        UniqueJobApplications applications = snapshot;
+        if (!changes.isEmpty()) {
+            applications = replay(snapshot, changes);
+            logger.info("Replayed " + changes.size() + " journal record(s) onto " + filePath);
+        }
+
+        if (filePath.equals(getDataFilePath())) {
+            journalSize = changes.size();
+            isJournalInSync = !hasIncompleteRecord;
+        }
+        return applications;
+    }
+
+    private List<JobBookChange> readJournal(Path journalFilePath) throws DataLoadingException {
+        hasIncompleteRecord = false;
+        if (!Files.exists(journalFilePath)) {
+            return new ArrayList<>();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        List<JobBookChange> changes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedJobBookChange.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                if (isLastRecord(lines, i)) {
+                    logger.warning("Ignoring incomplete last record in " + journalFilePath + ": " + e.getMessage());
+                    hasIncompleteRecord = true;
+                    break;
+                }
+                logger.info("Illegal values found in " + journalFilePath + " at line " + (i + 1) + ": "
+                        + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isLastRecord(List<String> lines, int index) {
+        for (int i = index + 1; i < lines.size(); i++) {
+            if (!lines.get(i).trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private UniqueJobApplications replay(UniqueJobApplications snapshot, List<JobBookChange> changes) {
+        JobBook jobBook = new JobBook();
+        jobBook.setUniqueApplications(snapshot);
+
+        for (JobBookChange change : changes) {
+            try {
+                change.applyTo(jobBook);
+            } catch (DuplicateJobApplicationException | JobApplicationNotFoundException e) {
+                logger.warning("Skipping journal record that does not apply to the snapshot: " + change);
+            }
+        }
+        return jobBook.toUniqueApplications();
+    }
+
+    @Override
+    public void saveJobApplicationData(List<JobApplication> jobApplications) throws IOException {
+        saveJobApplicationData(jobApplications, getDataFilePath());
+    }
+
+    /**
+     * Writes a full snapshot of {@code jobApplications} to {@code filePath} and discards its journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveJobApplicationData(List<JobApplication> jobApplications, Path filePath) throws IOException {
+        requireNonNull(jobApplications);
+        requireNonNull(filePath);
+
+        boolean isDataFile = filePath.equals(getDataFilePath());
+        if (isDataFile) {
+            isJournalInSync = false;
+        }
+        snapshotStorage.saveJobApplicationData(jobApplications, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        if (isDataFile) {
+            journalSize = 0;
+            isJournalInSync = true;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal of the data file.
+     * Writes a full snapshot instead if the journal is not known to match the data file, if {@code changes}
+     * replace the whole job book, or if the journal would grow past the compaction threshold.
+     */
+    @Override
+    public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException {
+        requireNonNull(changes);
+        requireNonNull(jobApplications);
+
+        if (isJournalInSync && changes.isEmpty()) {
+            return;
+        }
+
+        if (!isJournalInSync || containsReset(changes) || journalSize + changes.size() > compactionThreshold) {
+            logger.fine("Compacting journal into " + getDataFilePath());
+            saveJobApplicationData(jobApplications);
+            return;
+        }
+
+        appendToJournal(changes);
+    }
+
+    private static boolean containsReset(List<JobBookChange> changes) {
+        return changes.stream().anyMatch(change -> change.getType() == JobBookChange.Type.RESET);
+    }
+
+    private void appendToJournal(List<JobBookChange> changes) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JobBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedJobBookChange(change)))
+                    .append(System.lineSeparator());
+        }
+
+        Path journalFilePath = getJournalFilePath(getDataFilePath());
+        try {
+            boolean isForced = forcedSaveTracker.shouldForceNextSave();
+            FileUtil.appendToFile(journalFilePath, records.toString().getBytes(StandardCharsets.UTF_8), isForced);
+            forcedSaveTracker.recordSave(journalFilePath, isForced);
+        } catch (IOException e) {
+            // the changes are lost to the journal, and a partially written record must not be followed by
+            // further appends, so the next save writes a full snapshot instead
+            isJournalInSync = false;
+            throw e;
+        }
+        journalSize += changes.size();
+    }
+
+}
@@ -0,0 +1,119 @@
+package seedu.job.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
+
+/**
+ * Jackson-friendly version of {@link JobBookChange}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJobBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_FIELD_MESSAGE_FORMAT = "Journal record's %s field is invalid: %s";
+
+    private final String type;
+    private final SerializableJobApplication target;
+    private final SerializableJobApplication edited;
+    private final String sortField;
+    private final String sortOrder;
+
+    /**
+     * Constructs a {@code JsonAdaptedJobBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJobBookChange(@JsonProperty("type") String type,
+                                    @JsonProperty("target") SerializableJobApplication target,
+                                    @JsonProperty("edited") SerializableJobApplication edited,
+                                    @JsonProperty("sortField") String sortField,
+                                    @JsonProperty("sortOrder") String sortOrder) {
+        this.type = type;
+        this.target = target;
+        this.edited = edited;
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * Converts a given {@code JobBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedJobBookChange(JobBookChange source) {
+        type = source.getType().name();
+        target = source.getTarget() == null ? null : new SerializableJobApplication(source.getTarget());
+        edited = source.getEditedApplication() == null
+                ? null
+                : new SerializableJobApplication(source.getEditedApplication());
+        sortField = source.getSortField() == null ? null : source.getSortField().name();
+        sortOrder = source.getSortOrder() == null ? null : source.getSortOrder().name();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code JobBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public JobBookChange toModelType() throws IllegalValueException {
+        switch (parseType()) {
+        case ADD:
+            return JobBookChange.add(requireTarget().toModelType());
+        case DELETE:
+            return JobBookChange.delete(requireTarget().toModelType());
+        case SET:
+            if (edited == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "edited"));
+            }
+            return JobBookChange.set(requireTarget().toModelType(), edited.toModelType());
+        case SORT:
+            return JobBookChange.sort(parseSortField(), parseSortOrder());
+        default:
+            return JobBookChange.reset();
+        }
+    }
+
+    private JobBookChange.Type parseType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        try {
+            return JobBookChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "type", type));
+        }
+    }
+
+    private SerializableJobApplication requireTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        return target;
+    }
+
+    private SortField parseSortField() throws IllegalValueException {
+        if (sortField == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sortField"));
+        }
+        try {
+            return SortField.valueOf(sortField);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "sortField", sortField));
+        }
+    }
+
+    private SortOrder parseSortOrder() throws IllegalValueException {
+        if (sortOrder == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sortOrder"));
+        }
+        try {
+            return SortOrder.valueOf(sortOrder);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "sortOrder", sortOrder));
+        }
+    }
+
+}
@@ -2,19 +2,23 @@ package seedu.job.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.job.commons.core.DurabilityPolicy;
 import seedu.job.commons.core.LogsCenter;
 import seedu.job.commons.exceptions.DataLoadingException;
 import seedu.job.commons.exceptions.IllegalValueException;
-import seedu.job.commons.util.FileUtil;
 import seedu.job.commons.util.JsonUtil;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
 
 /**
  * A class to access Job Application data stored as a json file on the hard disk.
@@ -24,9 +28,19 @@ public class JsonJobApplicationStorage implements JobApplicationStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonJobApplicationStorage.class);
 
     private Path filePath;
+    private final ForcedSaveTracker forcedSaveTracker;
 
     public JsonJobApplicationStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.ON_SAVE);
+    }
+
+    /**
+     * Creates a {@code JsonJobApplicationStorage} for {@code filePath} that forces saves to the storage device
+     * according to {@code durabilityPolicy}.
+     */
+    public JsonJobApplicationStorage(Path filePath, DurabilityPolicy durabilityPolicy) {
         this.filePath = filePath;
+        this.forcedSaveTracker = new ForcedSaveTracker(durabilityPolicy);
     }
 
     public Path getDataFilePath() {
@@ -34,7 +48,7 @@ public class JsonJobApplicationStorage implements JobApplicationStorage {
     }
 
     @Override
-    public List<JobApplication> readDataFile() throws DataLoadingException {
+    public UniqueJobApplications readDataFile() throws DataLoadingException {
         return readDataFile(filePath);
     }
 
@@ -44,18 +58,19 @@ public class JsonJobApplicationStorage implements JobApplicationStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public List<JobApplication> readDataFile(Path filePath) throws DataLoadingException {
+    public UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableJobApplicationList> loadedApplications = JsonUtil.readJsonFile(
-                filePath, JsonSerializableJobApplicationList.class);
-
-        if (!loadedApplications.isPresent()) {
-            return new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return UniqueJobApplications.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return loadedApplications.get().toModelType();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return StreamingJobApplicationReader.read(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,12 +91,24 @@ public class JsonJobApplicationStorage implements JobApplicationStorage {
         requireNonNull(jobApplications);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         List<SerializableJobApplication> serializableJobApplications = new ArrayList<>();
         for (JobApplication application: jobApplications) {
             serializableJobApplications.add(new SerializableJobApplication(application));
         }
-        JsonUtil.saveJsonFile(new JsonSerializableJobApplicationList(serializableJobApplications), filePath);
+        boolean isForced = forcedSaveTracker.shouldForceNextSave();
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableJobApplicationList(serializableJobApplications),
+                filePath, isForced);
+        forcedSaveTracker.recordSave(filePath, isForced);
+    }
+
+    /**
+     * Saves {@code jobApplications} in full, as a json snapshot has no way of storing individual changes.
+     */
+    @Override
+    public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException {
+        requireNonNull(changes);
+        saveJobApplicationData(jobApplications);
     }
 
 }
@@ -1,7 +1,9 @@
 package seedu.job.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -9,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.job.commons.exceptions.IllegalValueException;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.UniqueJobApplications;
 
 /**
  * Represents a list of job applications that can be serialized to JSON format.
@@ -17,6 +20,8 @@ import seedu.job.model.jobapplication.JobApplication;
 public class JsonSerializableJobApplicationList {
 
     public static final String MESSAGE_DUPLICATE_APPLICATION = "Duplicate applications have been detected.";
+    public static final String MESSAGE_DUPLICATE_ENTRY_FORMAT = MESSAGE_DUPLICATE_APPLICATION
+            + " Entry %d has the same company and role as entry %d (%s, %s).";
 
     private final List<SerializableJobApplication> jobApplications = new ArrayList<>();
 
@@ -30,18 +35,35 @@ public class JsonSerializableJobApplicationList {
     }
 
     /**
-     * Converts this job application list into the model's {@code List<JobApplication>} object.
+     * Converts this job application list into the model's {@code UniqueJobApplications} object.
+     * The returned list contains no two applications with the same company and role.
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public List<JobApplication> toModelType() throws IllegalValueException {
-        List<JobApplication> listOfApplications = new ArrayList<>();
+    public UniqueJobApplications toModelType() throws IllegalValueException {
+        List<JobApplication> listOfApplications = new ArrayList<>(jobApplications.size());
+        Set<String> uniqueKeys = new HashSet<>();
         for (SerializableJobApplication serializableApplication : jobApplications) {
             JobApplication application = serializableApplication.toModelType();
-            if (listOfApplications.contains(application)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
+            int entryNumber = listOfApplications.size() + 1;
+            if (!uniqueKeys.add(application.getUniqueKey())) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ENTRY_FORMAT, entryNumber,
+                        indexOfKey(listOfApplications, application.getUniqueKey()) + 1,
+                        application.getCompanyName(), application.getRole()));
             }
             listOfApplications.add(application);
         }
-        return listOfApplications;
+        return new UniqueJobApplications(listOfApplications, uniqueKeys);
+    }
+
+    /**
+     * Returns the index of the first application in {@code applications} with the unique key {@code key}.
+     */
+    static int indexOfKey(List<JobApplication> applications, String key) {
+        for (int i = 0; i < applications.size(); i++) {
+            if (applications.get(i).getUniqueKey().equals(key)) {
+                return i;
+            }
+        }
+        throw new AssertionError("The key must be among the applications");
     }
 }
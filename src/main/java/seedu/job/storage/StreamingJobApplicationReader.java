@@ -0,0 +1,155 @@
+package seedu.job.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+
+/**
+ * Reads job applications saved by {@link JsonJobApplicationStorage} one at a time from a stream.
+ * Unlike binding the whole file to a {@link JsonSerializableJobApplicationList}, only the job application being
+ * read is held in memory besides the resulting list, so memory use stays close to the size of the loaded data.
+ */
+class StreamingJobApplicationReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Expected a JSON object at %s";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Expected a JSON array at %s";
+    public static final String MESSAGE_DUPLICATE_ENTRY_FORMAT =
+            JsonSerializableJobApplicationList.MESSAGE_DUPLICATE_APPLICATION
+            + " Entry %d (line %d) has the same company and role as entry %d (line %d) (%s, %s).";
+
+    private static final String FIELD_JOB_APPLICATIONS = "jobApplications";
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private StreamingJobApplicationReader() {}
+
+    /**
+     * Reads the list of job applications from {@code in}. The stream is not closed.
+     * The returned list contains no two applications with the same company and role, and carries the unique keys
+     * built while checking that.
+     *
+     * @throws IOException if {@code in} could not be read or does not contain valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static UniqueJobApplications read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        List<JobApplication> applications = new ArrayList<>();
+        Set<String> uniqueKeys = new HashSet<>();
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT, MESSAGE_NOT_AN_OBJECT);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!FIELD_JOB_APPLICATIONS.equals(field) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser, value, JsonToken.START_ARRAY, MESSAGE_NOT_AN_ARRAY);
+                readApplications(parser, applications, uniqueKeys);
+            }
+        }
+        return new UniqueJobApplications(applications, uniqueKeys);
+    }
+
+    /**
+     * Reads the elements of the job applications array into {@code applications}, and their unique keys into
+     * {@code uniqueKeys}, rejecting any two applications with the same company and role in a single pass.
+     */
+    private static void readApplications(JsonParser parser, List<JobApplication> applications,
+            Set<String> uniqueKeys) throws IOException, IllegalValueException {
+        uniqueKeys.clear();
+        applications.clear();
+        int[] lines = new int[16];
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT, MESSAGE_NOT_AN_OBJECT);
+            int line = parser.getCurrentLocation().getLineNr();
+            JobApplication application = readApplication(parser);
+
+            int entryNumber = applications.size() + 1;
+            if (!uniqueKeys.add(application.getUniqueKey())) {
+                int firstEntry = JsonSerializableJobApplicationList.indexOfKey(applications,
+                        application.getUniqueKey()) + 1;
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ENTRY_FORMAT, entryNumber, line,
+                        firstEntry, lines[firstEntry - 1], application.getCompanyName(), application.getRole()));
+            }
+            if (applications.size() == lines.length) {
+                lines = Arrays.copyOf(lines, lines.length * 2);
+            }
+            lines[applications.size()] = line;
+            applications.add(application);
+        }
+    }
+
+    /**
+     * Reads the fields of a single job application. The parser must be positioned at its {@code START_OBJECT}.
+     */
+    private static JobApplication readApplication(JsonParser parser) throws IOException, IllegalValueException {
+        String companyName = null;
+        String role = null;
+        String deadline = null;
+        String status = null;
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "companyName":
+                companyName = parser.getValueAsString();
+                break;
+            case "role":
+                role = parser.getValueAsString();
+                break;
+            case "deadline":
+                deadline = parser.getValueAsString();
+                break;
+            case "status":
+                status = parser.getValueAsString();
+                break;
+            case "tags":
+                if (value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tags.add(new JsonAdaptedTag(parser.getValueAsString()));
+                        parser.skipChildren();
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        try {
+            return new SerializableJobApplication(companyName, role, deadline, status, tags).toModelType();
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected, String messageFormat)
+            throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format(messageFormat, parser.getCurrentLocation()));
+        }
+    }
+
+}
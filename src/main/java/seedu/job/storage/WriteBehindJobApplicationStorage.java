@@ -0,0 +1,240 @@
+package seedu.job.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.job.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.job.commons.core.LogsCenter;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.util.StringUtil;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+
+/**
+ * A {@code JobApplicationStorage} that saves changes on a background thread, so that callers do not wait for the
+ * disk.
+ * Changes saved within {@code saveDelayMillis} of the first unsaved change are collected and written to the wrapped
+ * storage in a single write, together with a copy of the latest list of job applications.
+ * Failed writes are reported to the failure handler and retried with the next write.
+ * Reads and full saves wait for pending changes to be written first.
+ */
+public class WriteBehindJobApplicationStorage implements JobApplicationStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindJobApplicationStorage.class);
+
+    private final JobApplicationStorage storage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this
+    private final List<JobBookChange> pendingChanges = new ArrayList<>();
+    private List<JobApplication> pendingApplications;
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Creates a {@code WriteBehindJobApplicationStorage} that writes to {@code storage} at most
+     * {@code saveDelayMillis} after a change is saved. A negative delay is treated as zero.
+     */
+    public WriteBehindJobApplicationStorage(JobApplicationStorage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.saveDelayMillis = Math.max(0, saveDelayMillis);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-application-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is notified, on the background thread, when writing pending changes fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public Path getDataFilePath() {
+        return storage.getDataFilePath();
+    }
+
+    @Override
+    public UniqueJobApplications readDataFile() throws DataLoadingException {
+        return readDataFile(getDataFilePath());
+    }
+
+    @Override
+    public UniqueJobApplications readDataFile(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readDataFile(filePath);
+    }
+
+    @Override
+    public void saveJobApplicationData(List<JobApplication> jobApplications) throws IOException {
+        saveJobApplicationData(jobApplications, getDataFilePath());
+    }
+
+    /**
+     * Writes any pending changes, then saves {@code jobApplications} to {@code filePath} and waits for the write
+     * to complete.
+     */
+    @Override
+    public void saveJobApplicationData(List<JobApplication> jobApplications, Path filePath) throws IOException {
+        requireAllNonNull(jobApplications, filePath);
+        List<JobApplication> snapshot = List.copyOf(jobApplications);
+        runOnWriter(() -> {
+            writePending();
+            storage.saveJobApplicationData(snapshot, filePath);
+            return null;
+        });
+    }
+
+    /**
+     * Queues {@code changes} to be written in the background and returns immediately.
+     * Only a copy of {@code jobApplications} is kept, so the caller may keep modifying its list.
+     */
+    @Override
+    public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+            throws IOException {
+        requireAllNonNull(changes, jobApplications);
+        List<JobApplication> snapshot = List.copyOf(jobApplications);
+        if (writer.isShutdown()) {
+            storage.saveJobApplicationChanges(changes, snapshot);
+            return;
+        }
+
+        synchronized (this) {
+            pendingChanges.addAll(changes);
+            pendingApplications = snapshot;
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.schedule(this::writePendingInBackground, saveDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes any pending changes and waits for the write to complete.
+     *
+     * @throws IOException if there was any problem writing the changes.
+     */
+    public void flush() throws IOException {
+        runOnWriter(() -> {
+            writePending();
+            return null;
+        });
+    }
+
+    /**
+     * Writes any pending changes and stops the background thread.
+     * Changes saved afterwards are written immediately on the caller's thread.
+     *
+     * @throws IOException if there was any problem writing the changes.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save job applications: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending changes to the wrapped storage. Must only be called on the writer thread.
+     * If the write fails, the changes are put back in front of any changes saved in the meantime.
+     */
+    private void writePending() throws IOException {
+        List<JobBookChange> changes;
+        List<JobApplication> applications;
+        synchronized (this) {
+            isWriteScheduled = false;
+            if (pendingApplications == null) {
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges);
+            applications = pendingApplications;
+            pendingChanges.clear();
+            pendingApplications = null;
+        }
+
+        try {
+            storage.saveJobApplicationChanges(changes, applications);
+        } catch (IOException e) {
+            synchronized (this) {
+                pendingChanges.addAll(0, changes);
+                if (pendingApplications == null) {
+                    pendingApplications = applications;
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void runOnWriter(Callable<Void> task) throws IOException {
+        if (writer.isShutdown()) {
+            synchronized (this) {
+                callDirectly(task);
+            }
+            return;
+        }
+
+        Future<Void> result = writer.submit(task);
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for job applications to be saved", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void callDirectly(Callable<Void> task) throws IOException {
+        try {
+            task.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+}
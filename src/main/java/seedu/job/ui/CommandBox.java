@@ -1,8 +1,12 @@
 package seedu.job.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.job.logic.jobcommands.CommandResult;
 import seedu.job.logic.jobcommands.exceptions.JobCommandException;
@@ -17,18 +21,31 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+
+    /** Completions offered for the text last completed with the Tab key, and the one currently shown. */
+    private List<String> completions = List.of();
+    private int completionIndex;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the Tab key would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                handleCompletionRequested();
+            }
+        });
     }
 
     /**
@@ -49,6 +66,25 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event, by completing the value after the last prefix in the command box.
+     * Pressing Tab again right after shows the next completion, if there is more than one.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        if (!completions.isEmpty() && commandText.equals(completions.get(completionIndex))) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = commandCompleter.complete(commandText);
+            completionIndex = 0;
+        }
+
+        if (!completions.isEmpty()) {
+            commandTextField.setText(completions.get(completionIndex));
+            commandTextField.end();
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +118,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws ParseException, JobCommandException;
     }
 
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the possible completions of the command typed so far.
+         *
+         * @see seedu.job.logic.Logic#getCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
+
 }
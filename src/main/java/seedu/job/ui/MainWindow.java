@@ -119,7 +119,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getJobBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -163,6 +163,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code message} in the result display as an error.
+     */
+    void showErrorToUser(String message) {
+        resultDisplay.setErrorToUser(message);
+    }
+
     public JobApplicationListPanel getJobApplicationListPanel() {
         return jobApplicationListPanel;
     }
@@ -10,4 +10,9 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code message} to the user as an error. May be called from any thread.
+     */
+    void showErrorToUser(String message);
+
 }
@@ -50,6 +50,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showErrorToUser(String message) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showErrorToUser(message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
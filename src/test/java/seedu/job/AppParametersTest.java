@@ -39,6 +39,13 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Map.of("config", "config.json")));
+        assertEquals(new AppParameters(), AppParameters.parse(Map.of()));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
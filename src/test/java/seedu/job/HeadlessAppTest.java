@@ -0,0 +1,122 @@
+package seedu.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.LogicManager;
+import seedu.job.logic.jobcommands.RunCommand;
+import seedu.job.logic.parser.RunCommandParser;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.storage.DataStorageManager;
+import seedu.job.storage.JsonJobApplicationStorage;
+import seedu.job.storage.JsonUserPrefsStorage;
+import seedu.job.ui.HelpWindow;
+
+public class HeadlessAppTest {
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, new HashSet<>());
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private ModelManager model;
+    private DataStorageManager storage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        model = new ModelManager(jobBook, new UserPrefs());
+        storage = new DataStorageManager(
+                new JsonJobApplicationStorage(temporaryFolder.resolve("jobBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage), toPrintStream(out), toPrintStream(err));
+    }
+
+    @Test
+    public void execute_listingCommand_printsDisplayedApplications() {
+        assertNotNull(app.execute("list"));
+        assertEquals(String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW, 1) + "\n"
+                + "1. " + JobMessages.format(GOOGLE_APPLICATION) + "\n", toString(out));
+        assertEquals("", toString(err));
+    }
+
+    @Test
+    public void execute_help_printsUserGuide() {
+        assertNotNull(app.execute("help"));
+        assertEquals(HelpWindow.HELP_MESSAGE + "\n", toString(out));
+    }
+
+    @Test
+    public void execute_invalidCommand_printsError() {
+        assertNull(app.execute("bogus"));
+        assertEquals("", toString(out));
+        assertEquals(JobMessages.MESSAGE_UNKNOWN_COMMAND + "\n", toString(err));
+    }
+
+    @Test
+    public void executeAll_failedCommand_continuesAndFails() {
+        String input = "# a comment\n\nbogus\ndelete 1\n";
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.executeAll(new BufferedReader(new StringReader(input))));
+        assertEquals(0, model.getJobBook().getApplicationList().size());
+        assertEquals(JobMessages.MESSAGE_UNKNOWN_COMMAND + "\n", toString(err));
+    }
+
+    @Test
+    public void executeAll_exit_stopsReading() {
+        String input = "list\nexit\ndelete 1\n";
+        assertEquals(HeadlessApp.EXIT_SUCCESS, app.executeAll(new BufferedReader(new StringReader(input))));
+        assertEquals(1, model.getJobBook().getApplicationList().size());
+        assertEquals("", toString(err));
+    }
+
+    @Test
+    public void executeAll_runStandardInput_linesLeftRunAsOneScript() {
+        BufferedReader in = new BufferedReader(new StringReader("list\nrun -\ntag 1 t/remote\ndelete 5\n"));
+        app = new HeadlessApp(new LogicManager(model, storage, in), toPrintStream(out), toPrintStream(err));
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.executeAll(in));
+        // the failing line rolled the tag back, and the lines of the script were not run as commands of their own
+        assertEquals(GOOGLE_APPLICATION, model.getJobBook().getApplicationList().get(0));
+        assertTrue(toString(err).startsWith(String.format(RunCommand.MESSAGE_LINE_FAILED, 2, "")));
+        assertTrue(toString(err).endsWith(RunCommand.MESSAGE_ROLLED_BACK + "\n"));
+    }
+
+    @Test
+    public void execute_runStandardInputWithoutStandardInput_printsError() {
+        assertNull(app.execute("run -"));
+        assertEquals(RunCommandParser.MESSAGE_NO_STANDARD_INPUT + "\n", toString(err));
+    }
+
+    private static PrintStream toPrintStream(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+
+    private static String toString(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
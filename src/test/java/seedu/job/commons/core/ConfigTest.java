@@ -12,7 +12,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveDelayMillis=" + config.getSaveDelayMillis()
+                + ", durabilityPolicy=" + config.getDurabilityPolicy() + "}";
         assertEquals(expected, config.toString());
     }
 
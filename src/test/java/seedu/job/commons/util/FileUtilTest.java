@@ -1,13 +1,22 @@
 package seedu.job.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.job.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,27 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.json");
+
+        FileUtil.writeToFileAtomically(file, "old content that is longer", true);
+        FileUtil.writeToFileAtomically(file, "new", false);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_moveFails_tempFileDeleted() throws Exception {
+        // a non-empty directory cannot be replaced by a file
+        Path file = testFolder.resolve("data.json");
+        Files.createDirectories(file.resolve("child"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, "new", true));
+
+        assertTrue(Files.isDirectory(file.resolve("child")));
+        assertFalse(Files.exists(file.resolveSibling("data.json.tmp")));
+    }
+
 }
@@ -0,0 +1,72 @@
+package seedu.job.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void complete_prefixIgnoringCase_alphabeticalCompletions() {
+        trie.add("Google");
+        trie.add("Goldman Sachs");
+        trie.add("Meta");
+        trie.add("go");
+
+        assertEquals(List.of("go", "Goldman Sachs", "Google"), trie.complete("GO", 10));
+        assertEquals(List.of("go", "Goldman Sachs"), trie.complete("go", 2));
+        assertEquals(List.of("Google"), trie.complete("goo", 10));
+        assertEquals(List.of("go", "Goldman Sachs", "Google", "Meta"), trie.complete("", 10));
+        assertTrue(trie.complete("goog le", 10).isEmpty());
+    }
+
+    @Test
+    public void add_sameStringDifferentCase_keptOnceWithFirstCase() {
+        trie.add("Google");
+        trie.add("GOOGLE");
+
+        assertEquals(List.of("Google"), trie.complete("g", 10));
+    }
+
+    @Test
+    public void remove_countedOccurrences_removedWhenNoneLeft() {
+        trie.add("Google");
+        trie.add("google");
+        trie.add("Goldman Sachs");
+
+        trie.remove("Google");
+        assertEquals(List.of("Goldman Sachs", "Google"), trie.complete("go", 10));
+
+        trie.remove("GOOGLE");
+        assertEquals(List.of("Goldman Sachs"), trie.complete("go", 10));
+
+        // absent strings and prefixes of strings -> nothing removed
+        trie.remove("Google");
+        trie.remove("Gold");
+        assertEquals(List.of("Goldman Sachs"), trie.complete("go", 10));
+
+        trie.remove("Goldman Sachs");
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    public void clear_allRemoved() {
+        trie.add("Google");
+        trie.clear();
+
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    public void nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+        assertThrows(NullPointerException.class, () -> trie.complete(null, 10));
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.job.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.job.testutil.Assert.assertThrows;
@@ -140,4 +141,45 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for containsIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase() {
+        assertTrue(StringUtil.containsIgnoreCase("Remote", "MOT"));
+        assertTrue(StringUtil.containsIgnoreCase("Remote", "remote"));
+        assertTrue(StringUtil.containsIgnoreCase("Remote", "e"));
+        assertTrue(StringUtil.containsIgnoreCase("Remote", ""));
+        assertTrue(StringUtil.containsIgnoreCase("", ""));
+
+        assertFalse(StringUtil.containsIgnoreCase("Remote", "remotely"));
+        assertFalse(StringUtil.containsIgnoreCase("Remote", "rem ote"));
+        assertFalse(StringUtil.containsIgnoreCase("", "a"));
+    }
+
+    @Test
+    public void containsIgnoreCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase(null, "a"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase("a", null));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("google", "google"));
+        assertEquals(6, StringUtil.editDistance("", "google"));
+        assertEquals(1, StringUtil.editDistance("bytdance", "bytedance")); // insertion
+        assertEquals(1, StringUtil.editDistance("gooogle", "google")); // deletion
+        assertEquals(1, StringUtil.editDistance("amazom", "amazon")); // substitution
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("meta", "tesla"), StringUtil.editDistance("tesla", "meta"));
+    }
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "a"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("a", null));
+    }
+
 }
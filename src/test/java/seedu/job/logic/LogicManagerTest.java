@@ -0,0 +1,161 @@
+package seedu.job.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.logic.jobcommands.RunCommand;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.storage.DataStorageManager;
+import seedu.job.storage.JsonJobApplicationStorage;
+import seedu.job.storage.JsonUserPrefsStorage;
+
+public class LogicManagerTest {
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, new HashSet<>());
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ModelManager model;
+    private CountingDataStorage storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        model = new ModelManager(jobBook, new UserPrefs());
+        storage = new CountingDataStorage(temporaryFolder);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_doesNotSave() throws Exception {
+        logic.execute("list");
+        logic.execute("find Google");
+        logic.execute("help");
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesOnce() throws Exception {
+        logic.execute("delete 1");
+        assertEquals(1, storage.saveCount);
+
+        logic.execute("list");
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void execute_saveFailed_retriedOnNextCommand() throws Exception {
+        storage.isFailing = true;
+        assertThrows(JobCommandException.class, () -> logic.execute("delete 1"));
+
+        storage.isFailing = false;
+        logic.execute("list");
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void execute_script_savesOnceAtEnd() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                "add n/Meta r/Backend Developer s/APPLIED d/2099-12-31",
+                "add n/Amazon r/Cloud Engineer s/APPLIED d/2099-12-31",
+                "delete 3"));
+
+        logic.execute("run " + scriptPath);
+        assertEquals(1, storage.saveCount);
+        assertEquals(2, model.getJobBook().getApplicationList().size());
+    }
+
+    @Test
+    public void execute_scriptFailsWithoutRollback_earlierChangesSaved() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                "add n/Meta r/Backend Developer s/APPLIED d/2099-12-31",
+                "delete 10",
+                "add n/Amazon r/Cloud Engineer s/APPLIED d/2099-12-31"));
+
+        assertThrows(JobCommandException.class, () -> logic.execute("run " + scriptPath + " --no-rollback"));
+        assertEquals(1, storage.saveCount);
+        assertEquals(2, model.getJobBook().getApplicationList().size());
+
+        logic.execute("list");
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void execute_scriptRolledBack_notSaved() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                "add n/Meta r/Backend Developer s/APPLIED d/2099-12-31",
+                "sort company",
+                "delete 10"));
+
+        assertThrows(JobCommandException.class, () -> logic.execute("run " + scriptPath));
+        assertEquals(0, storage.saveCount);
+        assertEquals(List.of(GOOGLE_APPLICATION), model.getJobBook().getApplicationList());
+
+        logic.execute("delete 1");
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void execute_scriptFailsAndSaveFails_bothFailuresReported() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                "add n/Meta r/Backend Developer s/APPLIED d/2099-12-31",
+                "delete 10"));
+        storage.isFailing = true;
+
+        JobCommandException e = assertThrows(JobCommandException.class, () ->
+                logic.execute("run " + scriptPath + " --no-rollback"));
+        assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_LINE_FAILED, 2, "")));
+        assertTrue(e.getMessage().endsWith(LogicManager.getSaveErrorMessage(new IOException("Disk is full"))));
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    /**
+     * A {@code DataStorageManager} that counts the number of times job application data is saved.
+     */
+    private static class CountingDataStorage extends DataStorageManager {
+        private int saveCount;
+        private boolean isFailing;
+
+        CountingDataStorage(Path folder) {
+            super(new JsonJobApplicationStorage(folder.resolve("data.json")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        }
+
+        @Override
+        public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+                throws IOException {
+            saveCount++;
+            if (isFailing) {
+                throw new IOException("Disk is full");
+            }
+            super.saveJobApplicationChanges(changes, jobApplications);
+        }
+    }
+
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.job.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,9 +15,12 @@ import seedu.job.logic.JobMessages;
 import seedu.job.logic.jobcommands.exceptions.JobCommandException;
 import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
 import seedu.job.model.jobapplication.Model;
 import seedu.job.model.jobapplication.ModelManager;
 import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
 import seedu.job.testutil.JobApplicationBuilder;
 
 /**
@@ -200,6 +205,25 @@ public class DeleteJobCommandTest {
         assertEquals(2, model.getFilteredApplicationList().size());
     }
 
+    @Test
+    public void execute_validIndexFilteredAndSortedList_deletesDisplayedApplication() throws Exception {
+        JobApplication google = new JobApplicationBuilder().withCompanyName("Google").build();
+        JobApplication meta = new JobApplicationBuilder().withCompanyName("Meta").build();
+        JobApplication amazon = new JobApplicationBuilder().withCompanyName("Amazon").build();
+        model.addJobApplication(google);
+        model.addJobApplication(meta);
+        model.addJobApplication(amazon);
+
+        model.sortJobApplication(SortField.COMPANY, SortOrder.ASCENDING);
+        model.updateFilteredJobApplicationList(application -> !application.equals(amazon));
+        new DeleteJobCommand(Index.fromOneBased(2)).execute(model);
+
+        assertTrue(model.hasApplication(google));
+        assertFalse(model.hasApplication(meta));
+        assertTrue(model.hasApplication(amazon));
+        assertEquals(List.of(JobBookChange.delete(meta)), model.takeJobBookChanges().subList(4, 5));
+    }
+
     @Test
     public void equals() {
         DeleteJobCommand deleteFirstCommand = new DeleteJobCommand(Index.fromOneBased(1));
@@ -12,10 +12,13 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.job.commons.core.index.Index;
+import seedu.job.logic.JobMessages;
 import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.JobBook;
 import seedu.job.model.jobapplication.Model;
 import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.Page;
 import seedu.job.model.jobapplication.UserPrefs;
 import seedu.job.model.tag.Tag;
 
@@ -111,6 +114,36 @@ public class FilterCommandTest {
         assertEquals(5, model.getFilteredApplicationList().size());
     }
 
+    @Test
+    public void execute_page_onlyPageShown() {
+        FilterCommand command = new FilterCommand(app -> true, new Page(2, 2));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(JobMessages.formatListedOverview(5, new Page(2, 2)), result.getFeedbackToUser());
+        assertEquals(String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW, 5) + "\n"
+                + String.format(JobMessages.MESSAGE_PAGE_SHOWN, 2, 3, 3, 4), result.getFeedbackToUser());
+        assertEquals(5, model.getFilteredJobApplicationCount());
+        // newest first: Netflix, Apple | Amazon, Meta | Google
+        assertEquals(2, model.getFilteredApplicationList().size());
+        assertEquals("Amazon", model.getFilteredApplicationList().get(0).getCompanyName());
+
+        // indexes refer to the page shown
+        model.deleteFilteredJobApplication(Index.fromOneBased(2));
+        assertEquals(4, model.getFilteredJobApplicationCount());
+        assertEquals("Amazon", model.getFilteredApplicationList().get(0).getCompanyName());
+        assertEquals("Google", model.getFilteredApplicationList().get(1).getCompanyName());
+    }
+
+    @Test
+    public void execute_pagePastLastPage_emptyPageShown() {
+        CommandResult result = new FilterCommand(app -> true, new Page(4, 2)).execute(model);
+
+        assertEquals(String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW, 5) + "\n"
+                + String.format(JobMessages.MESSAGE_PAGE_EMPTY, 4, 3), result.getFeedbackToUser());
+        assertEquals(0, model.getFilteredApplicationList().size());
+    }
+
     // ============== Tag Filtering Tests ==============
 
     @Test
@@ -6,16 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.job.logic.JobMessages;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
 import seedu.job.model.jobapplication.JobApplication;
 import seedu.job.model.jobapplication.JobBook;
 import seedu.job.model.jobapplication.Model;
 import seedu.job.model.jobapplication.ModelManager;
 import seedu.job.model.jobapplication.NameContainsKeywordsPredicate;
+import seedu.job.model.jobapplication.OrPredicate;
+import seedu.job.model.jobapplication.Page;
 import seedu.job.model.jobapplication.UserPrefs;
 import seedu.job.testutil.JobApplicationBuilder;
 
@@ -201,6 +205,60 @@ public class FindCommandTest {
         assertEquals(1, model.getFilteredApplicationList().size());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestMatchesListedFirst() {
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(Arrays.asList("Enginer", "Google"));
+        FindCommand command = new FindCommand(predicate);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(2, model.getFilteredApplicationList().size());
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW, 2), lines[0]);
+        assertEquals(FindCommand.MESSAGE_CLOSEST_MATCHES, lines[1]);
+        assertTrue(lines[2].startsWith("1. ") && lines[2].contains("Google"));
+        assertTrue(lines[3].startsWith("2. ") && lines[3].contains("Amazon"));
+    }
+
+    @Test
+    public void execute_exactAndFuzzyKeywords_onlyFuzzyMatchesRanked() {
+        FuzzyNameMatchesPredicate fuzzyPredicate = new FuzzyNameMatchesPredicate(List.of("Gogle"));
+        OrPredicate predicate = new OrPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Meta")),
+                fuzzyPredicate));
+        FindCommand command = new FindCommand(predicate, fuzzyPredicate, Page.ALL);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(2, model.getFilteredApplicationList().size());
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(FindCommand.MESSAGE_CLOSEST_MATCHES, lines[1]);
+        assertTrue(lines[2].startsWith("1. ") && lines[2].contains("Google"));
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsOnePage_matchesOnEveryPageRanked() {
+        FindCommand command = new FindCommand(new FuzzyNameMatchesPredicate(List.of("Enginer")), new Page(2, 1));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(1, model.getFilteredApplicationList().size());
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(FindCommand.MESSAGE_CLOSEST_MATCHES, lines[2]);
+        // equally close matches are ranked most recently added first
+        assertTrue(lines[3].startsWith("1. ") && lines[3].contains("Amazon"));
+        assertTrue(lines[4].startsWith("2. ") && lines[4].contains("Google"));
+    }
+
+    @Test
+    public void execute_fuzzyKeywordNoMatch_noClosestMatchesListed() {
+        FindCommand command = new FindCommand(new FuzzyNameMatchesPredicate(Arrays.asList("Netflix")));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(JobMessages.MESSAGE_APPLICATIONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         NameContainsKeywordsPredicate firstPredicate =
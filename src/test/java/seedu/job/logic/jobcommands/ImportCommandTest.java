@@ -0,0 +1,96 @@
+package seedu.job.logic.jobcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.testutil.JobApplicationBuilder;
+
+/**
+ * Contains tests for ImportCommand, using files written by ExportCommand.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final JobApplication google = new JobApplicationBuilder()
+            .withCompanyName("Google").withRole("Software Engineer").withTags("remote").build();
+    private final JobApplication meta = new JobApplicationBuilder()
+            .withCompanyName("Meta").withRole("Backend Developer").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(google);
+        jobBook.addApplication(meta);
+        model = new ModelManager(jobBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_exportThenImport_sameApplications() throws Exception {
+        for (String fileName : List.of("backup.json", "backup.bin")) {
+            Path filePath = testFolder.resolve(fileName);
+            List<JobApplication> exported = List.copyOf(model.getJobBook().getApplicationList());
+
+            CommandResult exportResult = new ExportCommand(filePath).execute(model);
+            assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, filePath), exportResult.getFeedbackToUser());
+
+            Model importModel = new ModelManager();
+            importModel.updateFilteredJobApplicationList(application -> false);
+            CommandResult importResult = new ImportCommand(filePath).execute(importModel);
+
+            assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), importResult.getFeedbackToUser());
+            assertEquals(exported, importModel.getJobBook().getApplicationList());
+            assertEquals(exported, importModel.getFilteredApplicationList());
+            assertEquals(exported.get(0).getTags(), importModel.getJobBook().getApplicationList().get(0).getTags());
+        }
+    }
+
+    @Test
+    public void execute_missingFile_throwsJobCommandException() {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertThrows(JobCommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath), ()
+                -> new ImportCommand(filePath).execute(model));
+        assertEquals(2, model.getJobBook().getApplicationList().size());
+    }
+
+    @Test
+    public void execute_corruptedFile_throwsJobCommandExceptionAndKeepsApplications() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        Files.writeString(filePath, "not a binary data file");
+        List<JobApplication> applications = List.copyOf(model.getJobBook().getApplicationList());
+
+        assertThrows(JobCommandException.class, () -> new ImportCommand(filePath).execute(model));
+        assertEquals(applications, model.getJobBook().getApplicationList());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(testFolder.resolve("first.json"));
+        ImportCommand importSecondCommand = new ImportCommand(testFolder.resolve("second.bin"));
+
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+        assertTrue(importFirstCommand.equals(new ImportCommand(testFolder.resolve("first.json"))));
+        assertFalse(importFirstCommand.equals(null));
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+        assertFalse(importFirstCommand.equals(new ExportCommand(testFolder.resolve("first.json"))));
+    }
+}
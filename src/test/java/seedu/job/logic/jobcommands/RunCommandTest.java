@@ -0,0 +1,145 @@
+package seedu.job.logic.jobcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+import static seedu.job.testutil.TypicalIndexes.INDEX_FIRST_JOB;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.job.commons.core.index.Index;
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.jobcommands.RunCommand.ScriptLine;
+import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
+import seedu.job.model.tag.Tag;
+import seedu.job.testutil.JobApplicationBuilder;
+
+/**
+ * Contains tests for RunCommand.
+ */
+public class RunCommandTest {
+
+    private final JobApplication google = new JobApplicationBuilder()
+            .withCompanyName("Google").withRole("Software Engineer").build();
+    private final JobApplication meta = new JobApplicationBuilder()
+            .withCompanyName("Meta").withRole("Backend Developer").build();
+    private final JobApplication amazon = new JobApplicationBuilder()
+            .withCompanyName("Amazon").withRole("Cloud Engineer").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(google);
+        model = new ModelManager(jobBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_runsInOrder() throws Exception {
+        RunCommand runCommand = new RunCommand("script.txt", List.of(
+                new ScriptLine(1, new AddJobCommand(meta)),
+                new ScriptLine(3, new DeleteJobCommand(INDEX_FIRST_JOB)),
+                new ScriptLine(4, new AddJobCommand(amazon))), true);
+
+        CommandResult result = runCommand.execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, "script.txt"), result.getFeedbackToUser());
+        assertEquals(List.of(amazon, google), model.getJobBook().getApplicationList());
+    }
+
+    @Test
+    public void execute_commandFailsWithRollback_allChangesUndone() {
+        RunCommand runCommand = new RunCommand("script.txt", List.of(
+                new ScriptLine(1, new AddJobCommand(meta)),
+                new ScriptLine(2, new DeleteJobCommand(Index.fromOneBased(10))),
+                new ScriptLine(3, new AddJobCommand(amazon))), true);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                JobMessages.MESSAGE_INVALID_APPLICATION_DISPLAYED_INDEX) + "\n" + RunCommand.MESSAGE_ROLLED_BACK;
+        assertThrows(JobCommandException.class, expectedMessage, () -> runCommand.execute(model));
+        assertEquals(List.of(google), model.getJobBook().getApplicationList());
+    }
+
+    @Test
+    public void execute_commandFailsWithRollback_changesUndoneInReverseAndNotPending() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(meta);
+        jobBook.addApplication(amazon);
+        jobBook.addApplication(google);
+        model = new ModelManager(jobBook, new UserPrefs());
+        long modificationCount = model.getJobBookModificationCount();
+        RunCommand runCommand = new RunCommand("script.txt", List.of(
+                new ScriptLine(1, new SortCommand(SortField.COMPANY, SortOrder.ASCENDING)),
+                new ScriptLine(2, new TagJobCommand(Index.fromOneBased(2), Set.of(new Tag("remote")))),
+                new ScriptLine(3, new DeleteJobCommand(INDEX_FIRST_JOB)),
+                new ScriptLine(4, new DeleteJobCommand(Index.fromOneBased(10)))), true);
+
+        assertThrows(JobCommandException.class, () -> runCommand.execute(model));
+        assertEquals(List.of(google, amazon, meta), model.getJobBook().getApplicationList());
+        assertEquals(modificationCount, model.getJobBookModificationCount());
+        assertTrue(model.takeJobBookChanges().isEmpty());
+
+        // the savepoint was released, so a later change is kept
+        model.deleteJobApplication(meta);
+        assertEquals(List.of(JobBookChange.delete(meta)), model.takeJobBookChanges());
+    }
+
+    @Test
+    public void execute_commandThrowsUncheckedWithRollback_allChangesUndone() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalStateException("Unexpected failure");
+            }
+        };
+        RunCommand runCommand = new RunCommand("script.txt", List.of(
+                new ScriptLine(1, new AddJobCommand(meta)),
+                new ScriptLine(2, failingCommand)), true);
+
+        assertThrows(IllegalStateException.class, () -> runCommand.execute(model));
+        assertEquals(List.of(google), model.getJobBook().getApplicationList());
+        assertTrue(model.takeJobBookChanges().isEmpty());
+    }
+
+    @Test
+    public void execute_commandFailsWithoutRollback_earlierChangesKept() {
+        RunCommand runCommand = new RunCommand("script.txt", List.of(
+                new ScriptLine(1, new AddJobCommand(meta)),
+                new ScriptLine(5, new AddJobCommand(google)),
+                new ScriptLine(6, new AddJobCommand(amazon))), false);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 5,
+                AddJobCommand.MESSAGE_DUPLICATE_APPLICATION) + "\n" + String.format(RunCommand.MESSAGE_STOPPED, 1, 5);
+        assertThrows(JobCommandException.class, expectedMessage, () -> runCommand.execute(model));
+        assertEquals(List.of(meta, google), model.getJobBook().getApplicationList());
+    }
+
+    @Test
+    public void equals() {
+        List<ScriptLine> lines = List.of(new ScriptLine(1, new AddJobCommand(meta)));
+        RunCommand runCommand = new RunCommand("script.txt", lines, true);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand("script.txt", List.of(new ScriptLine(1, new AddJobCommand(meta))),
+                true)));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new RunCommand("other.txt", lines, true)));
+        assertFalse(runCommand.equals(new RunCommand("script.txt", lines, false)));
+        assertFalse(runCommand.equals(new RunCommand("script.txt",
+                List.of(new ScriptLine(2, new AddJobCommand(meta))), true)));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.job.model.jobapplication.sort.SortOrder.ASCENDING;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +18,16 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.job.commons.core.GuiSettings;
+import seedu.job.commons.core.index.Index;
 import seedu.job.logic.jobcommands.exceptions.JobCommandException;
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobApplicationStatistics;
 import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
 import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.Page;
 import seedu.job.model.jobapplication.ModelManager;
 import seedu.job.model.jobapplication.ReadOnlyJobBook;
 import seedu.job.model.jobapplication.ReadOnlyUserPrefs;
@@ -188,12 +195,30 @@ public class SortCommandTest {
         @Override public ReadOnlyJobBook getJobBook() {
             throw new AssertionError("This method should not be called.");
         }
+        @Override public List<JobBookChange> takeJobBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public long getJobBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public void setJobBookSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public void rollBackJobBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public void releaseJobBookSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override public boolean hasApplication(JobApplication application) {
             throw new AssertionError("This method should not be called.");
         }
         @Override public void deleteJobApplication(JobApplication target) {
             throw new AssertionError("This method should not be called.");
         }
+        @Override public void deleteFilteredJobApplication(Index index) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override public void sortJobApplication(SortField field, SortOrder order) {
             throw new AssertionError("This method should not be called.");
         }
@@ -203,12 +228,38 @@ public class SortCommandTest {
         @Override public void setJobApplication(JobApplication target, JobApplication editedJobApplication) {
             throw new AssertionError("This method should not be called.");
         }
+        @Override public void setFilteredJobApplication(Index index, JobApplication editedJobApplication) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public List<JobApplication> getUpcomingJobApplications(LocalDateTime from, int count,
+                Predicate<JobApplication> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public JobApplicationStatistics getJobApplicationStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public List<JobApplication> getClosestJobApplications(
+                FuzzyNameMatchesPredicate predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public int getFilteredJobApplicationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override public ObservableList<JobApplication> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
         }
         @Override public void updateFilteredJobApplicationList(Predicate<JobApplication> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+        @Override public void updateFilteredJobApplicationList(Predicate<JobApplication> predicate, Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override public void setFilteredJobApplications(List<JobApplication> applications) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void setRecentlyModifiedApplication(JobApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,54 @@
+package seedu.job.logic.jobcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.model.tag.Tag;
+
+/**
+ * Contains unit tests for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyJobBook_showsZeroCounts() {
+        CommandResult result = new StatsCommand().execute(new ModelManager());
+
+        assertEquals("0 applications in total\n"
+                + "By status: APPLIED 0, INPROGRESS 0, REJECTED 0\n"
+                + "By tag: none\n"
+                + "By deadline week: none", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterChanges_showsCurrentCounts() {
+        JobApplication google = new JobApplication("Google", "Engineer", LocalDateTime.of(2025, 11, 4, 9, 0),
+                Status.APPLIED, Set.of(new Tag("Remote")));
+        JobApplication meta = new JobApplication("Meta", "Engineer", LocalDateTime.of(2025, 11, 9, 9, 0),
+                Status.INPROGRESS, Set.of(new Tag("remote"), new Tag("java")));
+        JobBook jobBook = new JobBook();
+        jobBook.setApplications(List.of(google, meta));
+        Model model = new ModelManager(jobBook, new UserPrefs());
+
+        model.addJobApplication(new JobApplication("Amazon", "Engineer", LocalDateTime.of(2025, 11, 10, 9, 0),
+                Status.REJECTED, Set.of()));
+        model.deleteJobApplication(google);
+        CommandResult result = new StatsCommand().execute(model);
+
+        assertEquals("2 applications in total\n"
+                + "By status: APPLIED 0, INPROGRESS 1, REJECTED 1\n"
+                + "By tag: java 1, remote 1\n"
+                + "By deadline week: week of 2025-11-03 1, week of 2025-11-10 1", result.getFeedbackToUser());
+    }
+}
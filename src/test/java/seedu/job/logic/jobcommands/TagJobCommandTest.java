@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,9 +20,14 @@ import seedu.job.commons.core.index.Index;
 import seedu.job.logic.jobcommands.exceptions.JobCommandException;
 import seedu.job.logic.parser.ParserUtil;
 import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
 import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobApplicationStatistics;
 import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.JobBookChange;
 import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.Page;
 import seedu.job.model.jobapplication.ReadOnlyJobBook;
 import seedu.job.model.jobapplication.ReadOnlyUserPrefs;
 import seedu.job.model.jobapplication.sort.SortField;
@@ -187,6 +193,31 @@ public class TagJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<JobBookChange> takeJobBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getJobBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setJobBookSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackJobBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void releaseJobBookSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasApplication(JobApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +228,11 @@ public class TagJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteFilteredJobApplication(Index index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortJobApplication(SortField field, SortOrder order) {
             throw new AssertionError("This method should not be called.");
@@ -212,6 +248,37 @@ public class TagJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setFilteredJobApplication(Index index, JobApplication editedJobApplication) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<JobApplication> getUpcomingJobApplications(LocalDateTime from, int count,
+                Predicate<JobApplication> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public JobApplicationStatistics getJobApplicationStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<JobApplication> getClosestJobApplications(FuzzyNameMatchesPredicate predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFilteredJobApplicationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<JobApplication> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
@@ -222,6 +289,16 @@ public class TagJobCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredJobApplicationList(Predicate<JobApplication> predicate, Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFilteredJobApplications(List<JobApplication> applications) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setRecentlyModifiedApplication(JobApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -257,7 +334,7 @@ public class TagJobCommandTest {
         }
 
         @Override
-        public void setJobApplication(JobApplication target, JobApplication editedJobApplication) {
+        public void setFilteredJobApplication(Index index, JobApplication editedJobApplication) {
         }
     }
 }
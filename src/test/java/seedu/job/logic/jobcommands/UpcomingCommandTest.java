@@ -0,0 +1,100 @@
+package seedu.job.logic.jobcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.job.commons.core.index.Index;
+import seedu.job.logic.JobMessages;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+
+/**
+ * Contains unit tests for UpcomingCommand.
+ */
+public class UpcomingCommandTest {
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-11-01T12:00:00Z"), ZoneOffset.UTC);
+
+    private static final JobApplication OVERDUE = new JobApplication("Amazon", "Engineer",
+            LocalDateTime.of(2025, 10, 31, 23, 59), Status.APPLIED, Set.of());
+    private static final JobApplication SOONEST = new JobApplication("Google", "Engineer",
+            LocalDateTime.of(2025, 11, 2, 9, 0), Status.INPROGRESS, Set.of());
+    private static final JobApplication REJECTED = new JobApplication("Meta", "Engineer",
+            LocalDateTime.of(2025, 11, 3, 9, 0), Status.REJECTED, Set.of());
+    private static final JobApplication SECOND = new JobApplication("Microsoft", "Engineer",
+            LocalDateTime.of(2025, 11, 4, 9, 0), Status.APPLIED, Set.of());
+    private static final JobApplication THIRD = new JobApplication("Apple", "Designer",
+            LocalDateTime.of(2025, 11, 4, 9, 0), Status.INPROGRESS, Set.of());
+    private static final JobApplication LATEST = new JobApplication("Netflix", "Engineer",
+            LocalDateTime.of(2025, 12, 1, 9, 0), Status.APPLIED, Set.of());
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.setApplications(List.of(LATEST, SECOND, OVERDUE, REJECTED, SOONEST, THIRD));
+        model = new ModelManager(jobBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_soonestNonRejectedDeadlinesListed() {
+        List<JobApplication> orderBefore = List.copyOf(model.getJobBook().getApplicationList());
+
+        CommandResult result = new UpcomingCommand(3, null, NOW).execute(model);
+
+        assertEquals(String.format(UpcomingCommand.MESSAGE_SUCCESS, 3)
+                + "\n1. " + JobMessages.format(SOONEST)
+                + "\n2. " + JobMessages.format(THIRD)
+                + "\n3. " + JobMessages.format(SECOND), result.getFeedbackToUser());
+        assertEquals(List.of(SOONEST, THIRD, SECOND), model.getFilteredApplicationList());
+        assertEquals(orderBefore, model.getJobBook().getApplicationList());
+    }
+
+    @Test
+    public void execute_thenDeleteFirst_soonestDeleted() throws Exception {
+        new UpcomingCommand(3, null, NOW).execute(model);
+        new DeleteJobCommand(Index.fromOneBased(1)).execute(model);
+
+        assertFalse(model.hasApplication(SOONEST));
+        assertEquals(List.of(THIRD, SECOND), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void execute_withStatus_onlyThatStatusListed() {
+        new UpcomingCommand(5, Status.APPLIED, NOW).execute(model);
+        assertEquals(List.of(SECOND, LATEST), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void execute_countLargerThanBook_allUpcomingListed() {
+        CommandResult result = new UpcomingCommand(100, null, NOW).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(UpcomingCommand.MESSAGE_SUCCESS, 4)));
+    }
+
+    @Test
+    public void equals() {
+        UpcomingCommand upcomingCommand = new UpcomingCommand(3);
+
+        assertTrue(upcomingCommand.equals(upcomingCommand));
+        assertTrue(upcomingCommand.equals(new UpcomingCommand(3, null)));
+        assertFalse(upcomingCommand.equals(new UpcomingCommand(4)));
+        assertFalse(upcomingCommand.equals(new UpcomingCommand(3, Status.APPLIED)));
+        assertFalse(upcomingCommand.equals(null));
+    }
+}
@@ -5,7 +5,10 @@ import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseFailure;
 import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseSuccess;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,9 @@ import seedu.job.model.jobapplication.JobApplication;
  * therefore should be covered by the ParserUtilTest.
  */
 public class AddCommandParserTest {
-    private AddCommandParser parser = new AddCommandParser();
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private AddCommandParser parser = new AddCommandParser(NOW);
 
     @Test
     public void parse_validArgs_returnsAddJobCommand() {
@@ -107,7 +112,7 @@ public class AddCommandParserTest {
         JobApplication.Status status = JobApplication.Status.APPLIED;
 
         JobApplication expectedApplication = new JobApplication(companyName, role,
-                FlexibleDateTimeParser.getDefaultDateTime(), status, new HashSet<>());
+                LocalDateTime.of(2025, 6, 15, 23, 59), status, new HashSet<>());
         assertParseSuccess(parser, " n/Apple r/ProductManager s/APPLIED",
                 new AddJobCommand(expectedApplication));
     }
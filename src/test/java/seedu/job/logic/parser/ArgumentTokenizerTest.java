@@ -136,6 +136,38 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "tag" + i;
+            argsString.append(" p/").append(expectedValues[i]);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognised() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p// long value p/ short value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "long value");
+        assertArgumentPresent(argMultimap, pSlash, "short value");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognised() {
+        String argsString = "preamble\tp/ value \t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/ value");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
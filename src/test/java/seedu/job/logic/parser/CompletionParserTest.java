@@ -0,0 +1,54 @@
+package seedu.job.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.Model;
+import seedu.job.model.jobapplication.ModelManager;
+import seedu.job.model.jobapplication.UserPrefs;
+import seedu.job.testutil.JobApplicationBuilder;
+
+public class CompletionParserTest {
+
+    private final CompletionParser parser = new CompletionParser();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(new JobApplicationBuilder().withCompanyName("Google").withRole("Software Engineer")
+                .withTags("remote").build());
+        jobBook.addApplication(new JobApplicationBuilder().withCompanyName("Goldman Sachs").withRole("Analyst")
+                .withTags("referral").build());
+        model = new ModelManager(jobBook, new UserPrefs());
+    }
+
+    @Test
+    public void complete_companyName_completedCommands() {
+        assertEquals(List.of("update 3 n/Goldman Sachs", "update 3 n/Google"), parser.complete("update 3 n/go", model));
+        assertEquals(List.of("update 3 n/Goldman Sachs"), parser.complete("update 3 n/Goldman S", model));
+    }
+
+    @Test
+    public void complete_roleAndTag_completedCommands() {
+        assertEquals(List.of("update 1 n/Google r/Software Engineer"),
+                parser.complete("update 1 n/Google r/soft", model));
+        assertEquals(List.of("tag 5 t/referral", "tag 5 t/remote"), parser.complete("tag 5 t/re", model));
+        assertEquals(List.of("tag 5 t/remote"), parser.complete("tag 5 t/ rem", model));
+    }
+
+    @Test
+    public void complete_nothingToComplete_noCompletions() {
+        assertTrue(parser.complete("update 3", model).isEmpty());
+        assertTrue(parser.complete("update 3 n/Google s/app", model).isEmpty());
+        assertTrue(parser.complete("tag 5 t/remote other", model).isEmpty());
+        assertTrue(parser.complete("update 3 n/Netflix", model).isEmpty());
+    }
+
+}
@@ -8,12 +8,21 @@ import static seedu.job.model.jobapplication.JobApplication.Status.INPROGRESS;
 import static seedu.job.model.jobapplication.JobApplication.Status.REJECTED;
 import static seedu.job.model.jobapplication.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.job.logic.jobcommands.FilterCommand;
+import seedu.job.model.jobapplication.AndPredicate;
 import seedu.job.model.jobapplication.DeadlinePredicate;
+import seedu.job.model.jobapplication.DeadlineRangePredicate;
+import seedu.job.model.jobapplication.NotPredicate;
+import seedu.job.model.jobapplication.OrPredicate;
+import seedu.job.model.jobapplication.Page;
 import seedu.job.model.jobapplication.StatusMatchesKeywordPredicate;
 import seedu.job.model.jobapplication.TagsContainKeywordPredicate;
 
@@ -44,6 +53,15 @@ public class FilterCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_pageOptions_returnsPagedFilterCommand() {
+        assertParseSuccess(parser, " t/remote --limit 10 --page 2",
+                new FilterCommand(new TagsContainKeywordPredicate("remote"), new Page(2, 10)));
+        assertParseSuccess(parser, " none --page 3",
+                new FilterCommand(PREDICATE_SHOW_ALL_APPLICATIONS, new Page(3, PagedArguments.DEFAULT_LIMIT)));
+        assertParseFailure(parser, " t/remote --page 0", PagedArguments.MESSAGE_INVALID_PAGE);
+    }
+
     // ============== None Keyword Tests ==============
 
     @Test
@@ -109,9 +127,9 @@ public class FilterCommandParserTest {
     }
 
     @Test
-    public void parse_duplicateTagPrefix_throwsParseException() {
+    public void parse_duplicateTagPrefixWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " t/engineer t/backend",
-                "Multiple values specified for the following single-valued field(s): t/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     // ============== Status Filtering Tests ==============
@@ -177,9 +195,9 @@ public class FilterCommandParserTest {
     }
 
     @Test
-    public void parse_duplicateStatusPrefix_throwsParseException() {
+    public void parse_duplicateStatusPrefixWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " s/applied s/rejected",
-                "Multiple values specified for the following single-valued field(s): s/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     // ============== Deadline Filtering Tests ==============
@@ -239,35 +257,101 @@ public class FilterCommandParserTest {
     }
 
     @Test
-    public void parse_duplicateDeadlinePrefix_throwsParseException() {
+    public void parse_duplicateDeadlinePrefixWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " d/2025-12-31 d/2025-11-30",
-                "Multiple values specified for the following single-valued field(s): d/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     // ============== Multiple Flags Tests ==============
 
     @Test
-    public void parse_tagAndStatus_throwsParseException() {
+    public void parse_tagAndStatusWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " t/backend s/applied",
-                "Filter command accepts only one filter flag at a time. Please use only one of: t/, s/, or d/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     @Test
-    public void parse_tagAndDeadline_throwsParseException() {
+    public void parse_tagAndDeadlineWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " t/backend d/2025-12-31",
-                "Filter command accepts only one filter flag at a time. Please use only one of: t/, s/, or d/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     @Test
-    public void parse_statusAndDeadline_throwsParseException() {
+    public void parse_statusAndDeadlineWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " s/applied d/2025-12-31",
-                "Filter command accepts only one filter flag at a time. Please use only one of: t/, s/, or d/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
     }
 
     @Test
-    public void parse_allThreeFlags_throwsParseException() {
+    public void parse_allThreeFlagsWithoutOperator_throwsParseException() {
         assertParseFailure(parser, " t/backend s/applied d/2025-12-31",
-                "Filter command accepts only one filter flag at a time. Please use only one of: t/, s/, or d/");
+                FilterQueryParser.MESSAGE_MISSING_OPERATOR);
+    }
+
+    // ============== Query Tests ==============
+
+    @Test
+    public void parse_deadlineBeforeAndAfter_returnsFilterCommand() {
+        LocalDate date = LocalDate.of(2025, 11, 1);
+        assertParseSuccess(parser, " d/<2025-11-01", new FilterCommand(DeadlineRangePredicate.before(date)));
+        assertParseSuccess(parser, " d/>2025-11-01", new FilterCommand(DeadlineRangePredicate.after(date)));
+        assertParseFailure(parser, " d/<2025-13-01", "Invalid date format. Expected format: yyyy-MM-dd");
+    }
+
+    @Test
+    public void parse_deadlineBetweenAndNextDays_returnsFilterCommand() {
+        FilterCommandParser fixedDateParser = new FilterCommandParser(
+                Clock.fixed(Instant.parse("2025-10-20T10:00:00Z"), ZoneOffset.UTC));
+        LocalDate start = LocalDate.of(2025, 11, 1);
+        LocalDate end = LocalDate.of(2025, 11, 30);
+
+        assertParseSuccess(fixedDateParser, " d/2025-11-01..2025-11-30",
+                new FilterCommand(DeadlineRangePredicate.between(start, end)));
+        assertParseSuccess(fixedDateParser, " d/+7",
+                new FilterCommand(DeadlineRangePredicate.between(LocalDate.of(2025, 10, 20),
+                        LocalDate.of(2025, 10, 27))));
+        assertParseFailure(fixedDateParser, " d/2025-11-30..2025-11-01", FilterQueryParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(fixedDateParser, " d/2025-11-01..", "Invalid date format. Expected format: yyyy-MM-dd");
+        assertParseFailure(fixedDateParser, " d/+seven", FilterQueryParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(fixedDateParser, " d/+-1", FilterQueryParser.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_combinedFlags_returnsPredicateTree() {
+        StatusMatchesKeywordPredicate applied = new StatusMatchesKeywordPredicate(APPLIED);
+        TagsContainKeywordPredicate remote = new TagsContainKeywordPredicate("remote");
+        TagsContainKeywordPredicate hybrid = new TagsContainKeywordPredicate("hybrid");
+        DeadlineRangePredicate beforeNovember = DeadlineRangePredicate.before(LocalDate.of(2025, 11, 1));
+        FilterCommand expectedCommand = new FilterCommand(new AndPredicate(List.of(applied,
+                new OrPredicate(List.of(remote, hybrid)), new NotPredicate(beforeNovember))));
+
+        assertParseSuccess(parser, " s/applied & (t/remote | t/hybrid) & !d/<2025-11-01", expectedCommand);
+        assertParseSuccess(parser, "s/applied&(t/remote|t/hybrid)&!d/<2025-11-01", expectedCommand);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsPredicateTree() {
+        StatusMatchesKeywordPredicate applied = new StatusMatchesKeywordPredicate(APPLIED);
+        StatusMatchesKeywordPredicate rejected = new StatusMatchesKeywordPredicate(REJECTED);
+        TagsContainKeywordPredicate remote = new TagsContainKeywordPredicate("remote");
+        FilterCommand expectedCommand = new FilterCommand(new OrPredicate(List.of(
+                new AndPredicate(List.of(applied, remote)), new NotPredicate(new NotPredicate(rejected)))));
+
+        assertParseSuccess(parser, " s/applied & t/remote | !!s/rejected", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " (s/applied | t/remote",
+                FilterQueryParser.MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, " s/applied)",
+                FilterQueryParser.MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, " s/applied &",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " s/applied & engineer",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/remote | s/hired",
+                "Invalid status. Valid values are: APPLIED, INPROGRESS, REJECTED");
     }
 
     // ============== Whitespace Handling Tests ==============
@@ -293,6 +377,13 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, "  s/applied", expectedCommand);
     }
 
+    @Test
+    public void parse_statusSeparatedFromFlag_returnsFilterCommand() {
+        StatusMatchesKeywordPredicate predicate = new StatusMatchesKeywordPredicate(APPLIED);
+        FilterCommand expectedCommand = new FilterCommand(predicate);
+        assertParseSuccess(parser, " s/ applied", expectedCommand);
+    }
+
     @Test
     public void parse_deadlineWithLeadingWhitespace_returnsFilterCommand() {
         LocalDate date = LocalDate.of(2025, 12, 31);
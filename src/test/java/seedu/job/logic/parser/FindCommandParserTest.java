@@ -0,0 +1,46 @@
+package seedu.job.logic.parser;
+
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseFailure;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.logic.jobcommands.FindCommand;
+import seedu.job.model.jobapplication.FuzzyNameMatchesPredicate;
+import seedu.job.model.jobapplication.NameContainsKeywordsPredicate;
+import seedu.job.model.jobapplication.OrPredicate;
+import seedu.job.model.jobapplication.Page;
+
+public class FindCommandParserTest {
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_exactKeywords_returnsFindCommand() {
+        assertParseSuccess(parser, " Google \n Meta ",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Google", "Meta"))));
+    }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsFuzzyFindCommand() {
+        assertParseSuccess(parser, "~Bytdance ~Gogle",
+                new FindCommand(new FuzzyNameMatchesPredicate(List.of("Bytdance", "Gogle"))));
+    }
+
+    @Test
+    public void parse_exactAndFuzzyKeywords_returnsEitherFindCommand() {
+        FuzzyNameMatchesPredicate fuzzyPredicate = new FuzzyNameMatchesPredicate(List.of("Bytdance"));
+        assertParseSuccess(parser, "Google ~Bytdance", new FindCommand(new OrPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("Google")), fuzzyPredicate)), fuzzyPredicate, Page.ALL));
+    }
+
+}
@@ -1,53 +1,63 @@
 package seedu.job.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.job.logic.parser.FlexibleDateTimeParser.ErrorKind;
+import seedu.job.logic.parser.FlexibleDateTimeParser.Result;
+
 public class FlexibleDateTimeParserTest {
 
     private static final LocalTime DEFAULT_TIME = LocalTime.of(23, 59);
 
+    private final FlexibleDateTimeParser parser = new FlexibleDateTimeParser();
+
     @Test
     public void parse_fullDateTimeWithT_success() {
         // Test format: yyyy-MM-ddTHH:mm
-        LocalDateTime result = FlexibleDateTimeParser.parse("2025-12-31T23:59");
+        LocalDateTime result = parser.parse("2025-12-31T23:59");
         assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), result);
     }
 
     @Test
     public void parse_fullDateTimeWithTAndSeconds_success() {
         // Test format: yyyy-MM-ddTHH:mm:ss
-        LocalDateTime result = FlexibleDateTimeParser.parse("2025-12-31T23:59:59");
+        LocalDateTime result = parser.parse("2025-12-31T23:59:59");
         assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59, 59), result);
     }
 
     @Test
     public void parse_fullDateTimeWithSpace_success() {
         // Test format: yyyy-MM-dd HH:mm
-        LocalDateTime result = FlexibleDateTimeParser.parse("2025-12-31 23:59");
+        LocalDateTime result = parser.parse("2025-12-31 23:59");
         assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), result);
     }
 
     @Test
     public void parse_dateOnly_defaultsToEndOfDay() {
         // Test format: yyyy-MM-dd
-        LocalDateTime result = FlexibleDateTimeParser.parse("2025-12-31");
+        LocalDateTime result = parser.parse("2025-12-31");
         assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), result);
     }
 
     @Test
     public void parse_monthDay_infersYear() {
         // Test format: MM-dd
-        LocalDateTime result = FlexibleDateTimeParser.parse("12-31");
+        LocalDateTime result = parser.parse("12-31");
 
         // Should use current year or next year
         int expectedYear = LocalDate.now().getYear();
@@ -64,7 +74,7 @@ public class FlexibleDateTimeParserTest {
     @Test
     public void parse_monthDayWithSlash_infersYear() {
         // Test format: MM/dd
-        LocalDateTime result = FlexibleDateTimeParser.parse("12/31");
+        LocalDateTime result = parser.parse("12/31");
 
         int expectedYear = LocalDate.now().getYear();
         LocalDate expectedDate = LocalDate.of(expectedYear, 12, 31);
@@ -79,7 +89,7 @@ public class FlexibleDateTimeParserTest {
     @Test
     public void parse_dayMonthAbbreviated_infersYear() {
         // Test format: dd MMM
-        LocalDateTime result = FlexibleDateTimeParser.parse("31 Dec");
+        LocalDateTime result = parser.parse("31 Dec");
 
         int expectedYear = LocalDate.now().getYear();
         LocalDate expectedDate = LocalDate.of(expectedYear, 12, 31);
@@ -94,7 +104,7 @@ public class FlexibleDateTimeParserTest {
     @Test
     public void parse_dayMonthAbbreviatedWithDash_infersYear() {
         // Test format: dd-MMM
-        LocalDateTime result = FlexibleDateTimeParser.parse("31-Dec");
+        LocalDateTime result = parser.parse("31-Dec");
 
         int expectedYear = LocalDate.now().getYear();
         LocalDate expectedDate = LocalDate.of(expectedYear, 12, 31);
@@ -109,7 +119,7 @@ public class FlexibleDateTimeParserTest {
     @Test
     public void parse_dayMonthFull_infersYear() {
         // Test format: dd MMMM
-        LocalDateTime result = FlexibleDateTimeParser.parse("31 December");
+        LocalDateTime result = parser.parse("31 December");
 
         int expectedYear = LocalDate.now().getYear();
         LocalDate expectedDate = LocalDate.of(expectedYear, 12, 31);
@@ -124,7 +134,7 @@ public class FlexibleDateTimeParserTest {
     @Test
     public void parse_dayMonthFullWithDash_infersYear() {
         // Test format: dd-MMMM
-        LocalDateTime result = FlexibleDateTimeParser.parse("31-December");
+        LocalDateTime result = parser.parse("31-December");
 
         int expectedYear = LocalDate.now().getYear();
         LocalDate expectedDate = LocalDate.of(expectedYear, 12, 31);
@@ -142,7 +152,7 @@ public class FlexibleDateTimeParserTest {
         // Unless we're currently on January 1st
         LocalDate today = LocalDate.now();
         if (today.getMonthValue() != 1 || today.getDayOfMonth() != 1) {
-            LocalDateTime result = FlexibleDateTimeParser.parse("01-Jan");
+            LocalDateTime result = parser.parse("01-Jan");
 
             // Should use next year since Jan 1st has passed
             int expectedYear = today.getYear() + 1;
@@ -152,44 +162,150 @@ public class FlexibleDateTimeParserTest {
 
     @Test
     public void parse_nullInput_throwsException() {
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse(null));
+        assertThrows(DateTimeParseException.class, () -> parser.parse(null));
     }
 
     @Test
     public void parse_emptyString_throwsException() {
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse(""));
+        assertThrows(DateTimeParseException.class, () -> parser.parse(""));
     }
 
     @Test
     public void parse_invalidFormat_throwsException() {
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("invalid-date"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("invalid-date"));
     }
 
     @Test
     public void parse_whitespaceOnly_throwsException() {
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("   "));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("   "));
     }
 
     @Test
     public void parse_invalidDate_throwsException() {
         // Test invalid dates like Feb 30, April 31, etc.
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("30 Feb"));
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("30 February"));
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("31 Apr"));
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("2025-02-30"));
-        assertThrows(DateTimeParseException.class, () -> FlexibleDateTimeParser.parse("2025-04-31"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("30 Feb"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("30 February"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("31 Apr"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025-02-30"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025-04-31"));
     }
 
     @Test
     public void parse_trimmedInput_success() {
         // Test that leading/trailing whitespace is handled
-        LocalDateTime result = FlexibleDateTimeParser.parse("  2025-12-31T23:59  ");
+        LocalDateTime result = parser.parse("  2025-12-31T23:59  ");
         assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), result);
     }
 
+    @Test
+    public void parse_dateTimeWithSpaceAndSeconds_success() {
+        // Test format: yyyy-MM-dd HH:mm:ss
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59, 59), parser.parse("2025-12-31 23:59:59"));
+    }
+
+    @Test
+    public void parse_leapDay_successOnlyInLeapYears() {
+        assertEquals(LocalDateTime.of(2028, 2, 29, 23, 59), parser.parse("2028-02-29"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2027-02-29"));
+    }
+
+    @Test
+    public void tryParse_singleDigitMonthAndDay_infersYear() {
+        Result result = parser.tryParse("1/5");
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDateTime().getMonthValue());
+        assertEquals(5, result.getDateTime().getDayOfMonth());
+        assertFalse(result.getDateTime().toLocalDate().isBefore(LocalDate.now()));
+    }
+
+    @Test
+    public void tryParse_blank_emptyError() {
+        assertFailure(null, ErrorKind.EMPTY);
+        assertFailure(" \t ", ErrorKind.EMPTY);
+    }
+
+    @Test
+    public void tryParse_unsupportedShapes_unsupportedFormatError() {
+        assertFailure("invalid-date", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-1-5", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025/12/31", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31T23", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31T23:59:", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31  23:59", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31x", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("12-31-", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("123-1", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("31 Decem", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("31 dec", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("31 12", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("Dec 31", ErrorKind.UNSUPPORTED_FORMAT);
+
+        // fields outside their range
+        assertFailure("2025-13-01T10:00", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-00", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("13/1", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("12-32", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31T24:00", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31 23:60", ErrorKind.UNSUPPORTED_FORMAT);
+        assertFailure("2025-12-31T23:59:60", ErrorKind.UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void tryParse_nonexistentDates_invalidDateError() {
+        assertFailure("2025-02-30", ErrorKind.INVALID_DATE);
+        assertFailure("2025-04-31T10:00", ErrorKind.INVALID_DATE);
+        assertFailure("31 Apr", ErrorKind.INVALID_DATE);
+        assertFailure("30-February", ErrorKind.INVALID_DATE);
+        assertFailure("6/31", ErrorKind.INVALID_DATE);
+
+        Result result = parser.tryParse("2025-02-30");
+        assertEquals(String.format(FlexibleDateTimeParser.MESSAGE_INVALID_DATE, "February", 30, 2025),
+                result.getErrorMessage());
+    }
+
+    private void assertFailure(String input, ErrorKind expectedErrorKind) {
+        Result result = parser.tryParse(input);
+        assertFalse(result.isSuccess(), "Expected " + input + " not to parse");
+        assertEquals(expectedErrorKind, result.getErrorKind(), "Unexpected error for " + input);
+        assertThrows(DateTimeParseException.class, () -> parser.parse(input));
+    }
+
+    @Test
+    public void tryParse_fixedClock_infersYearFromClockDate() {
+        FlexibleDateTimeParser lastDayParser = new FlexibleDateTimeParser(
+                Clock.fixed(Instant.parse("2025-12-31T12:00:00Z"), ZoneOffset.UTC));
+
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), lastDayParser.parse("31 Dec"));
+        assertEquals(LocalDateTime.of(2026, 1, 1, 23, 59), lastDayParser.parse("1/1"));
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), lastDayParser.getDefaultDateTime());
+    }
+
+    @Test
+    public void tryParse_clockAdvancesPastMidnight_todayReadOnCreation() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-31T23:59:59Z"));
+        FlexibleDateTimeParser batchParser = new FlexibleDateTimeParser(clock);
+        clock.instant = Instant.parse("2026-01-01T00:00:01Z");
+
+        // Dates parsed in the same batch keep inferring years against the day the batch started
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59), batchParser.parse("12-31"));
+        assertEquals(LocalDateTime.of(2026, 12, 31, 23, 59), new FlexibleDateTimeParser(clock).parse("12-31"));
+    }
+
+    @Test
+    public void tryParse_leapDayInferred_validOnlyInLeapYears() {
+        FlexibleDateTimeParser leapYearParser = new FlexibleDateTimeParser(
+                Clock.fixed(Instant.parse("2028-01-10T00:00:00Z"), ZoneOffset.UTC));
+        FlexibleDateTimeParser commonYearParser = new FlexibleDateTimeParser(
+                Clock.fixed(Instant.parse("2027-01-10T00:00:00Z"), ZoneOffset.UTC));
+
+        assertEquals(LocalDateTime.of(2028, 2, 29, 23, 59), leapYearParser.parse("29 Feb"));
+        assertEquals(ErrorKind.INVALID_DATE, commonYearParser.tryParse("29 Feb").getErrorKind());
+    }
+
     @Test
     public void getDefaultDateTime_returnsToday() {
-        LocalDateTime result = FlexibleDateTimeParser.getDefaultDateTime();
+        LocalDateTime result = parser.getDefaultDateTime();
 
         assertEquals(LocalDate.now(), result.toLocalDate());
         assertEquals(DEFAULT_TIME, result.toLocalTime());
@@ -204,4 +320,30 @@ public class FlexibleDateTimeParserTest {
         // Check that it contains an example with the date format
         assertTrue(formats.stream().anyMatch(f -> f.contains("2025-12-31")));
     }
+
+    /**
+     * A clock whose time can be moved by tests.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.job.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.parser.exceptions.ParseException;
+import seedu.job.model.jobapplication.Page;
+
+public class PagedArgumentsTest {
+
+    @Test
+    public void parse_noOptions_allShown() throws Exception {
+        PagedArguments pagedArgs = PagedArguments.parse(" t/remote & s/applied");
+        assertEquals(" t/remote & s/applied", pagedArgs.getArguments());
+        assertEquals(Page.ALL, pagedArgs.getPage());
+    }
+
+    @Test
+    public void parse_limitAndPage_optionsTakenOut() throws Exception {
+        PagedArguments pagedArgs = PagedArguments.parse(" Google --limit 10 Meta --page 3");
+        assertEquals(" Google Meta", pagedArgs.getArguments());
+        assertEquals(new Page(3, 10), pagedArgs.getPage());
+
+        pagedArgs = PagedArguments.parse("--page 2");
+        assertEquals("", pagedArgs.getArguments().trim());
+        assertEquals(new Page(2, PagedArguments.DEFAULT_LIMIT), pagedArgs.getPage());
+
+        assertEquals(new Page(1, 5), PagedArguments.parse(" t/remote --limit 5").getPage());
+    }
+
+    @Test
+    public void parse_optionInsideWord_notAnOption() throws Exception {
+        PagedArguments pagedArgs = PagedArguments.parse(" a--limit 5");
+        assertEquals(" a--limit 5", pagedArgs.getArguments());
+        assertEquals(Page.ALL, pagedArgs.getPage());
+    }
+
+    @Test
+    public void parse_invalidOptions_throwsParseException() {
+        assertThrows(ParseException.class, PagedArguments.MESSAGE_INVALID_LIMIT, () ->
+                PagedArguments.parse(" --limit"));
+        assertThrows(ParseException.class, PagedArguments.MESSAGE_INVALID_LIMIT, () ->
+                PagedArguments.parse(" --limit 0"));
+        assertThrows(ParseException.class, PagedArguments.MESSAGE_INVALID_PAGE, () ->
+                PagedArguments.parse(" --page -1"));
+        assertThrows(ParseException.class, PagedArguments.MESSAGE_INVALID_PAGE, () ->
+                PagedArguments.parse(" --page two"));
+        assertThrows(ParseException.class, JobMessages.MESSAGE_DUPLICATE_FIELDS + "--page", () ->
+                PagedArguments.parse(" --page 1 --page 2"));
+    }
+
+}
@@ -2,11 +2,17 @@ package seedu.job.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.logic.parser.ParserUtil.MESSAGE_INVALID_DATA_FILE_PATH;
+import static seedu.job.logic.parser.ParserUtil.MESSAGE_INVALID_DEADLINE_FORMAT;
 import static seedu.job.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.job.testutil.Assert.assertThrows;
 import static seedu.job.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -25,6 +31,9 @@ public class ParserUtilTest {
 
     private static final String WHITESPACE = " \t\r\n";
 
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+    private static final FlexibleDateTimeParser DATE_TIME_PARSER = new FlexibleDateTimeParser(NOW);
+
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
@@ -109,10 +118,52 @@ public class ParserUtilTest {
         ParserUtil.validateDeadlineNotInPast(futureDeadline);
     }
 
+    @Test
+    public void validateDeadlineNotInPast_clock_comparedWithClockTime() throws Exception {
+        ParserUtil.validateDeadlineNotInPast(LocalDateTime.of(2025, 6, 15, 12, 0), NOW);
+        assertThrows(ParseException.class, () -> ParserUtil.validateDeadlineNotInPast(
+                LocalDateTime.of(2025, 6, 15, 11, 59), NOW));
+    }
+
     @Test
     public void validateDeadlineNotInPast_currentTime_success() throws Exception {
         LocalDateTime currentTime = LocalDateTime.now().plusSeconds(1);
         // Should not throw exception (current time or slightly future should be valid)
         ParserUtil.validateDeadlineNotInPast(currentTime);
     }
+
+    @Test
+    public void parseDataFilePath_supportedExtension_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "backup.bin"), ParserUtil.parseDataFilePath("  data/backup.bin "));
+        assertEquals(Paths.get("backup.JSON"), ParserUtil.parseDataFilePath("backup.JSON"));
+    }
+
+    @Test
+    public void parseDataFilePath_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE_PATH, () -> ParserUtil.parseDataFilePath(" "));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE_PATH, ()
+                -> ParserUtil.parseDataFilePath("backup.txt"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE_PATH, ()
+                -> ParserUtil.parseDataFilePath("backup\0.json"));
+    }
+
+    @Test
+    public void parseDeadline_validInput_returnsTrimmedDeadline() throws Exception {
+        assertEquals(LocalDateTime.of(2025, 12, 31, 10, 30), ParserUtil.parseDeadline(WHITESPACE
+                + "2025-12-31T10:30" + WHITESPACE, DATE_TIME_PARSER));
+    }
+
+    @Test
+    public void parseDeadline_unsupportedFormat_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DEADLINE_FORMAT, ()
+                -> ParserUtil.parseDeadline("soon", DATE_TIME_PARSER));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DEADLINE_FORMAT, ()
+                -> ParserUtil.parseDeadline(" ", DATE_TIME_PARSER));
+    }
+
+    @Test
+    public void parseDeadline_nonexistentDate_throwsParseException() {
+        assertThrows(ParseException.class, String.format(FlexibleDateTimeParser.MESSAGE_INVALID_DATE,
+                "April", 31, 2025), () -> ParserUtil.parseDeadline("2025-04-31", DATE_TIME_PARSER));
+    }
 }
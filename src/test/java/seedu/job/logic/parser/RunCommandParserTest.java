@@ -0,0 +1,125 @@
+package seedu.job.logic.parser;
+
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.job.logic.JobMessages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseFailure;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseSuccess;
+import static seedu.job.testutil.TypicalIndexes.INDEX_FIRST_JOB;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.logic.JobMessages;
+import seedu.job.logic.jobcommands.DeleteJobCommand;
+import seedu.job.logic.jobcommands.ListCommand;
+import seedu.job.logic.jobcommands.RunCommand;
+import seedu.job.logic.jobcommands.RunCommand.ScriptLine;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws Exception {
+        Path scriptPath = writeScript("# weekly clean-up", "list", "", "  delete 1  ");
+        RunCommand expectedCommand = new RunCommand(scriptPath.toString(), List.of(
+                new ScriptLine(2, new ListCommand()),
+                new ScriptLine(4, new DeleteJobCommand(INDEX_FIRST_JOB))), true);
+
+        assertParseSuccess(parser, " " + scriptPath, expectedCommand);
+    }
+
+    @Test
+    public void parse_noRollbackOption_returnsRunCommandWithoutRollback() throws Exception {
+        Path scriptPath = writeScript("delete 1");
+        RunCommand expectedCommand = new RunCommand(scriptPath.toString(),
+                List.of(new ScriptLine(1, new DeleteJobCommand(INDEX_FIRST_JOB))), false);
+
+        assertParseSuccess(parser, " " + scriptPath + " --no-rollback", expectedCommand);
+        assertParseSuccess(parser, " --no-rollback " + scriptPath, expectedCommand);
+    }
+
+    @Test
+    public void parse_standardInput_readsLinesLeftInStandardInput() throws Exception {
+        BufferedReader standardInput = new BufferedReader(new StringReader("list\n# from a pipe\nlist\ndelete 1\n"));
+        // the first line has already been read by the headless app
+        standardInput.readLine();
+        RunCommand expectedCommand = new RunCommand(RunCommandParser.STANDARD_INPUT_SOURCE, List.of(
+                new ScriptLine(2, new ListCommand()),
+                new ScriptLine(3, new DeleteJobCommand(INDEX_FIRST_JOB))), false);
+
+        assertParseSuccess(new RunCommandParser(standardInput), " - --no-rollback", expectedCommand);
+    }
+
+    @Test
+    public void parse_standardInputUnreadable_throwsParseException() {
+        BufferedReader standardInput = new BufferedReader(new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        assertParseFailure(new RunCommandParser(standardInput), " -", String.format(
+                RunCommandParser.MESSAGE_READ_FAILED, RunCommandParser.STANDARD_INPUT_SOURCE, "closed"));
+    }
+
+    @Test
+    public void parse_noStandardInput_throwsParseException() {
+        assertParseFailure(parser, " -", RunCommandParser.MESSAGE_NO_STANDARD_INPUT);
+    }
+
+    @Test
+    public void parse_invalidLines_allReportedWithLineNumbers() throws Exception {
+        Path scriptPath = writeScript("list", "launch", "delete 1", "delete zero", "run other.txt", "exit");
+        String expectedMessage = RunCommandParser.MESSAGE_SCRIPT_INVALID
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 4,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteJobCommand.MESSAGE_USAGE))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 5,
+                        String.format(RunCommandParser.MESSAGE_NOT_IN_SCRIPT, "run"))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 6,
+                        String.format(RunCommandParser.MESSAGE_NOT_IN_SCRIPT, "exit"));
+
+        assertParseFailure(parser, " " + scriptPath, expectedMessage);
+    }
+
+    @Test
+    public void parse_missingScript_throwsParseException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunCommandParser.MESSAGE_FILE_NOT_FOUND, scriptPath));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() throws Exception {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " --no-rollback",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+
+        Path scriptPath = writeScript("list");
+        assertParseFailure(parser, " " + scriptPath + " --no-rollback --no-rollback",
+                JobMessages.MESSAGE_DUPLICATE_FIELDS + RunCommand.OPTION_NO_ROLLBACK);
+    }
+}
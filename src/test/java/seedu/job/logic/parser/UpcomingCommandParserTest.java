@@ -0,0 +1,42 @@
+package seedu.job.logic.parser;
+
+import static seedu.job.logic.JobMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseFailure;
+import static seedu.job.logic.parser.JobCommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.logic.jobcommands.UpcomingCommand;
+import seedu.job.model.jobapplication.JobApplication.Status;
+
+public class UpcomingCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE);
+
+    private final UpcomingCommandParser parser = new UpcomingCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUpcomingCommand() {
+        assertParseSuccess(parser, " 20", new UpcomingCommand(20));
+        assertParseSuccess(parser, " 5 s/inprogress", new UpcomingCommand(5, Status.INPROGRESS));
+        assertParseSuccess(parser, " 5 s/APPLIED ", new UpcomingCommand(5, Status.APPLIED));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " twenty", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " s/applied", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidStatus_throwsParseException() {
+        assertParseFailure(parser, " 5 s/rejected", UpcomingCommandParser.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, " 5 s/hired", UpcomingCommandParser.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, " 5 s/applied s/inprogress",
+                "Multiple values specified for the following single-valued field(s): s/");
+    }
+}
@@ -12,7 +12,10 @@ import static seedu.job.testutil.TypicalIndexes.INDEX_FIRST_JOB;
 import static seedu.job.testutil.TypicalIndexes.INDEX_SECOND_JOB;
 import static seedu.job.testutil.TypicalIndexes.INDEX_THIRD_JOB;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,7 +33,9 @@ public class UpdateCommandParserTest {
     private static final String MESSAGE_INVALID_FORMAT =
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpdateJobCommand.MESSAGE_USAGE);
 
-    private UpdateCommandParser parser = new UpdateCommandParser();
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private UpdateCommandParser parser = new UpdateCommandParser(NOW);
 
     @Test
     public void parse_missingParts_failure() {
@@ -0,0 +1,92 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.tag.Tag;
+
+public class AndPredicateTest {
+
+    private static final JobApplication GOOGLE = new JobApplication("Google", "Software Engineer",
+            LocalDateTime.of(2025, 10, 31, 23, 59), Status.APPLIED, Set.of(new Tag("remote")));
+    private static final JobApplication MICROSOFT = new JobApplication("Microsoft", "Product Manager",
+            LocalDateTime.of(2025, 11, 15, 9, 0), Status.APPLIED, Set.of(new Tag("hybrid")));
+    private static final JobApplication META = new JobApplication("Meta", "Data Scientist",
+            LocalDateTime.of(2025, 12, 1, 0, 0), Status.APPLIED, Set.of());
+    private static final JobApplication AMAZON = new JobApplication("Amazon", "Data Engineer",
+            LocalDateTime.of(2025, 12, 1, 12, 0), Status.REJECTED, Set.of(new Tag("remote")));
+
+    private static final StatusMatchesKeywordPredicate APPLIED = new StatusMatchesKeywordPredicate(Status.APPLIED);
+    private static final TagsContainKeywordPredicate REMOTE = new TagsContainKeywordPredicate("remote");
+    private static final TagsContainKeywordPredicate HYBRID = new TagsContainKeywordPredicate("hybrid");
+    private static final DeadlineRangePredicate BEFORE_NOVEMBER =
+            DeadlineRangePredicate.before(LocalDate.of(2025, 11, 1));
+
+    private final JobBook jobBook = new JobBook();
+    private final JobApplicationIndex index = jobBook.getApplicationIndex();
+
+    public AndPredicateTest() {
+        jobBook.setApplications(List.of(GOOGLE, MICROSOFT, META, AMAZON));
+    }
+
+    private Set<JobApplication> scan(Predicate<JobApplication> predicate) {
+        return jobBook.getApplicationList().stream().filter(predicate).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void plan_mostSelectiveIndexedOperandFirst() {
+        Predicate<JobApplication> notIndexed = application -> true;
+        AndPredicate predicate = new AndPredicate(List.of(notIndexed, APPLIED, HYBRID, REMOTE));
+
+        assertEquals(List.of(HYBRID, REMOTE, APPLIED, notIndexed), predicate.plan(index));
+        assertEquals(1, predicate.estimateMatches(index));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryApplication() {
+        List<IndexedPredicate> predicates = List.of(
+                new AndPredicate(List.of(APPLIED, new OrPredicate(List.of(REMOTE, HYBRID)),
+                        new NotPredicate(BEFORE_NOVEMBER))),
+                new AndPredicate(List.of(APPLIED, application -> application.getRole().startsWith("Data"))),
+                new AndPredicate(List.of(application -> application.getTags().isEmpty())),
+                new OrPredicate(List.of(BEFORE_NOVEMBER, application -> application.getCompanyName().equals("Meta"))),
+                new NotPredicate(new OrPredicate(List.of(REMOTE, HYBRID))),
+                new NotPredicate(application -> application.getStatus() == Status.REJECTED));
+
+        for (IndexedPredicate predicate : predicates) {
+            assertEquals(scan(predicate), predicate.findMatches(index), predicate.toString());
+        }
+        assertEquals(Set.of(MICROSOFT), predicates.get(0).findMatches(index));
+    }
+
+    @Test
+    public void test_combinesOperands() {
+        assertTrue(new AndPredicate(List.of(APPLIED, REMOTE)).test(GOOGLE));
+        assertFalse(new AndPredicate(List.of(APPLIED, REMOTE)).test(AMAZON));
+        assertTrue(new OrPredicate(List.of(HYBRID, REMOTE)).test(AMAZON));
+        assertFalse(new NotPredicate(REMOTE).test(GOOGLE));
+    }
+
+    @Test
+    public void equals() {
+        AndPredicate predicate = new AndPredicate(List.of(APPLIED, REMOTE));
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AndPredicate(List.of(APPLIED, REMOTE))));
+        assertFalse(predicate.equals(new AndPredicate(List.of(REMOTE, APPLIED))));
+        assertFalse(predicate.equals(new OrPredicate(List.of(APPLIED, REMOTE))));
+        assertFalse(predicate.equals(null));
+    }
+
+}
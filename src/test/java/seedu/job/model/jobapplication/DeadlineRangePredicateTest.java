@@ -0,0 +1,98 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobApplication.Status;
+
+public class DeadlineRangePredicateTest {
+
+    private static final JobApplication END_OF_OCTOBER = applicationDueOn(LocalDateTime.of(2025, 10, 31, 23, 59));
+    private static final JobApplication START_OF_NOVEMBER = applicationDueOn(LocalDateTime.of(2025, 11, 1, 0, 0));
+    private static final JobApplication END_OF_NOVEMBER = applicationDueOn(LocalDateTime.of(2025, 11, 30, 23, 59));
+    private static final JobApplication DECEMBER = applicationDueOn(LocalDateTime.of(2025, 12, 1, 0, 0));
+
+    private static final LocalDate FIRST_OF_NOVEMBER = LocalDate.of(2025, 11, 1);
+    private static final LocalDate LAST_OF_NOVEMBER = LocalDate.of(2025, 11, 30);
+
+    private static JobApplication applicationDueOn(LocalDateTime deadline) {
+        return new JobApplication("Company " + deadline, "Engineer", deadline, Status.APPLIED, Set.of());
+    }
+
+    @Test
+    public void test_boundsOfRange() {
+        DeadlineRangePredicate november = DeadlineRangePredicate.between(FIRST_OF_NOVEMBER, LAST_OF_NOVEMBER);
+        assertFalse(november.test(END_OF_OCTOBER));
+        assertTrue(november.test(START_OF_NOVEMBER));
+        assertTrue(november.test(END_OF_NOVEMBER));
+        assertFalse(november.test(DECEMBER));
+
+        assertTrue(DeadlineRangePredicate.before(FIRST_OF_NOVEMBER).test(END_OF_OCTOBER));
+        assertFalse(DeadlineRangePredicate.before(FIRST_OF_NOVEMBER).test(START_OF_NOVEMBER));
+        assertFalse(DeadlineRangePredicate.after(LAST_OF_NOVEMBER).test(END_OF_NOVEMBER));
+        assertTrue(DeadlineRangePredicate.after(LAST_OF_NOVEMBER).test(DECEMBER));
+
+        assertEquals(DeadlineRangePredicate.between(FIRST_OF_NOVEMBER, LocalDate.of(2025, 11, 8)),
+                DeadlineRangePredicate.nextDays(FIRST_OF_NOVEMBER, 7));
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        JobBook jobBook = new JobBook();
+        jobBook.setApplications(List.of(END_OF_OCTOBER, START_OF_NOVEMBER, END_OF_NOVEMBER, DECEMBER));
+        JobApplicationIndex index = jobBook.getApplicationIndex();
+
+        DeadlineRangePredicate november = DeadlineRangePredicate.between(FIRST_OF_NOVEMBER, LAST_OF_NOVEMBER);
+        assertEquals(Set.of(START_OF_NOVEMBER, END_OF_NOVEMBER), november.findMatches(index));
+        assertEquals(2, november.estimateMatches(index));
+        assertEquals(Set.of(END_OF_OCTOBER), DeadlineRangePredicate.before(FIRST_OF_NOVEMBER).findMatches(index));
+        assertEquals(Set.of(DECEMBER), DeadlineRangePredicate.after(LAST_OF_NOVEMBER).findMatches(index));
+        assertEquals(Set.of(START_OF_NOVEMBER), new DeadlinePredicate(FIRST_OF_NOVEMBER).findMatches(index));
+    }
+
+    @Test
+    public void updateFilteredJobApplicationList_rangePredicate_indexResultShownInStoredOrder() {
+        JobBook jobBook = new JobBook();
+        jobBook.setApplications(List.of(END_OF_NOVEMBER, DECEMBER, START_OF_NOVEMBER, END_OF_OCTOBER));
+        ModelManager modelManager = new ModelManager(jobBook, new UserPrefs());
+        CountingPredicate november = new CountingPredicate(
+                DeadlineRangePredicate.between(FIRST_OF_NOVEMBER, LAST_OF_NOVEMBER));
+
+        modelManager.updateFilteredJobApplicationList(november);
+
+        assertEquals(List.of(END_OF_NOVEMBER, START_OF_NOVEMBER), modelManager.getFilteredApplicationList());
+        assertEquals(0, november.testCount);
+    }
+
+    /**
+     * An {@code IndexedPredicate} that counts how many applications it tests.
+     */
+    private static class CountingPredicate implements IndexedPredicate {
+        private final IndexedPredicate predicate;
+        private int testCount;
+
+        CountingPredicate(IndexedPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(JobApplication application) {
+            testCount++;
+            return predicate.test(application);
+        }
+
+        @Override
+        public Set<JobApplication> findMatches(JobApplicationIndex index) {
+            return predicate.findMatches(index);
+        }
+    }
+
+}
@@ -0,0 +1,284 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
+
+public class DisplayedApplicationListTest {
+
+    private static final JobApplication GOOGLE = application("Google", Status.APPLIED);
+    private static final JobApplication MICROSOFT = application("Microsoft", Status.INPROGRESS);
+    private static final JobApplication META = application("Meta", Status.APPLIED);
+    private static final JobApplication AMAZON = application("Amazon", Status.APPLIED);
+
+    private final JobBook jobBook = new JobBook();
+    private final DisplayedApplicationList displayedList =
+            new DisplayedApplicationList(jobBook.getApplicationList(), jobBook.getApplicationIndex());
+    private final List<JobApplication> mirror = new ArrayList<>();
+
+    private static JobApplication application(String companyName, Status status) {
+        return new JobApplication(companyName, "Engineer", LocalDateTime.of(2026, 1, 1, 0, 0), status, Set.of());
+    }
+
+    /**
+     * Keeps {@code mirror} up to date by applying the changes reported by {@code displayedList}, so that the reported
+     * changes can be checked against the view itself.
+     */
+    @BeforeEach
+    public void setUp() {
+        jobBook.setApplications(List.of(META, MICROSOFT, GOOGLE));
+        mirror.addAll(displayedList);
+        displayedList.addListener((ListChangeListener<JobApplication>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<JobApplication> permuted = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permuted.set(c.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                    continue;
+                }
+                for (JobApplication removed : c.getRemoved()) {
+                    assertEquals(removed, mirror.remove(c.getFrom()));
+                }
+                mirror.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+    }
+
+    /**
+     * Returns a list to which each sub-change later reported by {@code displayedList} is added, as its position
+     * followed by the numbers of applications removed and added.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        displayedList.addListener((ListChangeListener<JobApplication>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + ": -" + c.getRemovedSize() + " +" + c.getAddedSize());
+            }
+        });
+        return changes;
+    }
+
+    @Test
+    public void noFilter_wholeListAndChangesPassedOn() {
+        jobBook.addApplication(AMAZON);
+        jobBook.removeApplication(MICROSOFT);
+        jobBook.sortApplication(SortField.COMPANY, SortOrder.ASCENDING);
+
+        assertEquals(jobBook.getApplicationList(), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void setPredicate_indexedPredicate_matchesInStoredOrder() {
+        displayedList.setPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        assertEquals(List.of(META, GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+        assertEquals(2, displayedList.getSourceIndex(1));
+        assertEquals(-1, displayedList.getViewIndex(1));
+        assertEquals(1, displayedList.getViewIndex(2));
+
+        displayedList.showAll();
+        assertEquals(jobBook.getApplicationList(), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_filterSet_matchesPatched() {
+        displayedList.setPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED));
+
+        jobBook.addApplication(AMAZON);
+        assertEquals(List.of(AMAZON, META, GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+
+        JobApplication rejectedMeta = application("Meta", Status.REJECTED);
+        jobBook.setApplication(META, rejectedMeta);
+        assertEquals(List.of(AMAZON, GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+
+        jobBook.setApplication(MICROSOFT, application("Microsoft", Status.APPLIED));
+        jobBook.removeApplication(AMAZON);
+        assertEquals(List.of(jobBook.getApplicationList().get(1), GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+
+        // sorting numbers every application again
+        jobBook.sortApplication(SortField.COMPANY, SortOrder.DESCENDING);
+        assertEquals(List.of(jobBook.getApplicationList().get(0), GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_filterSet_onlyChangedApplicationsReported() {
+        displayedList.setPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        List<String> changes = recordChanges();
+
+        jobBook.addApplication(AMAZON);
+        jobBook.setApplication(META, application("Meta", Status.REJECTED));
+        jobBook.setApplication(GOOGLE, application("Google", Status.APPLIED));
+        // not shown -> nothing reported
+        jobBook.removeApplication(MICROSOFT);
+
+        assertEquals(List.of("0: -0 +1", "1: -1 +0", "1: -1 +1"), changes);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_windowSet_onlyApplicationsEnteringAndLeavingReported() {
+        displayedList.showAll(1, 2);
+        List<String> changes = recordChanges();
+
+        // META moves into the window, GOOGLE out of it
+        jobBook.addApplication(AMAZON);
+        assertEquals(List.of("0: -0 +1", "2: -1 +0"), changes);
+        assertEquals(displayedList, mirror);
+
+        changes.clear();
+        // META leaves the window, GOOGLE moves back in
+        jobBook.removeApplication(META);
+        assertEquals(List.of("0: -1 +0", "1: -0 +1"), changes);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void setPredicate_testedPredicate_matchesInStoredOrder() {
+        displayedList.setPredicate(application -> application.getCompanyName().startsWith("M"));
+        assertEquals(List.of(META, MICROSOFT), displayedList);
+
+        jobBook.addApplication(application("Monzo", Status.APPLIED));
+        jobBook.setApplications(List.of(GOOGLE, MICROSOFT));
+        assertEquals(List.of(MICROSOFT), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void setApplications_givenOrderKeptThroughChanges() {
+        displayedList.setApplications(List.of(GOOGLE, META));
+        assertEquals(List.of(GOOGLE, META), displayedList);
+        assertEquals(displayedList, mirror);
+        assertEquals(0, displayedList.getSourceIndex(1));
+        assertEquals(1, displayedList.getViewIndex(0));
+
+        jobBook.addApplication(AMAZON);
+        JobApplication rejectedGoogle = application("Google", Status.REJECTED);
+        jobBook.setApplication(GOOGLE, rejectedGoogle);
+        assertEquals(List.of(rejectedGoogle, META), displayedList);
+        assertEquals(displayedList, mirror);
+
+        jobBook.sortApplication(SortField.COMPANY, SortOrder.ASCENDING);
+        jobBook.removeApplication(META);
+        assertEquals(List.of(rejectedGoogle), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void showAll_windowSet_onlyWindowShown() {
+        displayedList.showAll(1, 1);
+        assertEquals(List.of(MICROSOFT), displayedList);
+        assertEquals(displayedList, mirror);
+        assertEquals(1, displayedList.getSourceIndex(0));
+        assertEquals(0, displayedList.getViewIndex(1));
+        assertEquals(-1, displayedList.getViewIndex(0));
+        assertEquals(3, displayedList.getTotalSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> displayedList.getSourceIndex(1));
+
+        // last window partly filled
+        displayedList.showAll(2, 2);
+        assertEquals(List.of(GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+
+        // window past the end -> empty
+        displayedList.showAll(Integer.MAX_VALUE, 2);
+        assertEquals(List.of(), displayedList);
+        assertEquals(displayedList, mirror);
+
+        displayedList.showAll();
+        assertEquals(jobBook.getApplicationList(), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void showAll_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> displayedList.showAll(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> displayedList.setPredicate(application -> true, 0, 0));
+    }
+
+    @Test
+    public void sourceChanged_windowSet_windowUpdated() {
+        displayedList.showAll(1, 2);
+
+        jobBook.addApplication(AMAZON);
+        assertEquals(List.of(META, MICROSOFT), displayedList);
+        assertEquals(displayedList, mirror);
+
+        jobBook.removeApplication(META);
+        assertEquals(List.of(MICROSOFT, GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+
+        jobBook.sortApplication(SortField.COMPANY, SortOrder.ASCENDING);
+        assertEquals(List.of(GOOGLE, MICROSOFT), displayedList);
+        assertEquals(displayedList, mirror);
+
+        displayedList.setPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED), 1, 1);
+        assertEquals(List.of(GOOGLE), displayedList);
+        assertEquals(2, displayedList.getTotalSize());
+
+        // change after the window -> window unchanged
+        jobBook.removeApplication(MICROSOFT);
+        assertEquals(List.of(GOOGLE), displayedList);
+        assertEquals(displayedList, mirror);
+    }
+
+    @Test
+    public void setPredicate_testedPredicateWithWindow_windowOfMatchesShown() {
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            applications.add(application("Company " + i, i % 2 == 0 ? Status.APPLIED : Status.REJECTED));
+        }
+        jobBook.setApplications(applications);
+
+        displayedList.setPredicate(application -> application.getStatus() == Status.APPLIED, 2, 3);
+        assertEquals(List.of(applications.get(4), applications.get(6), applications.get(8)), displayedList);
+        assertEquals(displayedList, mirror);
+        assertEquals(500, displayedList.getTotalSize());
+
+        // removing a match from the window moves the next match into it
+        jobBook.removeApplication(applications.get(6));
+        assertEquals(List.of(applications.get(4), applications.get(8), applications.get(10)), displayedList);
+        assertEquals(displayedList, mirror);
+        assertEquals(499, displayedList.getTotalSize());
+    }
+
+    @Test
+    public void manyRemovals_slotsCompacted_matchesKept() {
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            applications.add(application("Company " + i, i % 2 == 0 ? Status.APPLIED : Status.REJECTED));
+        }
+        jobBook.setApplications(applications);
+        displayedList.setPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED));
+
+        for (int i = 0; i < 150; i++) {
+            jobBook.removeApplication(applications.get(i));
+        }
+        assertEquals(25, displayedList.size());
+        assertEquals(applications.get(150), displayedList.get(0));
+        assertEquals(applications.get(198), displayedList.get(24));
+        assertEquals(48, displayedList.getSourceIndex(24));
+        assertEquals(displayedList, mirror);
+    }
+
+}
@@ -0,0 +1,88 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.testutil.JobApplicationBuilder;
+
+public class FuzzyNameMatchesPredicateTest {
+
+    private static final JobApplication BYTEDANCE = new JobApplicationBuilder()
+            .withCompanyName("ByteDance").withRole("Backend Engineer").build();
+    private static final JobApplication GOOGLE = new JobApplicationBuilder()
+            .withCompanyName("Google").withRole("Software Engineer").build();
+    private static final JobApplication META = new JobApplicationBuilder()
+            .withCompanyName("Meta").withRole("Data Scientist").build();
+
+    @Test
+    public void maxDistance() {
+        assertEquals(0, FuzzyNameMatchesPredicate.maxDistance("hrt"));
+        assertEquals(1, FuzzyNameMatchesPredicate.maxDistance("meta"));
+        assertEquals(1, FuzzyNameMatchesPredicate.maxDistance("google"));
+        assertEquals(2, FuzzyNameMatchesPredicate.maxDistance("bytdance"));
+    }
+
+    @Test
+    public void test_wordWithTypos_returnsTrue() {
+        assertTrue(new FuzzyNameMatchesPredicate(List.of("Bytdance")).test(BYTEDANCE));
+        assertTrue(new FuzzyNameMatchesPredicate(List.of("enginer")).test(GOOGLE));
+        assertTrue(new FuzzyNameMatchesPredicate(List.of("goggle", "xyz")).test(GOOGLE));
+    }
+
+    @Test
+    public void test_wordTooFarOrKeywordTooShort_returnsFalse() {
+        assertFalse(new FuzzyNameMatchesPredicate(List.of("gogle")).test(META));
+        assertFalse(new FuzzyNameMatchesPredicate(List.of("bytdnce")).test(GOOGLE));
+        assertFalse(new FuzzyNameMatchesPredicate(List.of("mta")).test(META));
+        assertFalse(new FuzzyNameMatchesPredicate(List.of()).test(META));
+    }
+
+    @Test
+    public void distanceTo_closestWord() {
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of("Bytdance", "Enginer"));
+        assertEquals(1, predicate.distanceTo(BYTEDANCE));
+        assertEquals(1, predicate.distanceTo(GOOGLE));
+        assertEquals(FuzzyNameMatchesPredicate.NO_MATCH, predicate.distanceTo(META));
+        assertEquals(0, new FuzzyNameMatchesPredicate(List.of("google")).distanceTo(GOOGLE));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryApplication() {
+        JobBook jobBook = new JobBook();
+        jobBook.addApplication(BYTEDANCE);
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(META);
+        JobApplicationIndex index = jobBook.getApplicationIndex();
+
+        for (String keywords : List.of("Bytdance", "enginr", "sciantist data", "metta", "mta", "xyzzy")) {
+            FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of(keywords.split(" ")));
+            Set<JobApplication> expected = new HashSet<>();
+            for (JobApplication application : index.getApplications()) {
+                if (predicate.test(application)) {
+                    expected.add(application);
+                }
+            }
+            assertEquals(expected, predicate.findMatches(index), keywords);
+        }
+        assertEquals(Set.of(BYTEDANCE), new FuzzyNameMatchesPredicate(List.of("Bytdance")).findMatches(index));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of("google"));
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new FuzzyNameMatchesPredicate(List.of("google"))));
+        assertFalse(predicate.equals(new FuzzyNameMatchesPredicate(List.of("meta"))));
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate(List.of("google"))));
+        assertFalse(predicate.equals(null));
+    }
+
+}
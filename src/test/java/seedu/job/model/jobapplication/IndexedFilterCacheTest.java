@@ -0,0 +1,126 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.tag.Tag;
+
+public class IndexedFilterCacheTest {
+
+    private static final JobApplication GOOGLE = new JobApplication("Google", "Software Engineer",
+            LocalDateTime.of(2025, 12, 31, 23, 59), Status.APPLIED, Set.of(new Tag("remote")));
+    private static final JobApplication MICROSOFT = new JobApplication("Microsoft", "Product Manager",
+            LocalDateTime.of(2025, 12, 1, 9, 0), Status.INPROGRESS, Set.of());
+    private static final JobApplication META = new JobApplication("Meta", "Data Scientist",
+            LocalDateTime.of(2026, 1, 1, 0, 0), Status.APPLIED, Set.of());
+
+    private final JobBook jobBook = new JobBook();
+    private final StoredOrder storedOrder = new StoredOrder(jobBook.getApplicationList());
+    private final IndexedFilterCache cache = new IndexedFilterCache(jobBook.getApplicationIndex(), storedOrder, 2);
+
+    @BeforeEach
+    public void setUp() {
+        storedOrder.addListener(cache);
+        jobBook.getApplicationList().addListener(storedOrder::update);
+        jobBook.setApplications(List.of(GOOGLE, MICROSOFT));
+    }
+
+    @Test
+    public void getMatches_equalPredicates_sameMatches() {
+        BitSet matches = cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED));
+
+        assertSame(matches, cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED)));
+        assertNotSame(matches, cache.getMatches(new StatusMatchesKeywordPredicate(Status.REJECTED)));
+        assertEquals(BitSet.valueOf(new long[] {0b10}), matches);
+    }
+
+    @Test
+    public void getMatches_overCapacity_leastRecentlyUsedEvicted() {
+        BitSet applied = cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        BitSet rejected = cache.getMatches(new StatusMatchesKeywordPredicate(Status.REJECTED));
+        cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        cache.getMatches(new TagsContainKeywordPredicate("remote"));
+
+        assertEquals(2, cache.size());
+        assertSame(applied, cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED)));
+        assertNotSame(rejected, cache.getMatches(new StatusMatchesKeywordPredicate(Status.REJECTED)));
+    }
+
+    @Test
+    public void slotsChanged_matchesPatchedWithoutLookingUpAgain() {
+        CountingPredicate predicate = new CountingPredicate(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        BitSet matches = cache.getMatches(predicate);
+        assertEquals(1, predicate.lookupCount);
+
+        jobBook.addApplication(META);
+        JobApplication rejectedGoogle = new JobApplication("Google", "Software Engineer",
+                LocalDateTime.of(2025, 12, 31, 23, 59), Status.REJECTED, Set.of());
+        jobBook.setApplication(GOOGLE, rejectedGoogle);
+        jobBook.removeApplication(MICROSOFT);
+
+        assertSame(matches, cache.getMatches(predicate));
+        assertTrue(matches.get(storedOrder.getSlot(META)));
+        assertFalse(matches.get(storedOrder.getSlot(rejectedGoogle)));
+        assertEquals(1, matches.cardinality());
+        assertEquals(1, predicate.lookupCount);
+    }
+
+    @Test
+    public void onRenumbered_matchesDiscarded() {
+        BitSet matches = cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED));
+
+        jobBook.setApplications(List.of(GOOGLE, META));
+
+        assertEquals(0, cache.size());
+        assertNotSame(matches, cache.getMatches(new StatusMatchesKeywordPredicate(Status.APPLIED)));
+    }
+
+    @Test
+    public void updateFilteredJobApplicationList_returnToCachedFilterAfterChanges_correctView() {
+        ModelManager modelManager = new ModelManager(jobBook, new UserPrefs());
+        StatusMatchesKeywordPredicate applied = new StatusMatchesKeywordPredicate(Status.APPLIED);
+
+        modelManager.updateFilteredJobApplicationList(applied);
+        modelManager.updateFilteredJobApplicationList(new TagsContainKeywordPredicate("remote"));
+        modelManager.addJobApplication(META);
+        modelManager.deleteJobApplication(GOOGLE);
+        modelManager.updateFilteredJobApplicationList(new StatusMatchesKeywordPredicate(Status.APPLIED));
+
+        assertEquals(List.of(META), modelManager.getFilteredApplicationList());
+    }
+
+    /**
+     * An {@code IndexedPredicate} that counts how many times its matches are looked up.
+     */
+    private static class CountingPredicate implements IndexedPredicate {
+        private final IndexedPredicate predicate;
+        private int lookupCount;
+
+        CountingPredicate(IndexedPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(JobApplication application) {
+            return predicate.test(application);
+        }
+
+        @Override
+        public Set<JobApplication> findMatches(JobApplicationIndex index) {
+            lookupCount++;
+            return predicate.findMatches(index);
+        }
+    }
+}
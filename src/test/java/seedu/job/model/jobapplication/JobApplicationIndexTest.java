@@ -0,0 +1,229 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.commons.core.index.Index;
+import seedu.job.model.jobapplication.CompletionIndex.CompletionField;
+import seedu.job.model.jobapplication.JobApplication.Status;
+import seedu.job.model.tag.Tag;
+
+public class JobApplicationIndexTest {
+
+    private static final JobApplication GOOGLE = new JobApplication("Google", "Software Engineer",
+            LocalDateTime.of(2024, 12, 31, 23, 59), Status.APPLIED, Set.of(new Tag("Remote"), new Tag("urgent")));
+    private static final JobApplication MICROSOFT = new JobApplication("Microsoft", "Product Manager",
+            LocalDateTime.of(2024, 12, 31, 9, 0), Status.INPROGRESS, Set.of(new Tag("onsite")));
+    private static final JobApplication META = new JobApplication("Meta", "Data Scientist",
+            LocalDateTime.of(2025, 1, 1, 0, 0), Status.APPLIED, Set.of());
+
+    private final JobBook jobBook = new JobBook();
+    private final JobApplicationIndex index = jobBook.getApplicationIndex();
+
+    @Test
+    public void addApplication_indexedByStatusTagAndDeadline() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        jobBook.addApplication(META);
+
+        assertEquals(Set.of(GOOGLE, META), index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED));
+        assertEquals(Set.of(GOOGLE), index.getTagIndex().getApplicationsWithTag("remote"));
+        assertEquals(Set.of(GOOGLE, MICROSOFT), index.getTagIndex().getApplicationsWithTagContaining("TE"));
+        assertEquals(Set.of("remote", "onsite"), index.getTagIndex().getTagNamesContaining("TE"));
+        assertEquals(Set.of(GOOGLE), new TagsContainKeywordPredicate("MOT").findMatches(index));
+        assertTrue(new TagsContainKeywordPredicate("MOT").test(GOOGLE));
+        DeadlineIndex deadlines = index.getDeadlineIndex();
+        assertEquals(Set.of(GOOGLE, MICROSOFT), deadlines.getApplicationsWithDeadlineOn(LocalDate.of(2024, 12, 31)));
+        assertEquals(Set.of(META), deadlines.getApplicationsWithDeadlineOn(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    public void getApplicationsWithWord_wholeWordsOfCompanyAndRole() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        jobBook.addApplication(META);
+
+        assertEquals(Set.of(GOOGLE), index.getWordIndex().getApplicationsWithWord("GOOGLE"));
+        assertEquals(Set.of(GOOGLE), index.getWordIndex().getApplicationsWithWord("engineer"));
+        assertTrue(index.getWordIndex().getApplicationsWithWord("engine").isEmpty());
+        assertEquals(Set.of(GOOGLE, META), new NameContainsKeywordsPredicate(List.of("software", "data"))
+                .findMatches(index));
+
+        jobBook.removeApplication(GOOGLE);
+        assertTrue(index.getWordIndex().getApplicationsWithWord("google").isEmpty());
+    }
+
+    @Test
+    public void getWordsWithinDistance_typosInWord_closeWordsWithDistance() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        jobBook.addApplication(META);
+
+        assertEquals(Map.of("microsoft", 1), index.getTrigramIndex().getWordsWithinDistance("Micosoft", 2));
+        assertEquals(Map.of("google", 0), index.getTrigramIndex().getWordsWithinDistance("google", 0));
+        assertTrue(index.getTrigramIndex().getWordsWithinDistance("goggle", 0).isEmpty());
+
+        // too few trigrams to rule out any word -> every word compared
+        assertEquals(Map.of("meta", 1), index.getTrigramIndex().getWordsWithinDistance("mta", 1));
+
+        jobBook.removeApplication(MICROSOFT);
+        assertTrue(index.getTrigramIndex().getWordsWithinDistance("Micosoft", 2).isEmpty());
+        assertTrue(TrigramIndex.toTrigrams("microsoft").contains("$mi"));
+    }
+
+    @Test
+    public void getCompletions_companyNamesRolesAndTags() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        jobBook.addApplication(META);
+
+        CompletionIndex completions = index.getCompletionIndex();
+        assertEquals(List.of("Meta", "Microsoft"), completions.getCompletions(CompletionField.COMPANY_NAME, "m", 10));
+        assertEquals(List.of("Product Manager"), completions.getCompletions(CompletionField.ROLE, "PRO", 10));
+        assertEquals(List.of("onsite"), completions.getCompletions(CompletionField.TAG, "on", 10));
+
+        jobBook.removeApplication(MICROSOFT);
+        assertEquals(List.of("Meta"), completions.getCompletions(CompletionField.COMPANY_NAME, "m", 10));
+        assertTrue(completions.getCompletions(CompletionField.TAG, "on", 10).isEmpty());
+    }
+
+    @Test
+    public void removeAndSetApplication_indexUpdated() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        JobApplication rejectedMicrosoft = new JobApplication("Microsoft", "Product Manager",
+                LocalDateTime.of(2025, 1, 1, 12, 0), Status.REJECTED, Set.of());
+
+        jobBook.setApplication(MICROSOFT, rejectedMicrosoft);
+        assertTrue(index.getStatusIndex().getApplicationsWithStatus(Status.INPROGRESS).isEmpty());
+        assertEquals(Set.of(rejectedMicrosoft), index.getStatusIndex().getApplicationsWithStatus(Status.REJECTED));
+        assertTrue(index.getTagIndex().getApplicationsWithTag("onsite").isEmpty());
+        assertEquals(Set.of(rejectedMicrosoft),
+                index.getDeadlineIndex().getApplicationsWithDeadlineOn(LocalDate.of(2025, 1, 1)));
+
+        jobBook.removeApplication(GOOGLE);
+        assertTrue(index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED).isEmpty());
+        assertTrue(index.getTagIndex().getApplicationsWithTagContaining("").isEmpty());
+    }
+
+    @Test
+    public void getTagNamesContaining_tagNamesComeAndGo_tagNamesFoundPatched() {
+        jobBook.addApplication(GOOGLE);
+        TagIndex tags = index.getTagIndex();
+        assertEquals(Set.of("remote"), tags.getTagNamesContaining("te"));
+
+        jobBook.addApplication(MICROSOFT);
+        assertEquals(Set.of("remote", "onsite"), tags.getTagNamesContaining("te"));
+        assertEquals(Set.of(GOOGLE, MICROSOFT), tags.getApplicationsWithTagContaining("te"));
+
+        jobBook.removeApplication(GOOGLE);
+        assertEquals(Set.of("onsite"), tags.getTagNamesContaining("te"));
+        assertEquals(Set.of(MICROSOFT), tags.getApplicationsWithTagContaining("TE"));
+        assertEquals(1, tags.countApplicationsWithTagContaining("te"));
+    }
+
+    @Test
+    public void setApplications_indexRebuilt() {
+        jobBook.addApplication(GOOGLE);
+
+        jobBook.setApplications(List.of(MICROSOFT, META));
+        assertEquals(Set.of(META), index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED));
+
+        JobBook newData = new JobBook();
+        newData.addApplication(GOOGLE);
+        jobBook.resetData(newData);
+        assertEquals(Set.of(GOOGLE), index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED));
+        assertTrue(index.getStatusIndex().getApplicationsWithStatus(Status.INPROGRESS).isEmpty());
+    }
+
+    @Test
+    public void getStatistics_countsKeptUpToDate() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        jobBook.addApplication(META);
+
+        // 2024-12-31 is a Tuesday and 2025-01-01 a Wednesday of the same week
+        JobApplicationStatistics statistics = index.getStatisticsIndex().getStatistics();
+        assertEquals(3, statistics.getTotal());
+        assertEquals(Map.of(Status.APPLIED, 2, Status.INPROGRESS, 1, Status.REJECTED, 0),
+                statistics.getCountByStatus());
+        assertEquals(Map.of("remote", 1, "urgent", 1, "onsite", 1), statistics.getCountByTag());
+        assertEquals(Map.of(LocalDate.of(2024, 12, 30), 3), statistics.getCountByDeadlineWeek());
+
+        jobBook.removeApplication(MICROSOFT);
+        jobBook.setApplication(META, new JobApplication("Meta", "Data Scientist",
+                LocalDateTime.of(2025, 1, 6, 0, 0), Status.REJECTED, Set.of(new Tag("remote"))));
+        statistics = index.getStatisticsIndex().getStatistics();
+        assertEquals(Map.of(Status.APPLIED, 1, Status.INPROGRESS, 0, Status.REJECTED, 1),
+                statistics.getCountByStatus());
+        assertEquals(Map.of("remote", 2, "urgent", 1), statistics.getCountByTag());
+        assertEquals(Map.of(LocalDate.of(2024, 12, 30), 1, LocalDate.of(2025, 1, 6), 1),
+                statistics.getCountByDeadlineWeek());
+    }
+
+    @Test
+    public void getStatusIndex_builtOnFirstQuery_keptUpToDateAfterwards() {
+        jobBook.addApplication(GOOGLE);
+        JobBook copy = new JobBook(jobBook);
+        copy.addApplication(META);
+        assertEquals(0, index.countBuiltIndexes());
+        assertEquals(0, copy.getApplicationIndex().countBuiltIndexes());
+
+        assertEquals(Set.of(GOOGLE), index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED));
+        assertEquals(1, index.countBuiltIndexes());
+        jobBook.addApplication(META);
+        assertEquals(Set.of(GOOGLE, META), index.getStatusIndex().getApplicationsWithStatus(Status.APPLIED));
+
+        assertEquals(Map.of("meta", 0), index.getTrigramIndex().getWordsWithinDistance("meta", 0));
+        assertEquals(3, index.countBuiltIndexes());
+    }
+
+    @Test
+    public void updateFilteredJobApplicationList_wordPredicate_noApplicationTested() {
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            applications.add(new JobApplication("Company " + i, "Engineer", LocalDateTime.of(2025, 1, 1, 0, 0),
+                    Status.APPLIED, Set.of()));
+        }
+        jobBook.setApplications(applications);
+        ModelManager modelManager = new ModelManager(jobBook, new UserPrefs());
+        int[] testCount = new int[1];
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("7", "999")) {
+            @Override
+            public boolean test(JobApplication application) {
+                testCount[0]++;
+                return super.test(application);
+            }
+        };
+
+        modelManager.updateFilteredJobApplicationList(predicate);
+
+        assertEquals(List.of(applications.get(7), applications.get(999)), modelManager.getFilteredApplicationList());
+        assertEquals(0, testCount[0]);
+    }
+
+    @Test
+    public void updateFilteredJobApplicationList_indexedPredicateAfterUpdate_filterStaysCorrect() {
+        jobBook.addApplication(GOOGLE);
+        jobBook.addApplication(MICROSOFT);
+        ModelManager modelManager = new ModelManager(jobBook, new UserPrefs());
+
+        modelManager.updateFilteredJobApplicationList(new StatusMatchesKeywordPredicate(Status.APPLIED));
+        assertEquals(List.of(GOOGLE), modelManager.getFilteredApplicationList());
+
+        JobApplication rejectedGoogle = new JobApplication("Google", "Software Engineer",
+                LocalDateTime.of(2024, 12, 31, 23, 59), Status.REJECTED, Set.of());
+        modelManager.setFilteredJobApplication(Index.fromOneBased(1), rejectedGoogle);
+        assertTrue(modelManager.getFilteredApplicationList().isEmpty());
+    }
+
+}
@@ -0,0 +1,94 @@
+package seedu.job.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ReversedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final ReversedList<String> reversedList = new ReversedList<>(source);
+    private final List<String> mirror = new ArrayList<>();
+
+    /**
+     * Keeps {@code mirror} up to date by applying the changes reported by {@code reversedList}, so that the reported
+     * changes can be checked against the view itself.
+     */
+    @BeforeEach
+    public void setUp() {
+        mirror.addAll(reversedList);
+        reversedList.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<String> permuted = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permuted.set(c.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                    continue;
+                }
+                for (String removed : c.getRemoved()) {
+                    assertEquals(removed, mirror.remove(c.getFrom()));
+                }
+                mirror.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void get_reverseOfSource() {
+        assertEquals(List.of("c", "b", "a"), reversedList);
+        assertEquals(2, reversedList.getSourceIndex(0));
+        assertEquals(0, reversedList.getViewIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> reversedList.getSourceIndex(3));
+    }
+
+    @Test
+    public void sourceChanged_append_addedAtFront() {
+        source.add("d");
+        assertEquals(List.of("d", "c", "b", "a"), reversedList);
+        assertEquals(reversedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_removeAndSet_mirrored() {
+        source.remove(0);
+        assertEquals(reversedList, mirror);
+        source.set(1, "e");
+        assertEquals(List.of("e", "b"), reversedList);
+        assertEquals(reversedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_setAll_mirrored() {
+        source.setAll("x", "y");
+        assertEquals(List.of("y", "x"), mirror);
+        source.setAll(List.of());
+        assertEquals(List.of(), mirror);
+    }
+
+    @Test
+    public void sourceChanged_sort_mirrored() {
+        source.setAll("b", "d", "a", "c");
+        FXCollections.sort(source, Comparator.naturalOrder());
+        assertEquals(List.of("d", "c", "b", "a"), reversedList);
+        assertEquals(reversedList, mirror);
+    }
+
+    @Test
+    public void add_unmodifiable_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> reversedList.add("d"));
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.tag.Tag;
+
+public class BinaryJobApplicationStorageTest {
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, Set.of(new Tag("remote"), new Tag("urgent")));
+
+    private static final JobApplication GOOGLE_INTERN_APPLICATION = new JobApplication(
+            "Google", "Intern", LocalDateTime.of(2025, 1, 15, 9, 0),
+            JobApplication.Status.REJECTED, Set.of(new Tag("remote")));
+
+    private static final JobApplication MICROSOFT_APPLICATION = new JobApplication(
+            "Microsoft", "Product Manager", LocalDateTime.of(2024, 11, 15, 17, 30),
+            JobApplication.Status.INPROGRESS, new HashSet<>());
+
+    @TempDir
+    public Path testFolder;
+
+    private static List<JobApplication> getTypicalJobApplications() {
+        return Arrays.asList(GOOGLE_APPLICATION, GOOGLE_INTERN_APPLICATION, MICROSOFT_APPLICATION);
+    }
+
+    private static List<JobApplication> read(byte[] bytes) throws Exception {
+        return BinaryJobApplicationStorage.read(bytes);
+    }
+
+    @Test
+    public void readDataFile_missingFile_emptyResult() throws Exception {
+        assertTrue(new BinaryJobApplicationStorage(testFolder.resolve("missing.bin")).readDataFile().isEmpty());
+    }
+
+    @Test
+    public void readAndSaveJobApplicationData_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("JobApplications.bin");
+        BinaryJobApplicationStorage storage = new BinaryJobApplicationStorage(filePath, DurabilityPolicy.NONE);
+
+        storage.saveJobApplicationData(getTypicalJobApplications());
+        List<JobApplication> readBack = storage.readDataFile();
+        assertEquals(getTypicalJobApplications(), readBack);
+        for (int i = 0; i < readBack.size(); i++) {
+            JobApplication expected = getTypicalJobApplications().get(i);
+            assertEquals(expected.getDeadline(), readBack.get(i).getDeadline());
+            assertEquals(expected.getStatus(), readBack.get(i).getStatus());
+            assertEquals(expected.getTags(), readBack.get(i).getTags());
+        }
+        assertFalse(Files.exists(filePath.resolveSibling("JobApplications.bin.tmp")));
+
+        // overwrite existing file with fewer applications
+        storage.saveJobApplicationChanges(new ArrayList<>(), List.of(MICROSOFT_APPLICATION));
+        assertEquals(List.of(MICROSOFT_APPLICATION), storage.readDataFile());
+    }
+
+    @Test
+    public void write_repeatedStrings_storedOnce() throws Exception {
+        byte[] once = BinaryJobApplicationStorage.write(List.of(GOOGLE_APPLICATION));
+        byte[] twice = BinaryJobApplicationStorage.write(List.of(GOOGLE_APPLICATION, GOOGLE_INTERN_APPLICATION));
+
+        // the second record only adds "Intern" to the dictionary
+        int internLength = Integer.BYTES + "Intern".length();
+        int recordLength = Integer.BYTES + Integer.BYTES * 2 + Long.BYTES + 2 + Integer.BYTES;
+        assertEquals(once.length + internLength + recordLength, twice.length);
+    }
+
+    @Test
+    public void read_notBinaryDataFile_throwsIoException() {
+        assertThrows(IOException.class, BinaryJobApplicationStorage.MESSAGE_NOT_A_DATA_FILE, () ->
+                read("{\"jobApplications\": []}".getBytes()));
+        assertThrows(IOException.class, BinaryJobApplicationStorage.MESSAGE_NOT_A_DATA_FILE, () ->
+                read(new byte[0]));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() throws Exception {
+        byte[] bytes = BinaryJobApplicationStorage.write(List.of(MICROSOFT_APPLICATION));
+        bytes[Integer.BYTES] = 2;
+        assertThrows(IOException.class, String.format(BinaryJobApplicationStorage.MESSAGE_UNSUPPORTED_VERSION, 2), ()
+                -> read(bytes));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        byte[] bytes = BinaryJobApplicationStorage.write(getTypicalJobApplications());
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void read_corruptedCounts_throwsIoException() throws Exception {
+        byte[] bytes = BinaryJobApplicationStorage.write(List.of(MICROSOFT_APPLICATION));
+        // the string count, the length of the first string, and the record count before the only record
+        int stringCountOffset = Integer.BYTES + Byte.BYTES;
+        int stringLengthOffset = stringCountOffset + Integer.BYTES;
+        int recordCountOffset = bytes.length - BinaryJobApplicationStorage.getRecordLength(0) - Integer.BYTES * 2;
+        for (int offset : new int[] {stringCountOffset, stringLengthOffset, recordCountOffset}) {
+            byte[] corrupted = bytes.clone();
+            ByteBuffer.wrap(corrupted).putInt(offset, Integer.MAX_VALUE);
+            assertThrows(IOException.class, BinaryJobApplicationStorage.MESSAGE_NOT_A_DATA_FILE, ()
+                    -> read(corrupted));
+        }
+    }
+
+    @Test
+    public void read_invalidStatus_throwsIoException() throws Exception {
+        byte[] bytes = BinaryJobApplicationStorage.write(List.of(MICROSOFT_APPLICATION));
+        // the status byte precedes the tag count, which is the last byte of a record without tags
+        bytes[bytes.length - 2] = (byte) JobApplication.Status.values().length;
+        assertThrows(IOException.class, String.format(BinaryJobApplicationStorage.MESSAGE_CORRUPTED_RECORD, 1), ()
+                -> read(bytes));
+    }
+
+    @Test
+    public void read_duplicateApplications_throwsIllegalValueException() throws Exception {
+        JobApplication duplicate = new JobApplication("Microsoft", "Product Manager",
+                LocalDateTime.of(2025, 3, 1, 12, 0), JobApplication.Status.APPLIED, new HashSet<>());
+        byte[] bytes = BinaryJobApplicationStorage.write(List.of(GOOGLE_APPLICATION, MICROSOFT_APPLICATION,
+                duplicate));
+        String expectedMessage = String.format(BinaryJobApplicationStorage.MESSAGE_DUPLICATE_ENTRY_FORMAT, 3, 2,
+                "Microsoft", "Product Manager");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> read(bytes));
+    }
+
+    @Test
+    public void readDataFile_invalidFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.bin");
+        Files.writeString(filePath, "not a binary data file");
+        assertThrows(DataLoadingException.class, () -> new BinaryJobApplicationStorage(filePath).readDataFile());
+    }
+
+    @Test
+    public void saveJobApplicationData_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryJobApplicationStorage(testFolder.resolve("data.bin")).saveJobApplicationData(null));
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.commons.core.DurabilityPolicy;
+
+public class ForcedSaveTrackerTest {
+
+    private static final Path DATA_FILE = Paths.get("data.json");
+    private static final Path JOURNAL_FILE = Paths.get("data.json.journal");
+
+    private final List<Path> forcedFiles = new CopyOnWriteArrayList<>();
+    private final CountDownLatch forced = new CountDownLatch(1);
+
+    private ForcedSaveTracker newTracker(DurabilityPolicy policy, long intervalMillis) {
+        return new ForcedSaveTracker(policy, TimeUnit.MILLISECONDS.toNanos(intervalMillis), file -> {
+            forcedFiles.add(file);
+            forced.countDown();
+        });
+    }
+
+    @Test
+    public void shouldForceNextSave_onSave_alwaysForces() {
+        ForcedSaveTracker tracker = newTracker(DurabilityPolicy.ON_SAVE, 1000);
+        assertTrue(tracker.shouldForceNextSave());
+        assertTrue(tracker.shouldForceNextSave());
+    }
+
+    @Test
+    public void shouldForceNextSave_none_neverForces() throws Exception {
+        ForcedSaveTracker tracker = newTracker(DurabilityPolicy.NONE, 0);
+        assertFalse(tracker.shouldForceNextSave());
+        tracker.recordSave(DATA_FILE, false);
+        assertFalse(forced.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void recordSave_batchedSaveNotForced_forcedByTimer() throws Exception {
+        ForcedSaveTracker tracker = newTracker(DurabilityPolicy.BATCHED, 50);
+        assertTrue(tracker.shouldForceNextSave());
+        tracker.recordSave(DATA_FILE, true);
+
+        // within the interval of the first save, so left to the timer
+        assertFalse(tracker.shouldForceNextSave());
+        tracker.recordSave(JOURNAL_FILE, false);
+        assertTrue(forced.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(JOURNAL_FILE), forcedFiles);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.commons.core.DurabilityPolicy;
+import seedu.job.commons.core.StorageFormat;
+import seedu.job.model.jobapplication.JobApplication;
+
+public class JobApplicationStorageFactoryTest {
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, new HashSet<>());
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void detectFormat_knownFormats_detected() throws Exception {
+        Path jsonFile = testFolder.resolve("data.json");
+        new JsonJobApplicationStorage(jsonFile).saveJobApplicationData(List.of(GOOGLE_APPLICATION));
+        Path binaryFile = testFolder.resolve("data.bin");
+        new BinaryJobApplicationStorage(binaryFile).saveJobApplicationData(List.of(GOOGLE_APPLICATION));
+        Path otherFile = testFolder.resolve("data.txt");
+        Files.writeString(otherFile, "not a data file");
+
+        assertEquals(Optional.of(StorageFormat.JSON), JobApplicationStorageFactory.detectFormat(jsonFile));
+        assertEquals(Optional.of(StorageFormat.BINARY), JobApplicationStorageFactory.detectFormat(binaryFile));
+        assertEquals(Optional.empty(), JobApplicationStorageFactory.detectFormat(otherFile));
+        assertEquals(Optional.empty(), JobApplicationStorageFactory.detectFormat(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void createForDataFile_jsonFileConfiguredAsBinary_keepsJson() throws Exception {
+        Path jsonFile = testFolder.resolve("data.json");
+        new JsonJobApplicationStorage(jsonFile).saveJobApplicationData(List.of(GOOGLE_APPLICATION));
+
+        JobApplicationStorage storage = JobApplicationStorageFactory.createForDataFile(StorageFormat.BINARY,
+                jsonFile, DurabilityPolicy.ON_SAVE);
+        assertTrue(storage instanceof JsonJobApplicationStorage);
+        assertEquals(List.of(GOOGLE_APPLICATION), storage.readDataFile());
+    }
+
+    @Test
+    public void createForDataFile_missingFile_usesConfiguredFormat() {
+        JobApplicationStorage storage = JobApplicationStorageFactory.createForDataFile(StorageFormat.BINARY,
+                testFolder.resolve("data.bin"), DurabilityPolicy.ON_SAVE);
+        assertTrue(storage instanceof BinaryJobApplicationStorage);
+    }
+
+}
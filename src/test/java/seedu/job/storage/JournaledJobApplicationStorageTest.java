@@ -0,0 +1,238 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.job.commons.exceptions.DataLoadingException;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBook;
+import seedu.job.model.jobapplication.exceptions.DuplicateJobApplicationException;
+import seedu.job.model.jobapplication.sort.SortField;
+import seedu.job.model.jobapplication.sort.SortOrder;
+import seedu.job.model.tag.Tag;
+
+public class JournaledJobApplicationStorageTest {
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, new HashSet<>());
+
+    private static final JobApplication MICROSOFT_APPLICATION = new JobApplication(
+            "Microsoft", "Product Manager", LocalDateTime.of(2024, 11, 15, 17, 30),
+            JobApplication.Status.INPROGRESS, new HashSet<>());
+
+    private static final JobApplication APPLE_APPLICATION = new JobApplication(
+            "Apple", "iOS Developer", LocalDateTime.of(2024, 10, 20, 12, 0),
+            JobApplication.Status.REJECTED, new HashSet<>());
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private Path journalFilePath;
+    private JobBook jobBook;
+
+    @BeforeEach
+    public void setUp() {
+        dataFilePath = testFolder.resolve("data.json");
+        journalFilePath = JournaledJobApplicationStorage.getJournalFilePath(dataFilePath);
+        jobBook = new JobBook();
+    }
+
+    private JournaledJobApplicationStorage newStorage(int compactionThreshold) {
+        return new JournaledJobApplicationStorage(new JsonJobApplicationStorage(dataFilePath), compactionThreshold);
+    }
+
+    private void save(JournaledJobApplicationStorage storage) throws Exception {
+        storage.saveJobApplicationChanges(jobBook.takePendingChanges(), jobBook.getApplicationList());
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> newStorage(0));
+    }
+
+    @Test
+    public void getJournalFilePath_siblingOfDataFile() {
+        assertEquals(testFolder.resolve("data.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void saveJobApplicationChanges_firstSave_writesSnapshot() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+
+        assertTrue(Files.exists(dataFilePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(List.of(GOOGLE_APPLICATION), new JsonJobApplicationStorage(dataFilePath).readDataFile());
+    }
+
+    @Test
+    public void saveJobApplicationChanges_afterSnapshot_appendsToJournal() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        jobBook.addApplication(APPLE_APPLICATION);
+        save(storage);
+
+        // snapshot is untouched, changes are only in the journal
+        assertEquals(List.of(GOOGLE_APPLICATION), new JsonJobApplicationStorage(dataFilePath).readDataFile());
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(jobBook.getApplicationList(), newStorage(10).readDataFile());
+    }
+
+    @Test
+    public void saveJobApplicationChanges_appendFailed_compactsOnNextSave() throws Exception {
+        dataFilePath = testFolder.resolve("data").resolve("data.json");
+        JournaledJobApplicationStorage storage = newStorage(10);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+
+        // replace the data directory with a file, so that the directory of the journal cannot be created
+        Path dataDirectory = dataFilePath.getParent();
+        Files.delete(dataFilePath);
+        Files.delete(dataDirectory);
+        Files.createFile(dataDirectory);
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        assertThrows(IOException.class, () -> save(storage));
+
+        Files.delete(dataDirectory);
+        jobBook.addApplication(APPLE_APPLICATION);
+        save(storage);
+        assertEquals(jobBook.getApplicationList(), newStorage(10).readDataFile());
+    }
+
+    @Test
+    public void readDataFile_journalReplayed_matchesModel() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(100);
+        jobBook.setApplications(Arrays.asList(GOOGLE_APPLICATION, MICROSOFT_APPLICATION));
+        save(storage);
+
+        JobApplication taggedGoogle = new JobApplication(GOOGLE_APPLICATION.getCompanyName(),
+                GOOGLE_APPLICATION.getRole(), GOOGLE_APPLICATION.getDeadline(), GOOGLE_APPLICATION.getStatus(),
+                Set.of(new Tag("urgent")));
+        jobBook.addApplication(APPLE_APPLICATION);
+        jobBook.setApplication(GOOGLE_APPLICATION, taggedGoogle);
+        jobBook.removeApplication(MICROSOFT_APPLICATION);
+        jobBook.sortApplication(SortField.COMPANY, SortOrder.DESCENDING);
+        save(storage);
+
+        List<JobApplication> readBack = newStorage(100).readDataFile();
+        assertEquals(jobBook.getApplicationList(), readBack);
+        assertEquals(taggedGoogle.getTags(), readBack.get(0).getTags());
+    }
+
+    @Test
+    public void readDataFile_journalReplayed_uniqueKeysTakenOver() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(100);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        jobBook.removeApplication(GOOGLE_APPLICATION);
+        save(storage);
+
+        JobBook reloaded = new JobBook();
+        reloaded.setUniqueApplications(newStorage(100).readDataFile());
+        assertTrue(reloaded.hasJobApplication(MICROSOFT_APPLICATION));
+        assertFalse(reloaded.hasJobApplication(GOOGLE_APPLICATION));
+        assertThrows(DuplicateJobApplicationException.class, () -> reloaded.addApplication(MICROSOFT_APPLICATION));
+    }
+
+    @Test
+    public void saveJobApplicationChanges_thresholdExceeded_compacts() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(2);
+        save(storage);
+
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        save(storage);
+        assertTrue(Files.exists(journalFilePath));
+
+        jobBook.addApplication(APPLE_APPLICATION);
+        save(storage);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(jobBook.getApplicationList(), new JsonJobApplicationStorage(dataFilePath).readDataFile());
+    }
+
+    @Test
+    public void saveJobApplicationChanges_reset_compacts() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        save(storage);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+        assertTrue(Files.exists(journalFilePath));
+
+        jobBook.setApplications(List.of(APPLE_APPLICATION));
+        save(storage);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(List.of(APPLE_APPLICATION), new JsonJobApplicationStorage(dataFilePath).readDataFile());
+    }
+
+    @Test
+    public void readDataFile_truncatedLastRecord_ignoredAndCompactedOnNextSave() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        save(storage);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+        Files.write(journalFilePath, "{\"type\":\"ADD\",\"tar".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledJobApplicationStorage reopened = newStorage(10);
+        assertEquals(List.of(GOOGLE_APPLICATION), reopened.readDataFile());
+
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        save(reopened);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(jobBook.getApplicationList(), newStorage(10).readDataFile());
+    }
+
+    @Test
+    public void readDataFile_malformedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        save(storage);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        save(storage);
+        String journal = "not a record" + System.lineSeparator() + Files.readString(journalFilePath);
+        Files.writeString(journalFilePath, journal);
+
+        assertThrows(DataLoadingException.class, () -> newStorage(10).readDataFile());
+    }
+
+    @Test
+    public void readDataFile_journalLeftByInterruptedCompaction_staleRecordsSkipped() throws Exception {
+        JournaledJobApplicationStorage storage = newStorage(10);
+        save(storage);
+        jobBook.addApplication(GOOGLE_APPLICATION);
+        jobBook.removeApplication(GOOGLE_APPLICATION);
+        jobBook.addApplication(MICROSOFT_APPLICATION);
+        save(storage);
+        String journal = Files.readString(journalFilePath);
+
+        // snapshot written but journal not yet deleted
+        storage.saveJobApplicationData(jobBook.getApplicationList());
+        Files.writeString(journalFilePath, journal);
+
+        assertEquals(List.of(MICROSOFT_APPLICATION), newStorage(10).readDataFile());
+    }
+
+}
@@ -1,10 +1,12 @@
 package seedu.job.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.job.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
@@ -16,6 +18,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.job.commons.core.DurabilityPolicy;
 import seedu.job.commons.exceptions.DataLoadingException;
 import seedu.job.model.jobapplication.JobApplication;
 
@@ -158,4 +161,18 @@ public class JsonJobApplicationStorageTest {
         }
     }
 
+    @Test
+    public void saveJobApplicationData_everyDurabilityPolicy_savedAtomically() throws Exception {
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            Path filePath = testFolder.resolve(policy + ".json");
+            JsonJobApplicationStorage storage = new JsonJobApplicationStorage(filePath, policy);
+
+            storage.saveJobApplicationData(getTypicalJobApplications());
+            storage.saveJobApplicationData(List.of(APPLE_APPLICATION));
+
+            assertEquals(List.of(APPLE_APPLICATION), storage.readDataFile());
+            assertFalse(Files.exists(testFolder.resolve(policy + ".json.tmp")));
+        }
+    }
+
 }
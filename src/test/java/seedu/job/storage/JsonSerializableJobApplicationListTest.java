@@ -36,6 +36,7 @@ public class JsonSerializableJobApplicationListTest {
                 JsonSerializableJobApplicationList.class).get();
 
         IllegalValueException exception = assertThrows(IllegalValueException.class, dataFromFile::toModelType);
-        assertEquals(JsonSerializableJobApplicationList.MESSAGE_DUPLICATE_APPLICATION, exception.getMessage());
+        assertEquals(String.format(JsonSerializableJobApplicationList.MESSAGE_DUPLICATE_ENTRY_FORMAT, 2, 1,
+                "Google", "Software Engineer"), exception.getMessage());
     }
 }
@@ -0,0 +1,105 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.commons.exceptions.IllegalValueException;
+import seedu.job.commons.util.JsonUtil;
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.tag.Tag;
+
+public class StreamingJobApplicationReaderTest {
+
+    private static final Path TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableJobApplicationListTest");
+    private static final Path VALID_APPLICATIONS = TEST_DATA_FOLDER.resolve("validApplications.json");
+    private static final Path DUPLICATE_APPLICATIONS = TEST_DATA_FOLDER.resolve("duplicateApplications.json");
+
+    private static List<JobApplication> read(String json) throws Exception {
+        return StreamingJobApplicationReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void read_validApplications_sameAsDataBinding() throws Exception {
+        List<JobApplication> expected = JsonUtil.readJsonFile(VALID_APPLICATIONS,
+                JsonSerializableJobApplicationList.class).get().toModelType();
+
+        try (InputStream in = Files.newInputStream(VALID_APPLICATIONS)) {
+            assertEquals(expected, StreamingJobApplicationReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicateApplications_throwsIllegalValueException() throws Exception {
+        String expectedMessage = String.format(StreamingJobApplicationReader.MESSAGE_DUPLICATE_ENTRY_FORMAT,
+                2, 7, 1, 2, "Google", "Software Engineer");
+        try (InputStream in = Files.newInputStream(DUPLICATE_APPLICATIONS)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () -> StreamingJobApplicationReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_sameCompanyAndRoleWithDifferentDeadline_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read("{\"jobApplications\": ["
+                + "{\"companyName\": \"Google\", \"role\": \"SWE\", \"deadline\": \"2024-12-31T23:59\","
+                + "\"status\": \"APPLIED\"},"
+                + "{\"companyName\": \"Google\", \"role\": \"SWE\", \"deadline\": \"2025-01-31T23:59\","
+                + "\"status\": \"REJECTED\"}]}"));
+    }
+
+    @Test
+    public void read_tagsAndUnknownFields_tagsReadUnknownFieldsSkipped() throws Exception {
+        List<JobApplication> applications = read("{\"version\": {\"major\": 1}, \"jobApplications\": [{"
+                + "\"companyName\": \"Google\", \"notes\": [\"a\", {\"b\": 1}], \"role\": \"SWE\","
+                + "\"deadline\": \"2024-12-31T23:59\", \"status\": \"APPLIED\", \"tags\": [\"remote\", \"urgent\"]"
+                + "}]}");
+
+        assertEquals(1, applications.size());
+        JobApplication application = applications.get(0);
+        assertEquals(new JobApplication("Google", "SWE", LocalDateTime.of(2024, 12, 31, 23, 59),
+                JobApplication.Status.APPLIED, Set.of()), application);
+        assertEquals(Set.of(new Tag("remote"), new Tag("urgent")), application.getTags());
+    }
+
+    @Test
+    public void read_missingApplications_emptyResult() throws Exception {
+        assertTrue(read("{}").isEmpty());
+    }
+
+    @Test
+    public void read_missingField_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read("{\"jobApplications\": [{\"companyName\": \"Google\","
+                + "\"deadline\": \"2024-12-31T23:59\", \"status\": \"APPLIED\"}]}"));
+    }
+
+    @Test
+    public void read_invalidDeadlineOrStatus_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read("{\"jobApplications\": [{\"companyName\": \"Google\","
+                + "\"role\": \"SWE\", \"deadline\": \"tomorrow\", \"status\": \"APPLIED\"}]}"));
+        assertThrows(IllegalValueException.class, () -> read("{\"jobApplications\": [{\"companyName\": \"Google\","
+                + "\"role\": \"SWE\", \"deadline\": \"2024-12-31T23:59\", \"status\": \"HIRED\"}]}"));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"jobApplications\": {}}"));
+        assertThrows(IOException.class, () -> read("not json format!"));
+        assertThrows(IOException.class, () -> read("{\"jobApplications\": [{\"companyName\": \"Google\""));
+    }
+
+}
@@ -0,0 +1,171 @@
+package seedu.job.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.job.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.job.model.jobapplication.JobApplication;
+import seedu.job.model.jobapplication.JobBookChange;
+import seedu.job.model.jobapplication.UniqueJobApplications;
+
+public class WriteBehindJobApplicationStorageTest {
+
+    private static final long LONG_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final JobApplication GOOGLE_APPLICATION = new JobApplication(
+            "Google", "Software Engineer", LocalDateTime.of(2024, 12, 31, 23, 59),
+            JobApplication.Status.APPLIED, new HashSet<>());
+
+    private static final JobApplication MICROSOFT_APPLICATION = new JobApplication(
+            "Microsoft", "Product Manager", LocalDateTime.of(2024, 11, 15, 17, 30),
+            JobApplication.Status.INPROGRESS, new HashSet<>());
+
+    private final RecordingStorage recordingStorage = new RecordingStorage();
+
+    @Test
+    public void saveJobApplicationChanges_burstOfChanges_coalescedIntoOneWrite() throws Exception {
+        WriteBehindJobApplicationStorage storage =
+                new WriteBehindJobApplicationStorage(recordingStorage, LONG_DELAY_MILLIS);
+        List<JobApplication> applications = new ArrayList<>();
+
+        applications.add(GOOGLE_APPLICATION);
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)), applications);
+        applications.add(MICROSOFT_APPLICATION);
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(MICROSOFT_APPLICATION)), applications);
+        assertEquals(0, recordingStorage.writeCount);
+
+        storage.flush();
+        assertEquals(1, recordingStorage.writeCount);
+        assertEquals(List.of(JobBookChange.add(GOOGLE_APPLICATION), JobBookChange.add(MICROSOFT_APPLICATION)),
+                recordingStorage.lastChanges);
+        assertEquals(List.of(GOOGLE_APPLICATION, MICROSOFT_APPLICATION), recordingStorage.lastApplications);
+    }
+
+    @Test
+    public void saveJobApplicationChanges_listModifiedAfterSave_writesSnapshot() throws Exception {
+        WriteBehindJobApplicationStorage storage =
+                new WriteBehindJobApplicationStorage(recordingStorage, LONG_DELAY_MILLIS);
+        List<JobApplication> applications = new ArrayList<>(List.of(GOOGLE_APPLICATION));
+
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)), applications);
+        applications.clear();
+
+        storage.flush();
+        assertEquals(List.of(GOOGLE_APPLICATION), recordingStorage.lastApplications);
+    }
+
+    @Test
+    public void saveJobApplicationChanges_afterDelay_writtenInBackground() throws Exception {
+        WriteBehindJobApplicationStorage storage = new WriteBehindJobApplicationStorage(recordingStorage, 0);
+
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)),
+                List.of(GOOGLE_APPLICATION));
+
+        assertTrue(recordingStorage.written.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(GOOGLE_APPLICATION), recordingStorage.lastApplications);
+    }
+
+    @Test
+    public void saveJobApplicationChanges_writeFails_reportedAndRetried() throws Exception {
+        WriteBehindJobApplicationStorage storage = new WriteBehindJobApplicationStorage(recordingStorage, 0);
+        CountDownLatch failureReported = new CountDownLatch(1);
+        storage.setFailureHandler(e -> failureReported.countDown());
+
+        recordingStorage.isFailing = true;
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)),
+                List.of(GOOGLE_APPLICATION));
+        assertTrue(failureReported.await(10, TimeUnit.SECONDS));
+
+        recordingStorage.isFailing = false;
+        storage.flush();
+        assertEquals(List.of(JobBookChange.add(GOOGLE_APPLICATION)), recordingStorage.lastChanges);
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() throws Exception {
+        WriteBehindJobApplicationStorage storage =
+                new WriteBehindJobApplicationStorage(recordingStorage, LONG_DELAY_MILLIS);
+        recordingStorage.isFailing = true;
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)),
+                List.of(GOOGLE_APPLICATION));
+
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void close_pendingChanges_written() throws Exception {
+        WriteBehindJobApplicationStorage storage =
+                new WriteBehindJobApplicationStorage(recordingStorage, LONG_DELAY_MILLIS);
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(GOOGLE_APPLICATION)),
+                List.of(GOOGLE_APPLICATION));
+
+        storage.close();
+        assertEquals(1, recordingStorage.writeCount);
+
+        // saves after closing are written immediately
+        storage.saveJobApplicationChanges(List.of(JobBookChange.add(MICROSOFT_APPLICATION)),
+                List.of(MICROSOFT_APPLICATION, GOOGLE_APPLICATION));
+        assertEquals(2, recordingStorage.writeCount);
+    }
+
+    /**
+     * A {@code JobApplicationStorage} that records the changes written to it.
+     */
+    private static class RecordingStorage implements JobApplicationStorage {
+        private final CountDownLatch written = new CountDownLatch(1);
+        private volatile int writeCount;
+        private volatile boolean isFailing;
+        private volatile List<JobBookChange> lastChanges;
+        private volatile List<JobApplication> lastApplications;
+
+        @Override
+        public Path getDataFilePath() {
+            return Paths.get("data.json");
+        }
+
+        @Override
+        public UniqueJobApplications readDataFile() {
+            return UniqueJobApplications.empty();
+        }
+
+        @Override
+        public UniqueJobApplications readDataFile(Path filePath) {
+            return UniqueJobApplications.empty();
+        }
+
+        @Override
+        public void saveJobApplicationData(List<JobApplication> jobApplications) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveJobApplicationData(List<JobApplication> jobApplications, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveJobApplicationChanges(List<JobBookChange> changes, List<JobApplication> jobApplications)
+                throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk is full");
+            }
+            writeCount++;
+            lastChanges = changes;
+            lastApplications = jobApplications;
+            written.countDown();
+        }
+    }
+
+}